@@ -0,0 +1,308 @@
+package com.selimhorri.app.filter;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.server.ServerWebExchange;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import lombok.Data;
+import reactor.core.publisher.Mono;
+
+/**
+ * Caches successful GET responses of the routes it is applied to, keyed on path, query and Accept, 
+ * in one in-memory store bounded by the bytes it holds. Only responses whose Cache-Control allows 
+ * shared caching, through public or s-maxage, are stored; an entry lives for the route's TTL, or less 
+ * when the upstream's s-maxage or max-age says so. Responses marked no-store, private or no-cache, 
+ * setting cookies, streamed or varying on other request headers are never stored. Requests carrying an 
+ * Authorization header or asking for no-cache or no-store go straight upstream.
+ * <p>
+ * Concurrent misses on one key are coalesced: the first request goes upstream and the others wait 
+ * for its response, going upstream themselves only when that response turns out not to be storable.
+ */
+@Component
+public class EdgeCacheGatewayFilterFactory extends AbstractGatewayFilterFactory<EdgeCacheGatewayFilterFactory.Config> {
+	
+	private static final Set<String> STORED_HEADERS = Set.of(HttpHeaders.CONTENT_TYPE, HttpHeaders.CONTENT_LANGUAGE, 
+			HttpHeaders.ETAG, HttpHeaders.LAST_MODIFIED, HttpHeaders.CACHE_CONTROL, HttpHeaders.VARY);
+	private static final Set<MediaType> STREAMING_TYPES = Set.of(MediaType.APPLICATION_NDJSON, MediaType.TEXT_EVENT_STREAM);
+	// the key already holds Accept, and the CORS headers are answered by the gateway itself
+	private static final Set<String> KEYED_VARY = Set.of("accept", "origin", 
+			"access-control-request-method", "access-control-request-headers");
+	
+	private final AsyncCache<String, CachedResponse> responses;
+	private final MeterRegistry meterRegistry;
+	
+	public EdgeCacheGatewayFilterFactory(
+			@Value("${app.edge-cache.max-size:64MB}") final DataSize maxSize, 
+			final MeterRegistry meterRegistry) {
+		super(Config.class);
+		this.meterRegistry = meterRegistry;
+		this.responses = Caffeine.newBuilder()
+				.maximumWeight(maxSize.toBytes())
+				.weigher((final String key, final CachedResponse response) -> response.getBody().length)
+				.expireAfter(new Expiry<String, CachedResponse>() {
+					@Override
+					public long expireAfterCreate(final String key, final CachedResponse response, final long currentTime) {
+						return response.getTtl().toNanos();
+					}
+					@Override
+					public long expireAfterUpdate(final String key, final CachedResponse response, final long currentTime, final long currentDuration) {
+						return response.getTtl().toNanos();
+					}
+					@Override
+					public long expireAfterRead(final String key, final CachedResponse response, final long currentTime, final long currentDuration) {
+						return currentDuration;
+					}
+				})
+				.buildAsync();
+		final Cache<String, CachedResponse> stored = this.responses.synchronous();
+		Gauge.builder("gateway.edge.cache.size", stored, Cache::estimatedSize)
+				.register(meterRegistry);
+		Gauge.builder("gateway.edge.cache.weighted.size", stored, cache -> cache.policy().eviction()
+						.map(eviction -> eviction.weightedSize().orElse(0L))
+						.orElse(0L))
+				.baseUnit(BaseUnits.BYTES)
+				.register(meterRegistry);
+	}
+	
+	@Override
+	public List<String> shortcutFieldOrder() {
+		return List.of("ttl");
+	}
+	
+	@Override
+	public GatewayFilter apply(final Config config) {
+		// ahead of the response writer, so the body it writes passes through the storing decorator
+		return new OrderedGatewayFilter((exchange, chain) -> Mono.defer(() -> this.filter(exchange, chain, config)), 
+				NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 1);
+	}
+	
+	private Mono<Void> filter(final ServerWebExchange exchange, final GatewayFilterChain chain, final Config config) {
+		if (!isCacheable(exchange.getRequest())) {
+			this.count(exchange, "bypass");
+			return chain.filter(exchange);
+		}
+		final CompletableFuture<CachedResponse> loading = new CompletableFuture<>();
+		final AtomicBoolean leader = new AtomicBoolean();
+		final CompletableFuture<CachedResponse> shared = this.responses.get(key(exchange.getRequest()), (key, executor) -> {
+			leader.set(true);
+			return loading;
+		});
+		if (leader.get())
+			return this.load(exchange, chain, config, loading);
+		final boolean inFlight = !shared.isDone();
+		// a copy, so a waiting request that is cancelled does not cancel the shared load
+		return Mono.fromFuture(shared.thenApply(Optional::ofNullable))
+				.flatMap(cached -> {
+					if (cached.isEmpty()) {
+						this.count(exchange, "miss");
+						return chain.filter(exchange);
+					}
+					this.count(exchange, inFlight ? "coalesced" : "hit");
+					return this.write(exchange, cached.get());
+				});
+	}
+	
+	private Mono<Void> load(final ServerWebExchange exchange, final GatewayFilterChain chain, 
+			final Config config, final CompletableFuture<CachedResponse> loading) {
+		this.count(exchange, "miss");
+		return chain.filter(exchange.mutate()
+					.response(new StoringResponse(exchange.getResponse(), config.getTtl(), loading))
+					.build())
+				.doFinally(signal -> loading.complete(null));
+	}
+	
+	private Mono<Void> write(final ServerWebExchange exchange, final CachedResponse cached) {
+		final ServerHttpResponse response = exchange.getResponse();
+		response.getHeaders().putAll(cached.getHeaders());
+		response.getHeaders().set(HttpHeaders.AGE, 
+				String.valueOf(Duration.between(cached.getStoredAt(), Instant.now()).toSeconds()));
+		final String etag = cached.getHeaders().getETag();
+		if (etag != null && exchange.checkNotModified(etag))
+			return response.setComplete();
+		response.setStatusCode(HttpStatus.OK);
+		response.getHeaders().setContentLength(cached.getBody().length);
+		Counter.builder("gateway.edge.cache.served")
+				.baseUnit(BaseUnits.BYTES)
+				.tag("route", routeId(exchange))
+				.register(this.meterRegistry)
+				.increment(cached.getBody().length);
+		return response.writeWith(Mono.just(response.bufferFactory().wrap(cached.getBody())));
+	}
+	
+	private void count(final ServerWebExchange exchange, final String result) {
+		this.meterRegistry.counter("gateway.edge.cache.requests", "route", routeId(exchange), "result", result)
+				.increment();
+	}
+	
+	private static String routeId(final ServerWebExchange exchange) {
+		final Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+		return (route == null) ? "none" : route.getId();
+	}
+	
+	private static String key(final ServerHttpRequest request) {
+		return String.format("%s?%s %s", request.getURI().getRawPath(), 
+				Objects.toString(request.getURI().getRawQuery(), ""), 
+				String.join(",", request.getHeaders().getOrEmpty(HttpHeaders.ACCEPT)));
+	}
+	
+	private static boolean isCacheable(final ServerHttpRequest request) {
+		return request.getMethod() == HttpMethod.GET 
+				&& !request.getHeaders().containsKey(HttpHeaders.AUTHORIZATION) 
+				&& directives(request.getHeaders().getCacheControl())
+					.noneMatch(directive -> directive.equals("no-cache") || directive.equals("no-store"));
+	}
+	
+	/**
+	 * How long a response may be served from the edge, zero when it must not be stored at all
+	 */
+	private static Duration freshness(final HttpStatus status, final HttpHeaders headers, final Duration ttl) {
+		if (status != HttpStatus.OK || headers.containsKey(HttpHeaders.SET_COOKIE) 
+				|| STREAMING_TYPES.stream().anyMatch(type -> type.isCompatibleWith(headers.getContentType())) 
+				|| headers.getVary().stream().anyMatch(vary -> !KEYED_VARY.contains(vary.toLowerCase(Locale.ROOT))))
+			return Duration.ZERO;
+		boolean shared = false;
+		Long maxAge = null;
+		Long sharedMaxAge = null;
+		for (final String directive : directives(headers.getCacheControl()).collect(Collectors.toList())) {
+			if (directive.equals("no-store") || directive.equals("private") || directive.equals("no-cache"))
+				return Duration.ZERO;
+			else if (directive.equals("public"))
+				shared = true;
+			else if (directive.startsWith("s-maxage="))
+				sharedMaxAge = seconds(directive);
+			else if (directive.startsWith("max-age="))
+				maxAge = seconds(directive);
+		}
+		if (!shared && sharedMaxAge == null)
+			return Duration.ZERO;
+		if (sharedMaxAge == null && maxAge == null)
+			return ttl;
+		final Duration upstream = Duration.ofSeconds((sharedMaxAge != null) ? sharedMaxAge : maxAge);
+		return (ttl.compareTo(upstream) < 0) ? ttl : upstream;
+	}
+	
+	private static Stream<String> directives(final String cacheControl) {
+		return (cacheControl == null) ? Stream.empty() : Arrays.stream(cacheControl.split(","))
+				.map(directive -> directive.trim().toLowerCase(Locale.ROOT))
+				.filter(directive -> !directive.isEmpty());
+	}
+	
+	private static long seconds(final String directive) {
+		try {
+			return Math.max(0, Long.parseLong(directive.substring(directive.indexOf('=') + 1).replace("\"", "")));
+		}
+		catch (NumberFormatException e) {
+			return 0;
+		}
+	}
+	
+	/**
+	 * Passes the upstream body through to the client, buffering it and handing it to the waiting load 
+	 * only when it is storable
+	 */
+	private static class StoringResponse extends ServerHttpResponseDecorator {
+		
+		private final Duration ttl;
+		private final CompletableFuture<CachedResponse> loading;
+		
+		StoringResponse(final ServerHttpResponse delegate, final Duration ttl, final CompletableFuture<CachedResponse> loading) {
+			super(delegate);
+			this.ttl = ttl;
+			this.loading = loading;
+		}
+		
+		@Override
+		public Mono<Void> writeWith(final Publisher<? extends DataBuffer> body) {
+			final Duration freshness = freshness(this.getStatusCode(), this.getHeaders(), this.ttl);
+			if (freshness.isZero()) {
+				this.loading.complete(null);
+				return super.writeWith(body);
+			}
+			final HttpHeaders headers = new HttpHeaders();
+			STORED_HEADERS.forEach(name -> {
+				if (this.getHeaders().containsKey(name))
+					headers.put(name, this.getHeaders().get(name));
+			});
+			return DataBufferUtils.join(body)
+					.map(joined -> {
+						final byte[] bytes = new byte[joined.readableByteCount()];
+						joined.read(bytes);
+						DataBufferUtils.release(joined);
+						return bytes;
+					})
+					.defaultIfEmpty(new byte[0])
+					.flatMap(bytes -> {
+						this.loading.complete(new CachedResponse(HttpHeaders.readOnlyHttpHeaders(headers), 
+								bytes, freshness, Instant.now()));
+						return super.writeWith(Mono.just(this.bufferFactory().wrap(bytes)));
+					});
+		}
+		
+	}
+	
+	@lombok.Value
+	private static class CachedResponse {
+		HttpHeaders headers;
+		byte[] body;
+		Duration ttl;
+		Instant storedAt;
+	}
+	
+	@Data
+	public static class Config {
+		private Duration ttl = Duration.ofSeconds(30);
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
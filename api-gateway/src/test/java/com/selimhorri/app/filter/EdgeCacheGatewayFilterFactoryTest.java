@@ -0,0 +1,197 @@
+package com.selimhorri.app.filter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.util.unit.DataSize;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+
+class EdgeCacheGatewayFilterFactoryTest {
+
+    private static final String BODY = "{\"collection\":[]}";
+
+    private MeterRegistry meterRegistry;
+    private GatewayFilter filter;
+    private AtomicInteger upstreamCalls;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        final EdgeCacheGatewayFilterFactory factory = new EdgeCacheGatewayFilterFactory(DataSize.ofMegabytes(1), meterRegistry);
+        final EdgeCacheGatewayFilterFactory.Config config = new EdgeCacheGatewayFilterFactory.Config();
+        config.setTtl(Duration.ofMinutes(1));
+        filter = factory.apply(config);
+        upstreamCalls = new AtomicInteger();
+    }
+
+    @Test
+    void testFilter_WithRepeatedGet_ShouldServeSecondFromCache() {
+        // Arrange
+        final GatewayFilterChain upstream = upstream(shared(), Duration.ZERO);
+
+        // Act
+        final MockServerWebExchange first = get("/product-service/api/products?page=0");
+        filter.filter(first, upstream).block();
+        final MockServerWebExchange second = get("/product-service/api/products?page=0");
+        filter.filter(second, upstream).block();
+
+        // Assert
+        assertEquals(1, upstreamCalls.get());
+        assertEquals(HttpStatus.OK, second.getResponse().getStatusCode());
+        assertEquals(BODY, second.getResponse().getBodyAsString().block());
+        assertEquals("\"v1\"", second.getResponse().getHeaders().getETag());
+        assertEquals(1.0, count("hit"));
+        assertEquals(BODY.length(), meterRegistry.get("gateway.edge.cache.served").counter().count());
+    }
+
+    @Test
+    void testFilter_WithConcurrentMisses_ShouldCallUpstreamOnce() {
+        // Arrange
+        final GatewayFilterChain upstream = upstream(shared(), Duration.ofMillis(100));
+        final MockServerWebExchange first = get("/product-service/api/categories");
+        final MockServerWebExchange second = get("/product-service/api/categories");
+
+        // Act
+        Mono.when(filter.filter(first, upstream), filter.filter(second, upstream)).block();
+
+        // Assert
+        assertEquals(1, upstreamCalls.get());
+        assertEquals(BODY, first.getResponse().getBodyAsString().block());
+        assertEquals(BODY, second.getResponse().getBodyAsString().block());
+        assertEquals(1.0, count("coalesced"));
+    }
+
+    @Test
+    void testFilter_WithNoStoreResponse_ShouldNotCache() {
+        // Arrange
+        final GatewayFilterChain upstream = upstream(CacheControl.noStore(), Duration.ZERO);
+
+        // Act
+        filter.filter(get("/product-service/api/products/1"), upstream).block();
+        filter.filter(get("/product-service/api/products/1"), upstream).block();
+
+        // Assert
+        assertEquals(2, upstreamCalls.get());
+        assertEquals(2.0, count("miss"));
+    }
+
+    @Test
+    void testFilter_WithoutCacheControl_ShouldNotCache() {
+        // Arrange
+        final GatewayFilterChain upstream = upstream(CacheControl.empty(), Duration.ZERO);
+
+        // Act
+        filter.filter(get("/product-service/api/products/search?q=asus"), upstream).block();
+        filter.filter(get("/product-service/api/products/search?q=asus"), upstream).block();
+
+        // Assert
+        assertEquals(2, upstreamCalls.get());
+        assertEquals(2.0, count("miss"));
+    }
+
+    @Test
+    void testFilter_WithPublicResponse_ShouldCacheForRouteTtl() {
+        // Arrange
+        final GatewayFilterChain upstream = upstream(CacheControl.empty().cachePublic(), Duration.ZERO);
+
+        // Act
+        filter.filter(get("/product-service/api/categories"), upstream).block();
+        filter.filter(get("/product-service/api/categories"), upstream).block();
+
+        // Assert
+        assertEquals(1, upstreamCalls.get());
+        assertEquals(1.0, count("hit"));
+    }
+
+    @Test
+    void testFilter_WithDifferentAccept_ShouldKeySeparately() {
+        // Arrange
+        final GatewayFilterChain upstream = upstream(shared(), Duration.ZERO);
+
+        // Act
+        filter.filter(get("/product-service/api/products"), upstream).block();
+        filter.filter(MockServerWebExchange.from(MockServerHttpRequest.get("/product-service/api/products")
+                .accept(MediaType.APPLICATION_XML)), upstream).block();
+
+        // Assert
+        assertEquals(2, upstreamCalls.get());
+    }
+
+    @Test
+    void testFilter_WithMatchingIfNoneMatch_ShouldAnswerNotModifiedFromCache() {
+        // Arrange
+        final GatewayFilterChain upstream = upstream(shared(), Duration.ZERO);
+        filter.filter(get("/product-service/api/products"), upstream).block();
+        final MockServerWebExchange conditional = MockServerWebExchange.from(MockServerHttpRequest.get("/product-service/api/products")
+                .accept(MediaType.APPLICATION_JSON)
+                .ifNoneMatch("\"v1\""));
+
+        // Act
+        filter.filter(conditional, upstream).block();
+
+        // Assert
+        assertEquals(1, upstreamCalls.get());
+        assertEquals(HttpStatus.NOT_MODIFIED, conditional.getResponse().getStatusCode());
+    }
+
+    @Test
+    void testFilter_WithAuthorization_ShouldBypassCache() {
+        // Arrange
+        final GatewayFilterChain upstream = upstream(shared(), Duration.ZERO);
+
+        // Act
+        for (int i = 0; i < 2; i++)
+            filter.filter(MockServerWebExchange.from(MockServerHttpRequest.get("/product-service/api/products")
+                    .header(HttpHeaders.AUTHORIZATION, "Bearer token")), upstream).block();
+
+        // Assert
+        assertEquals(2, upstreamCalls.get());
+        assertEquals(2.0, count("bypass"));
+    }
+
+    private GatewayFilterChain upstream(final CacheControl cacheControl, final Duration latency) {
+        return exchange -> Mono.delay(latency).then(Mono.defer(() -> {
+            upstreamCalls.incrementAndGet();
+            final ServerHttpResponse response = exchange.getResponse();
+            response.setStatusCode(HttpStatus.OK);
+            response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+            response.getHeaders().setETag("\"v1\"");
+            if (cacheControl.getHeaderValue() != null)
+                response.getHeaders().setCacheControl(cacheControl);
+            return response.writeWith(Mono.just(response.bufferFactory().wrap(BODY.getBytes(StandardCharsets.UTF_8))));
+        }));
+    }
+
+    private static CacheControl shared() {
+        return CacheControl.maxAge(Duration.ZERO).sMaxAge(Duration.ofSeconds(30));
+    }
+
+    private static MockServerWebExchange get(final String uri) {
+        return MockServerWebExchange.from(MockServerHttpRequest.get(uri)
+                .accept(MediaType.APPLICATION_JSON));
+    }
+
+    private double count(final String result) {
+        return meterRegistry.get("gateway.edge.cache.requests")
+                .tag("result", result)
+                .counter()
+                .count();
+    }
+}
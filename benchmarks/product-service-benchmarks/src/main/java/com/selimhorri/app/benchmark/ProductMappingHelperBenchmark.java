@@ -0,0 +1,85 @@
+package com.selimhorri.app.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.selimhorri.app.domain.Category;
+import com.selimhorri.app.domain.Product;
+import com.selimhorri.app.dto.ProductDto;
+import com.selimhorri.app.helper.ProductMappingHelper;
+
+/**
+ * The {@code *Baseline} methods run the former builder-based helper for comparison.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProductMappingHelperBenchmark {
+	
+	private Product product;
+	private ProductDto productDto;
+	
+	@Setup
+	public void setUp() {
+		this.product = Product.builder()
+				.productId(1)
+				.productTitle("asus zenbook 14")
+				.imageUrl("https://cdn.example.com/products/1.png")
+				.sku("dfqejklejrkn")
+				.priceUnit(1299.99)
+				.quantity(50)
+				.category(Category.builder()
+						.categoryId(1)
+						.categoryTitle("Computer")
+						.imageUrl("https://cdn.example.com/categories/1.png")
+						.build())
+				.build();
+		this.productDto = ProductMappingHelper.map(this.product);
+	}
+	
+	@Benchmark
+	public ProductDto mapProduct() {
+		return ProductMappingHelper.map(this.product);
+	}
+	
+	@Benchmark
+	public ProductDto mapProductBaseline() {
+		return ProductMappingBaseline.map(this.product);
+	}
+	
+	@Benchmark
+	public Product mapProductDto() {
+		return ProductMappingHelper.map(this.productDto);
+	}
+	
+	@Benchmark
+	public Product mapProductDtoBaseline() {
+		return ProductMappingBaseline.map(this.productDto);
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,96 @@
+package com.selimhorri.app.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.security.core.userdetails.UserDetails;
+
+import com.selimhorri.app.business.user.model.CredentialDto;
+import com.selimhorri.app.business.user.model.RoleBasedAuthority;
+import com.selimhorri.app.business.user.model.UserDetailsImpl;
+import com.selimhorri.app.jwt.util.impl.JwtUtilImpl;
+
+import io.jsonwebtoken.Claims;
+
+/**
+ * Token issue and verification, the latter both for a token already in the verified claims 
+ * cache and for tokens that never hit it, which is what a cold instance or a wide user base sees.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtUtilBenchmark {
+	
+	// ten times the verified claims cache, so cycling through them keeps missing it
+	private static final int DISTINCT_TOKENS = 100_000;
+	
+	private JwtUtilImpl jwtUtil;
+	private UserDetails userDetails;
+	private String hotToken;
+	private String[] coldTokens;
+	private int next;
+	
+	@Setup
+	public void setUp() {
+		this.jwtUtil = new JwtUtilImpl();
+		this.userDetails = userDetails(1);
+		this.hotToken = this.jwtUtil.generateToken(this.userDetails);
+		this.coldTokens = new String[DISTINCT_TOKENS];
+		for (int i = 0; i < DISTINCT_TOKENS; i++)
+			this.coldTokens[i] = this.jwtUtil.generateToken(userDetails(i));
+	}
+	
+	@Benchmark
+	public String generateToken() {
+		return this.jwtUtil.generateToken(this.userDetails);
+	}
+	
+	@Benchmark
+	public Claims extractAllClaimsCached() {
+		return this.jwtUtil.extractAllClaims(this.hotToken);
+	}
+	
+	@Benchmark
+	public Claims extractAllClaimsUncached() {
+		this.next = (this.next + 1) % DISTINCT_TOKENS;
+		return this.jwtUtil.extractAllClaims(this.coldTokens[this.next]);
+	}
+	
+	private static UserDetails userDetails(final int credentialId) {
+		return new UserDetailsImpl(CredentialDto.builder()
+				.credentialId(credentialId)
+				.username("user" + credentialId)
+				.roleBasedAuthority(RoleBasedAuthority.ROLE_USER)
+				.isEnabled(true)
+				.isAccountNonExpired(true)
+				.isAccountNonLocked(true)
+				.isCredentialsNonExpired(true)
+				.build());
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
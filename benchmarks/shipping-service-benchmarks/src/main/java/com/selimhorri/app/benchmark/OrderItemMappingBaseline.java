@@ -0,0 +1,50 @@
+package com.selimhorri.app.benchmark;
+
+import com.selimhorri.app.domain.OrderItem;
+import com.selimhorri.app.dto.OrderDto;
+import com.selimhorri.app.dto.OrderItemDto;
+import com.selimhorri.app.dto.ProductDto;
+
+/**
+ * The builder-based {@link com.selimhorri.app.helper.OrderItemMappingHelper} as it was before the mappers were generated, 
+ * kept as the baseline they are measured against
+ */
+interface OrderItemMappingBaseline {
+	
+	public static OrderItemDto map(final OrderItem orderItem) {
+		return OrderItemDto.builder()
+				.productId(orderItem.getProductId())
+				.orderId(orderItem.getOrderId())
+				.orderedQuantity(orderItem.getOrderedQuantity())
+				.productDto(
+						ProductDto.builder()
+							.productId(orderItem.getProductId())
+							.build())
+				.orderDto(
+						OrderDto.builder()
+							.orderId(orderItem.getOrderId())
+							.build())
+				.build();
+	}
+	
+	public static OrderItem map(final OrderItemDto orderItemDto) {
+		return OrderItem.builder()
+				.productId(orderItemDto.getProductId())
+				.orderId(orderItemDto.getOrderId())
+				.orderedQuantity(orderItemDto.getOrderedQuantity())
+				.build();
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,76 @@
+package com.selimhorri.app.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.selimhorri.app.domain.OrderItem;
+import com.selimhorri.app.dto.OrderItemDto;
+import com.selimhorri.app.helper.OrderItemMappingHelper;
+
+/**
+ * The {@code *Baseline} methods run the former builder-based helper for comparison.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderItemMappingHelperBenchmark {
+	
+	private OrderItem orderItem;
+	private OrderItemDto orderItemDto;
+	
+	@Setup
+	public void setUp() {
+		this.orderItem = OrderItem.builder()
+				.productId(1)
+				.orderId(1)
+				.orderedQuantity(3)
+				.build();
+		this.orderItemDto = OrderItemMappingHelper.map(this.orderItem);
+	}
+	
+	@Benchmark
+	public OrderItemDto mapOrderItem() {
+		return OrderItemMappingHelper.map(this.orderItem);
+	}
+	
+	@Benchmark
+	public OrderItemDto mapOrderItemBaseline() {
+		return OrderItemMappingBaseline.map(this.orderItem);
+	}
+	
+	@Benchmark
+	public OrderItem mapOrderItemDto() {
+		return OrderItemMappingHelper.map(this.orderItemDto);
+	}
+	
+	@Benchmark
+	public OrderItem mapOrderItemDtoBaseline() {
+		return OrderItemMappingBaseline.map(this.orderItemDto);
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,89 @@
+package com.selimhorri.app.benchmark;
+
+import java.util.Set;
+
+import com.selimhorri.app.domain.Address;
+import com.selimhorri.app.domain.Credential;
+import com.selimhorri.app.domain.RoleBasedAuthority;
+import com.selimhorri.app.domain.User;
+import com.selimhorri.app.domain.projection.UserSummary;
+
+interface BenchmarkFixtures {
+	
+	public static User user(final int userId) {
+		return User.builder()
+				.userId(userId)
+				.firstName("first" + userId)
+				.lastName("last" + userId)
+				.imageUrl("https://cdn.example.com/avatars/" + userId + ".png")
+				.email("user" + userId + "@example.com")
+				.phone("+2162212" + userId)
+				.addresses(Set.of(
+						Address.builder()
+							.addressId(2 * userId)
+							.fullAddress("carthage byrsa")
+							.postalCode("2016")
+							.city("carthage")
+							.build(),
+						Address.builder()
+							.addressId(2 * userId + 1)
+							.fullAddress("kram")
+							.postalCode("2015")
+							.city("kram")
+							.build()))
+				.credential(Credential.builder()
+						.credentialId(userId)
+						.username("user" + userId)
+						.password("$2a$04$iK6I5wuSzUvhHaMz3M3bEO0BJI.2D5UwMSkdd23CF6J0Ep6gvl1Pe")
+						.roleBasedAuthority(RoleBasedAuthority.ROLE_USER)
+						.isEnabled(true)
+						.isAccountNonExpired(true)
+						.isAccountNonLocked(true)
+						.isCredentialsNonExpired(true)
+						.build())
+				.build();
+	}
+	
+	public static UserSummary userSummary(final int userId) {
+		final User user = user(userId);
+		return new UserSummary() {
+			@Override
+			public Integer getUserId() {
+				return user.getUserId();
+			}
+			@Override
+			public String getFirstName() {
+				return user.getFirstName();
+			}
+			@Override
+			public String getLastName() {
+				return user.getLastName();
+			}
+			@Override
+			public String getImageUrl() {
+				return user.getImageUrl();
+			}
+			@Override
+			public String getEmail() {
+				return user.getEmail();
+			}
+			@Override
+			public String getPhone() {
+				return user.getPhone();
+			}
+		};
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
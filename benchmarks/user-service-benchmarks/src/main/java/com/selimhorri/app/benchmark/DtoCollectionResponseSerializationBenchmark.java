@@ -0,0 +1,82 @@
+package com.selimhorri.app.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.selimhorri.app.config.mapper.MapperConfig;
+import com.selimhorri.app.dto.UserDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
+import com.selimhorri.app.helper.UserMappingHelper;
+
+/**
+ * A list response body as the service writes it, with the ObjectMapper bean of {@link MapperConfig}, 
+ * next to the same document without indentation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DtoCollectionResponseSerializationBenchmark {
+	
+	@Param({"1000", "10000"})
+	private int size;
+	
+	private DtoCollectionResponse<UserDto> response;
+	private ObjectWriter indentedWriter;
+	private ObjectWriter compactWriter;
+	
+	@Setup
+	public void setUp() {
+		final List<UserDto> userDtos = IntStream.range(0, this.size)
+				.mapToObj(BenchmarkFixtures::user)
+				.map(UserMappingHelper::map)
+				.collect(Collectors.toUnmodifiableList());
+		this.response = new DtoCollectionResponse<>(userDtos);
+		final var objectMapper = new MapperConfig().objectMapperBean();
+		this.indentedWriter = objectMapper.writer();
+		this.compactWriter = objectMapper.writer()
+				.without(SerializationFeature.INDENT_OUTPUT);
+	}
+	
+	@Benchmark
+	public byte[] serializeIndented() throws JsonProcessingException {
+		return this.indentedWriter.writeValueAsBytes(this.response);
+	}
+	
+	@Benchmark
+	public byte[] serializeCompact() throws JsonProcessingException {
+		return this.compactWriter.writeValueAsBytes(this.response);
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
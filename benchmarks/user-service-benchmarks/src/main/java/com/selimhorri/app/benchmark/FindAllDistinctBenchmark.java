@@ -0,0 +1,77 @@
+package com.selimhorri.app.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.selimhorri.app.domain.User;
+import com.selimhorri.app.dto.UserDto;
+import com.selimhorri.app.helper.StreamHelper;
+import com.selimhorri.app.helper.UserMappingHelper;
+
+/**
+ * De-duplication of a findAll result: {@code distinct()} over the mapped DTOs, which hashes and compares 
+ * every nested address and credential, against a primary key filter applied before mapping.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FindAllDistinctBenchmark {
+	
+	@Param({"1000", "10000"})
+	private int size;
+	
+	private List<User> users;
+	
+	@Setup
+	public void setUp() {
+		this.users = IntStream.range(0, this.size)
+				.mapToObj(BenchmarkFixtures::user)
+				.collect(Collectors.toUnmodifiableList());
+	}
+	
+	@Benchmark
+	public List<UserDto> mapThenDistinct() {
+		return this.users.stream()
+				.map(UserMappingHelper::map)
+				.distinct()
+				.collect(Collectors.toUnmodifiableList());
+	}
+	
+	@Benchmark
+	public List<UserDto> distinctByKeyThenMap() {
+		return this.users.stream()
+				.filter(StreamHelper.distinctBy(User::getUserId))
+				.map(UserMappingHelper::map)
+				.collect(Collectors.toUnmodifiableList());
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
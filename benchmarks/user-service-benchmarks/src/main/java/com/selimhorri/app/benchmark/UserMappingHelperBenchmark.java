@@ -0,0 +1,99 @@
+package com.selimhorri.app.benchmark;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.selimhorri.app.domain.User;
+import com.selimhorri.app.domain.projection.UserSummary;
+import com.selimhorri.app.dto.UserDto;
+import com.selimhorri.app.helper.UserMappingHelper;
+
+/**
+ * Entity to DTO mapping done once per user on every read, and back on every write. 
+ * The {@code *Baseline} methods run the former builder-based helper for comparison.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserMappingHelperBenchmark {
+	
+	private User user;
+	private UserSummary userSummary;
+	private UserDto userDto;
+	private Set<String> expand;
+	
+	@Setup
+	public void setUp() {
+		this.user = BenchmarkFixtures.user(1);
+		this.userSummary = BenchmarkFixtures.userSummary(1);
+		this.userDto = UserMappingHelper.map(this.user);
+		this.expand = Set.of(UserMappingHelper.EXPAND_ADDRESSES, UserMappingHelper.EXPAND_CREDENTIAL);
+	}
+	
+	@Benchmark
+	public UserDto mapUser() {
+		return UserMappingHelper.map(this.user);
+	}
+	
+	@Benchmark
+	public UserDto mapUserBaseline() {
+		return UserMappingBaseline.map(this.user);
+	}
+	
+	@Benchmark
+	public UserDto mapUserExpanded() {
+		return UserMappingHelper.map(this.user, this.expand);
+	}
+	
+	@Benchmark
+	public UserDto mapUserExpandedBaseline() {
+		return UserMappingBaseline.map(this.user, this.expand);
+	}
+	
+	@Benchmark
+	public UserDto mapUserSummary() {
+		return UserMappingHelper.map(this.userSummary);
+	}
+	
+	@Benchmark
+	public UserDto mapUserSummaryBaseline() {
+		return UserMappingBaseline.map(this.userSummary);
+	}
+	
+	@Benchmark
+	public User mapUserDto() {
+		return UserMappingHelper.map(this.userDto);
+	}
+	
+	@Benchmark
+	public User mapUserDtoBaseline() {
+		return UserMappingBaseline.map(this.userDto);
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,46 @@
+package com.selimhorri.app.domain;
+
+import java.io.Serializable;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Number of favourites of a product, kept in step with the favourites table by the 
+ * transaction that adds or removes a favourite
+ */
+@Entity
+@Table(name = "favourite_counts")
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+public final class FavouriteCount implements Serializable {
+	
+	private static final long serialVersionUID = 1L;
+	
+	@Id
+	@Column(name = "product_id", unique = true, nullable = false, updatable = false)
+	private Integer productId;
+	
+	@Column(name = "favourite_count", nullable = false)
+	private Long favouriteCount;
+	
+}
+
+
+
+
+
+
+
+
+
+
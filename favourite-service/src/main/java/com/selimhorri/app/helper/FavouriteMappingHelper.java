@@ -2,33 +2,16 @@ package com.selimhorri.app.helper;
 
 import com.selimhorri.app.domain.Favourite;
 import com.selimhorri.app.dto.FavouriteDto;
-import com.selimhorri.app.dto.ProductDto;
-import com.selimhorri.app.dto.UserDto;
+import com.selimhorri.app.helper.mapper.FavouriteMapper;
 
 public interface FavouriteMappingHelper {
 	
 	public static FavouriteDto map(final Favourite favourite) {
-		return FavouriteDto.builder()
-				.userId(favourite.getUserId())
-				.productId(favourite.getProductId())
-				.likeDate(favourite.getLikeDate())
-				.userDto(
-						UserDto.builder()
-							.userId(favourite.getUserId())
-							.build())
-				.productDto(
-						ProductDto.builder()
-						.productId(favourite.getProductId())
-						.build())
-				.build();
+		return FavouriteMapper.INSTANCE.map(favourite);
 	}
 	
 	public static Favourite map(final FavouriteDto favouriteDto) {
-		return Favourite.builder()
-				.userId(favouriteDto.getUserId())
-				.productId(favouriteDto.getProductId())
-				.likeDate(favouriteDto.getLikeDate())
-				.build();
+		return FavouriteMapper.INSTANCE.map(favouriteDto);
 	}
 	
 	
@@ -0,0 +1,33 @@
+package com.selimhorri.app.helper.mapper;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.factory.Mappers;
+
+import com.selimhorri.app.domain.Favourite;
+import com.selimhorri.app.dto.FavouriteDto;
+
+@Mapper(config = MappingConfig.class)
+public interface FavouriteMapper {
+	
+	FavouriteMapper INSTANCE = Mappers.getMapper(FavouriteMapper.class);
+	
+	@Mapping(target = "userDto.userId", source = "userId")
+	@Mapping(target = "productDto.productId", source = "productId")
+	FavouriteDto map(final Favourite favourite);
+	
+	Favourite map(final FavouriteDto favouriteDto);
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
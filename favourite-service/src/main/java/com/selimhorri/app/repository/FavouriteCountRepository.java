@@ -0,0 +1,26 @@
+package com.selimhorri.app.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.selimhorri.app.domain.FavouriteCount;
+
+public interface FavouriteCountRepository extends JpaRepository<FavouriteCount, Integer> {
+	
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("UPDATE FavouriteCount c SET c.favouriteCount = c.favouriteCount + 1 WHERE c.productId = :productId")
+	int incrementCount(@Param("productId") final Integer productId);
+	
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("UPDATE FavouriteCount c SET c.favouriteCount = c.favouriteCount - 1 WHERE c.productId = :productId AND c.favouriteCount > 0")
+	int decrementCount(@Param("productId") final Integer productId);
+	
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query(value = "INSERT INTO favourite_counts (product_id, favourite_count) SELECT :productId, 0 FROM DUAL "
+			+ "WHERE NOT EXISTS (SELECT 1 FROM favourite_counts WHERE product_id = :productId)", nativeQuery = true)
+	int insertCountIfAbsent(@Param("productId") final Integer productId);
+	
+	
+}
@@ -1,12 +1,47 @@
 package com.selimhorri.app.repository;
 
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
+
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+import javax.persistence.QueryHint;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import com.selimhorri.app.domain.Favourite;
 import com.selimhorri.app.domain.id.FavouriteId;
+import com.selimhorri.app.helper.StreamHelper;
 
 public interface FavouriteRepository extends JpaRepository<Favourite, FavouriteId> {
 	
+	Slice<Favourite> findAllBy(final Pageable pageable);
+	Slice<Favourite> findAllByUserId(final Integer userId, final Pageable pageable);
+	long countByProductId(final Integer productId);
+	
+	@Query("SELECT f FROM Favourite f WHERE f.userId > :userId "
+			+ "OR (f.userId = :userId AND f.productId > :productId) "
+			+ "OR (f.userId = :userId AND f.productId = :productId AND f.likeDate > :likeDate)")
+	Slice<Favourite> findAllAfter(@Param("userId") final Integer userId, @Param("productId") final Integer productId, 
+			@Param("likeDate") final LocalDateTime likeDate, final Pageable pageable);
+	
+	@Query("SELECT f FROM Favourite f WHERE f.userId = :userId "
+			+ "AND (f.productId > :productId OR (f.productId = :productId AND f.likeDate > :likeDate))")
+	Slice<Favourite> findAllByUserIdAfter(@Param("userId") final Integer userId, @Param("productId") final Integer productId, 
+			@Param("likeDate") final LocalDateTime likeDate, final Pageable pageable);
+	
+	@QueryHints(value = {
+		@QueryHint(name = HINT_FETCH_SIZE, value = StreamHelper.FETCH_SIZE),
+		@QueryHint(name = HINT_READONLY, value = "true")
+	})
+	@Query("SELECT f FROM Favourite f ORDER BY f.userId, f.productId, f.likeDate")
+	Stream<Favourite> streamAll();
 	
 	
 }
@@ -2,10 +2,13 @@ package com.selimhorri.app.resource;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.Set;
 
 import javax.validation.Valid;
 import javax.validation.constraints.NotNull;
 
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -14,12 +17,16 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.selimhorri.app.constant.AppConstant;
 import com.selimhorri.app.domain.id.FavouriteId;
 import com.selimhorri.app.dto.FavouriteDto;
 import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
+import com.selimhorri.app.helper.StreamHelper;
 import com.selimhorri.app.service.FavouriteService;
 
 import lombok.RequiredArgsConstructor;
@@ -32,11 +39,48 @@ import lombok.extern.slf4j.Slf4j;
 public class FavouriteResource {
 	
 	private final FavouriteService favouriteService;
+	private final ObjectMapper objectMapper;
 	
 	@GetMapping
-	public ResponseEntity<DtoCollectionResponse<FavouriteDto>> findAll() {
+	public ResponseEntity<DtoCollectionResponse<FavouriteDto>> findAll(
+			@RequestParam(name = "page", required = false) final Integer page, 
+			@RequestParam(name = "size", required = false) final Integer size, 
+			@RequestParam(name = "cursor", required = false) final String cursor) {
 		log.info("*** FavouriteDto List, controller; fetch all favourites *");
-		return ResponseEntity.ok(new DtoCollectionResponse<>(this.favouriteService.findAll()));
+		if (page == null && size == null && cursor == null)
+			return ResponseEntity.ok(new DtoCollectionResponse<>(this.favouriteService.findAll()));
+		return ResponseEntity.ok(this.favouriteService.findAll(page, size, cursor));
+	}
+	
+	@GetMapping("/user/{userId}")
+	public ResponseEntity<DtoCollectionResponse<FavouriteDto>> findAllByUserId(
+			@PathVariable("userId") final String userId, 
+			@RequestParam(name = "page", required = false) final Integer page, 
+			@RequestParam(name = "size", required = false) final Integer size, 
+			@RequestParam(name = "cursor", required = false) final String cursor) {
+		log.info("*** FavouriteDto List, resource; fetch favourites of user *");
+		return ResponseEntity.ok(this.favouriteService.findAllByUserId(Integer.parseInt(userId), page, size, cursor));
+	}
+	
+	@GetMapping("/product/{productId}/count")
+	public ResponseEntity<Long> countByProductId(@PathVariable("productId") final String productId) {
+		log.info("*** Long, resource; count favourites of product *");
+		return ResponseEntity.ok(this.favouriteService.countByProductId(Integer.parseInt(productId)));
+	}
+	
+	@GetMapping("/counts")
+	public ResponseEntity<Map<Integer, Long>> countByProductIds(
+			@RequestParam(name = "productIds") final Set<Integer> productIds) {
+		log.info("*** Long Map, resource; count favourites of products *");
+		return ResponseEntity.ok(this.favouriteService.countByProductIds(productIds));
+	}
+	
+	@GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+	public ResponseEntity<StreamingResponseBody> streamAll() {
+		log.info("*** FavouriteDto Stream, controller; stream all favourites *");
+		return ResponseEntity.ok()
+				.contentType(MediaType.APPLICATION_NDJSON)
+				.body(StreamHelper.ndjson(this.objectMapper, this.favouriteService::streamAll));
 	}
 	
 	@GetMapping("/{userId}/{productId}/{likeDate}")
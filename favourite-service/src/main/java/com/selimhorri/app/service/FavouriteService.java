@@ -1,16 +1,25 @@
 package com.selimhorri.app.service;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 
 import com.selimhorri.app.domain.id.FavouriteId;
 import com.selimhorri.app.dto.FavouriteDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 
 public interface FavouriteService {
 	
 	List<FavouriteDto> findAll();
+	DtoCollectionResponse<FavouriteDto> findAll(final Integer page, final Integer size, final String cursor);
+	DtoCollectionResponse<FavouriteDto> findAllByUserId(final Integer userId, final Integer page, final Integer size, final String cursor);
+	long countByProductId(final Integer productId);
+	Map<Integer, Long> countByProductIds(final Set<Integer> productIds);
 	FavouriteDto findById(final FavouriteId favouriteId);
 	FavouriteDto save(final FavouriteDto favouriteDto);
 	FavouriteDto update(final FavouriteDto favouriteDto);
 	void deleteById(final FavouriteId favouriteId);
+	void streamAll(final Consumer<FavouriteDto> consumer);
 	
 }
@@ -1,20 +1,39 @@
 package com.selimhorri.app.service.impl;
 
+import java.time.LocalDateTime;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import javax.persistence.EntityManager;
 import javax.transaction.Transactional;
 
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
 import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.domain.Favourite;
+import com.selimhorri.app.domain.FavouriteCount;
 import com.selimhorri.app.domain.id.FavouriteId;
 import com.selimhorri.app.dto.FavouriteDto;
 import com.selimhorri.app.dto.ProductDto;
 import com.selimhorri.app.dto.UserDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 import com.selimhorri.app.exception.wrapper.FavouriteNotFoundException;
 import com.selimhorri.app.helper.FavouriteMappingHelper;
+import com.selimhorri.app.helper.PageHelper;
+import com.selimhorri.app.helper.StreamHelper;
+import com.selimhorri.app.repository.FavouriteCountRepository;
 import com.selimhorri.app.repository.FavouriteRepository;
 import com.selimhorri.app.service.FavouriteService;
 
@@ -28,25 +47,109 @@ import lombok.extern.slf4j.Slf4j;
 public class FavouriteServiceImpl implements FavouriteService {
 	
 	private final FavouriteRepository favouriteRepository;
+	private final FavouriteCountRepository favouriteCountRepository;
+	private final EntityManager entityManager;
 	private final RestTemplate restTemplate;
 	
 	@Override
 	public List<FavouriteDto> findAll() {
 		log.info("*** FavouriteDto List, service; fetch all favourites *");
-		return this.favouriteRepository.findAll()
+		return this.enrich(this.favouriteRepository.findAll()
 				.stream()
+					.filter(StreamHelper.distinctBy(favourite -> new FavouriteId(favourite.getUserId(), favourite.getProductId(), favourite.getLikeDate())))
 					.map(FavouriteMappingHelper::map)
-					.map(f -> {
-						f.setUserDto(this.restTemplate
-								.getForObject(AppConstant.DiscoveredDomainsApi
-										.USER_SERVICE_API_URL + "/" + f.getUserId(), UserDto.class));
-						f.setProductDto(this.restTemplate
-								.getForObject(AppConstant.DiscoveredDomainsApi
-										.PRODUCT_SERVICE_API_URL + "/" + f.getProductId(), ProductDto.class));
-						return f;
-					})
-					.distinct()
-					.collect(Collectors.toUnmodifiableList());
+					.collect(Collectors.toUnmodifiableList()));
+	}
+	
+	@Override
+	public DtoCollectionResponse<FavouriteDto> findAll(final Integer page, final Integer size, final String cursor) {
+		log.info("*** FavouriteDto Page, service; fetch favourites page *");
+		final Sort sort = Sort.by("userId", "productId", "likeDate");
+		final Slice<Favourite> favourites;
+		if (cursor == null)
+			favourites = this.favouriteRepository.findAllBy(PageHelper.pageable(page, size, sort));
+		else {
+			final FavouriteId lastId = PageHelper.decodeCursor(cursor, keys -> new FavouriteId(
+					Integer.parseInt(keys[0]), Integer.parseInt(keys[1]), LocalDateTime.parse(keys[2])));
+			favourites = this.favouriteRepository.findAllAfter(lastId.getUserId(), lastId.getProductId(), 
+					lastId.getLikeDate(), PageHelper.pageable(0, size, sort));
+		}
+		return PageHelper.collectionResponse(favourites, this.enrich(favourites.stream()
+					.map(FavouriteMappingHelper::map)
+					.collect(Collectors.toUnmodifiableList())), 
+				cursor != null, d -> PageHelper.encodeCursor(d.getUserId(), d.getProductId(), d.getLikeDate()));
+	}
+	
+	/**
+	 * Served from the primary key, whose leading column is user_id
+	 */
+	@Override
+	public DtoCollectionResponse<FavouriteDto> findAllByUserId(final Integer userId, final Integer page, final Integer size, final String cursor) {
+		log.info("*** FavouriteDto Page, service; fetch favourites page of user *");
+		final Sort sort = Sort.by("productId", "likeDate");
+		final Slice<Favourite> favourites;
+		if (cursor == null)
+			favourites = this.favouriteRepository.findAllByUserId(userId, PageHelper.pageable(page, size, sort));
+		else {
+			final FavouriteId lastId = PageHelper.decodeCursor(cursor, keys -> new FavouriteId(
+					userId, Integer.parseInt(keys[0]), LocalDateTime.parse(keys[1])));
+			favourites = this.favouriteRepository.findAllByUserIdAfter(userId, lastId.getProductId(), 
+					lastId.getLikeDate(), PageHelper.pageable(0, size, sort));
+		}
+		return PageHelper.collectionResponse(favourites, this.enrich(favourites.stream()
+					.map(FavouriteMappingHelper::map)
+					.collect(Collectors.toUnmodifiableList())), 
+				cursor != null, d -> PageHelper.encodeCursor(d.getProductId(), d.getLikeDate()));
+	}
+	
+	@Override
+	public long countByProductId(final Integer productId) {
+		log.info("*** Long, service; count favourites of product *");
+		return this.favouriteCountRepository.findById(productId)
+				.map(FavouriteCount::getFavouriteCount)
+				.orElse(0L);
+	}
+	
+	/**
+	 * One primary key lookup for the whole batch; products nobody liked yet count zero
+	 */
+	@Override
+	public Map<Integer, Long> countByProductIds(final Set<Integer> productIds) {
+		log.info("*** Long Map, service; count favourites of products *");
+		final Map<Integer, Long> counts = productIds.stream()
+				.collect(Collectors.toMap(Function.identity(), productId -> 0L));
+		this.favouriteCountRepository.findAllById(productIds)
+				.forEach(c -> counts.put(c.getProductId(), c.getFavouriteCount()));
+		return counts;
+	}
+	
+	@Override
+	public void streamAll(final Consumer<FavouriteDto> consumer) {
+		log.info("*** FavouriteDto Stream, service; stream all favourites *");
+		try (final Stream<Favourite> favourites = this.favouriteRepository.streamAll()) {
+			StreamHelper.forEachChunk(favourites, chunk -> {
+				this.enrich(chunk.stream()
+						.map(FavouriteMappingHelper::map)
+						.collect(Collectors.toUnmodifiableList()))
+					.forEach(consumer);
+				this.entityManager.clear();
+			});
+		}
+	}
+	
+	private List<FavouriteDto> enrich(final List<FavouriteDto> favouriteDtos) {
+		final Map<Integer, UserDto> userDtos = this.fetchUsers(favouriteDtos.stream()
+				.map(FavouriteDto::getUserId)
+				.collect(Collectors.toUnmodifiableSet()));
+		final Map<Integer, ProductDto> productDtos = this.fetchProducts(favouriteDtos.stream()
+				.map(FavouriteDto::getProductId)
+				.collect(Collectors.toUnmodifiableSet()));
+		
+		favouriteDtos.forEach(f -> {
+			f.setUserDto(userDtos.getOrDefault(f.getUserId(), f.getUserDto()));
+			f.setProductDto(productDtos.getOrDefault(f.getProductId(), f.getProductDto()));
+		});
+		return favouriteDtos;
 	}
 	
 	@Override
@@ -69,19 +172,68 @@ public class FavouriteServiceImpl implements FavouriteService {
 	
 	@Override
 	public FavouriteDto save(final FavouriteDto favouriteDto) {
-		return FavouriteMappingHelper.map(this.favouriteRepository
-				.save(FavouriteMappingHelper.map(favouriteDto)));
+		return this.store(FavouriteMappingHelper.map(favouriteDto));
 	}
 	
 	@Override
 	public FavouriteDto update(final FavouriteDto favouriteDto) {
-		return FavouriteMappingHelper.map(this.favouriteRepository
-				.save(FavouriteMappingHelper.map(favouriteDto)));
+		return this.store(FavouriteMappingHelper.map(favouriteDto));
 	}
 	
 	@Override
 	public void deleteById(final FavouriteId favouriteId) {
 		this.favouriteRepository.deleteById(favouriteId);
+		this.favouriteCountRepository.decrementCount(favouriteId.getProductId());
+	}
+	
+	/**
+	 * Only a favourite that did not exist yet is counted, saving an existing one again is a no-op for its product's count
+	 */
+	private FavouriteDto store(final Favourite favourite) {
+		final boolean added = !this.favouriteRepository.existsById(
+				new FavouriteId(favourite.getUserId(), favourite.getProductId(), favourite.getLikeDate()));
+		final FavouriteDto favouriteDto = FavouriteMappingHelper.map(this.favouriteRepository.save(favourite));
+		if (added && this.favouriteCountRepository.incrementCount(favouriteDto.getProductId()) == 0) {
+			this.seedCount(favouriteDto.getProductId());
+			this.favouriteCountRepository.incrementCount(favouriteDto.getProductId());
+		}
+		return favouriteDto;
+	}
+	
+	/**
+	 * Creates the missing count row of a product at zero, in the caller's transaction and connection; the 
+	 * caller's own favourite is counted by its increment. Products favourited before the count table existed 
+	 * were seeded by its migration, so a product without a row has no other counted favourite. The insert is 
+	 * skipped when the row exists; concurrent first favourites of one product may still collide on its key, 
+	 * and the loser's whole transaction, favourite included, rolls back, so the count never drifts.
+	 */
+	private void seedCount(final Integer productId) {
+		if (this.favouriteCountRepository.insertCountIfAbsent(productId) == 0)
+			log.info("*** Favourite count of product {} seeded concurrently *", productId);
+	}
+	
+	private Map<Integer, UserDto> fetchUsers(final Set<Integer> userIds) {
+		if (userIds.isEmpty())
+			return Collections.emptyMap();
+		final Map<Integer, UserDto> userDtos = this.restTemplate.exchange(
+				AppConstant.DiscoveredDomainsApi.USER_SERVICE_API_URL + "/batch",
+				HttpMethod.POST,
+				new HttpEntity<>(userIds),
+				new ParameterizedTypeReference<Map<Integer, UserDto>>() {})
+				.getBody();
+		return (userDtos != null) ? userDtos : Collections.emptyMap();
+	}
+	
+	private Map<Integer, ProductDto> fetchProducts(final Set<Integer> productIds) {
+		if (productIds.isEmpty())
+			return Collections.emptyMap();
+		final Map<Integer, ProductDto> productDtos = this.restTemplate.exchange(
+				AppConstant.DiscoveredDomainsApi.PRODUCT_SERVICE_API_URL + "/batch",
+				HttpMethod.POST,
+				new HttpEntity<>(productIds),
+				new ParameterizedTypeReference<Map<Integer, ProductDto>>() {})
+				.getBody();
+		return (productDtos != null) ? productDtos : Collections.emptyMap();
 	}
 	
 	
@@ -0,0 +1,9 @@
+
+CREATE TABLE favourite_counts (
+	product_id INT(11) NOT NULL PRIMARY KEY,
+	favourite_count BIGINT NOT NULL
+);
+
+INSERT INTO favourite_counts (product_id, favourite_count)
+	SELECT product_id, COUNT(*) FROM favourites GROUP BY product_id;
+
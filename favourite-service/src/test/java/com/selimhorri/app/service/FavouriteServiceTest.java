@@ -0,0 +1,219 @@
+package com.selimhorri.app.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.RestTemplate;
+
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.domain.Favourite;
+import com.selimhorri.app.domain.FavouriteCount;
+import com.selimhorri.app.dto.FavouriteDto;
+import com.selimhorri.app.dto.ProductDto;
+import com.selimhorri.app.dto.UserDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
+import com.selimhorri.app.repository.FavouriteCountRepository;
+import com.selimhorri.app.repository.FavouriteRepository;
+import com.selimhorri.app.service.impl.FavouriteServiceImpl;
+
+@ExtendWith(MockitoExtension.class)
+class FavouriteServiceTest {
+
+    @Mock
+    private FavouriteRepository favouriteRepository;
+
+    @Mock
+    private FavouriteCountRepository favouriteCountRepository;
+
+    @Mock
+    private RestTemplate restTemplate;
+
+    @InjectMocks
+    private FavouriteServiceImpl favouriteService;
+
+    private Favourite favourite1;
+    private Favourite favourite2;
+    private Favourite favourite3;
+
+    @BeforeEach
+    void setUp() {
+        final LocalDateTime likeDate = LocalDateTime.of(2021, 12, 1, 10, 0);
+        favourite1 = Favourite.builder().userId(1).productId(10).likeDate(likeDate).build();
+        favourite2 = Favourite.builder().userId(1).productId(20).likeDate(likeDate).build();
+        favourite3 = Favourite.builder().userId(2).productId(10).likeDate(likeDate).build();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testFindAll_ShouldFetchEachRemoteResourceOnce() {
+        // Arrange
+        when(favouriteRepository.findAll()).thenReturn(Arrays.asList(favourite1, favourite2, favourite3));
+        final Map<Integer, UserDto> userDtos = Map.of(
+                1, UserDto.builder().userId(1).firstName("John").build(),
+                2, UserDto.builder().userId(2).firstName("Jane").build());
+        final Map<Integer, ProductDto> productDtos = Map.of(
+                10, ProductDto.builder().productId(10).productTitle("Phone").build(),
+                20, ProductDto.builder().productId(20).productTitle("Laptop").build());
+        when(restTemplate.exchange(eq(AppConstant.DiscoveredDomainsApi.USER_SERVICE_API_URL + "/batch"),
+                eq(HttpMethod.POST), any(HttpEntity.class), any(ParameterizedTypeReference.class)))
+                .thenReturn(ResponseEntity.ok(userDtos));
+        when(restTemplate.exchange(eq(AppConstant.DiscoveredDomainsApi.PRODUCT_SERVICE_API_URL + "/batch"),
+                eq(HttpMethod.POST), any(HttpEntity.class), any(ParameterizedTypeReference.class)))
+                .thenReturn(ResponseEntity.ok(productDtos));
+
+        // Act
+        List<FavouriteDto> result = favouriteService.findAll();
+
+        // Assert
+        assertEquals(3, result.size());
+        assertEquals("John", result.get(0).getUserDto().getFirstName());
+        assertEquals("Laptop", result.get(1).getProductDto().getProductTitle());
+        assertEquals("Jane", result.get(2).getUserDto().getFirstName());
+        verify(restTemplate, times(1)).exchange(eq(AppConstant.DiscoveredDomainsApi.USER_SERVICE_API_URL + "/batch"),
+                eq(HttpMethod.POST), any(HttpEntity.class), any(ParameterizedTypeReference.class));
+        verify(restTemplate, times(1)).exchange(eq(AppConstant.DiscoveredDomainsApi.PRODUCT_SERVICE_API_URL + "/batch"),
+                eq(HttpMethod.POST), any(HttpEntity.class), any(ParameterizedTypeReference.class));
+        verifyNoMoreInteractions(restTemplate);
+    }
+
+    @Test
+    void testFindAll_WithNoFavourites_ShouldNotCallRemoteServices() {
+        // Arrange
+        when(favouriteRepository.findAll()).thenReturn(Collections.emptyList());
+
+        // Act
+        List<FavouriteDto> result = favouriteService.findAll();
+
+        // Assert
+        assertTrue(result.isEmpty());
+        verifyNoInteractions(restTemplate);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testFindAllByUserId_ShouldQueryOnlyThatUsersRows() {
+        // Arrange
+        when(favouriteRepository.findAllByUserId(eq(1), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(List.of(favourite1, favourite2)));
+        when(restTemplate.exchange(any(String.class), eq(HttpMethod.POST), any(HttpEntity.class), any(ParameterizedTypeReference.class)))
+                .thenReturn(ResponseEntity.ok(Collections.emptyMap()));
+
+        // Act
+        DtoCollectionResponse<FavouriteDto> result = favouriteService.findAllByUserId(1, 0, 2, null);
+
+        // Assert
+        assertEquals(2, result.getCollection().size());
+        verify(favouriteRepository, never()).findAll();
+    }
+
+    @Test
+    void testCountByProductId_ShouldReadCounterRow() {
+        // Arrange
+        when(favouriteCountRepository.findById(10)).thenReturn(Optional.of(new FavouriteCount(10, 2L)));
+
+        // Act
+        long result = favouriteService.countByProductId(10);
+
+        // Assert
+        assertEquals(2L, result);
+        verify(favouriteRepository, never()).countByProductId(any());
+    }
+
+    @Test
+    void testCountByProductIds_ShouldFillZeroForUnlikedProducts() {
+        // Arrange
+        when(favouriteCountRepository.findAllById(Set.of(10, 30))).thenReturn(List.of(new FavouriteCount(10, 2L)));
+
+        // Act
+        Map<Integer, Long> result = favouriteService.countByProductIds(Set.of(10, 30));
+
+        // Assert
+        assertEquals(Map.of(10, 2L, 30, 0L), result);
+    }
+
+    @Test
+    void testSave_WithNewFavourite_ShouldIncrementProductCount() {
+        // Arrange
+        when(favouriteRepository.existsById(any())).thenReturn(false);
+        when(favouriteRepository.save(any(Favourite.class))).thenReturn(favourite1);
+        when(favouriteCountRepository.incrementCount(10)).thenReturn(1);
+
+        // Act
+        favouriteService.save(FavouriteDto.builder().userId(1).productId(10).likeDate(favourite1.getLikeDate()).build());
+
+        // Assert
+        verify(favouriteCountRepository, times(1)).incrementCount(10);
+        verify(favouriteCountRepository, never()).save(any());
+    }
+
+    @Test
+    void testSave_WithExistingFavourite_ShouldNotCountItTwice() {
+        // Arrange
+        when(favouriteRepository.existsById(any())).thenReturn(true);
+        when(favouriteRepository.save(any(Favourite.class))).thenReturn(favourite1);
+
+        // Act
+        favouriteService.update(FavouriteDto.builder().userId(1).productId(10).likeDate(favourite1.getLikeDate()).build());
+
+        // Assert
+        verifyNoInteractions(favouriteCountRepository);
+    }
+
+    @Test
+    void testSave_WithFirstFavouriteOfProduct_ShouldSeedZeroCountThenIncrement() {
+        // Arrange
+        when(favouriteRepository.existsById(any())).thenReturn(false);
+        when(favouriteRepository.save(any(Favourite.class))).thenReturn(favourite1);
+        when(favouriteCountRepository.incrementCount(10)).thenReturn(0, 1);
+        when(favouriteCountRepository.insertCountIfAbsent(10)).thenReturn(1);
+
+        // Act
+        favouriteService.save(FavouriteDto.builder().userId(1).productId(10).likeDate(favourite1.getLikeDate()).build());
+
+        // Assert
+        InOrder inOrder = inOrder(favouriteCountRepository);
+        inOrder.verify(favouriteCountRepository).incrementCount(10);
+        inOrder.verify(favouriteCountRepository).insertCountIfAbsent(10);
+        inOrder.verify(favouriteCountRepository).incrementCount(10);
+        verify(favouriteCountRepository, never()).save(any());
+    }
+
+    @Test
+    void testSave_WithConcurrentlySeededCount_ShouldIncrementWinnersRow() {
+        // Arrange
+        when(favouriteRepository.existsById(any())).thenReturn(false);
+        when(favouriteRepository.save(any(Favourite.class))).thenReturn(favourite3);
+        when(favouriteCountRepository.incrementCount(10)).thenReturn(0, 1);
+        when(favouriteCountRepository.insertCountIfAbsent(10)).thenReturn(0);
+
+        // Act
+        FavouriteDto result = favouriteService.save(FavouriteDto.builder().userId(2).productId(10).likeDate(favourite3.getLikeDate()).build());
+
+        // Assert
+        assertEquals(10, result.getProductId());
+        verify(favouriteCountRepository, times(2)).incrementCount(10);
+    }
+}
@@ -12,6 +12,7 @@ import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.OneToMany;
 import javax.persistence.Table;
+import javax.persistence.TableGenerator;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 
@@ -28,12 +29,14 @@ import lombok.NoArgsConstructor;
 @EqualsAndHashCode(callSuper = true, exclude = {"orders"})
 @Data
 @Builder
-public final class Cart extends AbstractMappedEntity implements Serializable {
+public class Cart extends AbstractMappedEntity implements Serializable {
 	
 	private static final long serialVersionUID = 1L;
 	
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.TABLE, generator = "carts_seq")
+	@TableGenerator(name = "carts_seq", table = "carts_seq", pkColumnName = "sequence_name", valueColumnName = "next_val", 
+			pkColumnValue = "carts", allocationSize = 50)
 	@Column(name = "cart_id", unique = true, nullable = false, updatable = false)
 	private Integer cartId;
 	
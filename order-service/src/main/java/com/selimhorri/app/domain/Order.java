@@ -12,6 +12,7 @@ import javax.persistence.Id;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.Table;
+import javax.persistence.TableGenerator;
 
 import org.springframework.format.annotation.DateTimeFormat;
 
@@ -41,7 +42,9 @@ public final class Order extends AbstractMappedEntity implements Serializable {
 	private static final long serialVersionUID = 1L;
 	
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.TABLE, generator = "orders_seq")
+	@TableGenerator(name = "orders_seq", table = "orders_seq", pkColumnName = "sequence_name", valueColumnName = "next_val", 
+			pkColumnValue = "orders", allocationSize = 50)
 	@Column(name = "order_id", unique = true, nullable = false, updatable = false)
 	private Integer orderId;
 	
@@ -58,7 +61,7 @@ public final class Order extends AbstractMappedEntity implements Serializable {
 	@Column(name = "order_fee", columnDefinition = "decimal")
 	private Double orderFee;
 	
-	@ManyToOne(fetch = FetchType.EAGER)
+	@ManyToOne(fetch = FetchType.LAZY)
 	@JoinColumn(name = "cart_id")
 	private Cart cart;
 	
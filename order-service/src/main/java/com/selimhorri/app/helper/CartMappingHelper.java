@@ -2,26 +2,16 @@ package com.selimhorri.app.helper;
 
 import com.selimhorri.app.domain.Cart;
 import com.selimhorri.app.dto.CartDto;
-import com.selimhorri.app.dto.UserDto;
+import com.selimhorri.app.helper.mapper.CartMapper;
 
 public interface CartMappingHelper {
 	
 	public static CartDto map(final Cart cart) {
-		return CartDto.builder()
-				.cartId(cart.getCartId())
-				.userId(cart.getUserId())
-				.userDto(
-						UserDto.builder()
-							.userId(cart.getUserId())
-							.build())
-				.build();
+		return CartMapper.INSTANCE.map(cart);
 	}
 	
 	public static Cart map(final CartDto cartDto) {
-		return Cart.builder()
-				.cartId(cartDto.getCartId())
-				.userId(cartDto.getUserId())
-				.build();
+		return CartMapper.INSTANCE.map(cartDto);
 	}
 	
 	
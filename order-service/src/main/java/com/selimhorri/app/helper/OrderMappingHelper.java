@@ -1,36 +1,17 @@
 package com.selimhorri.app.helper;
 
-import com.selimhorri.app.domain.Cart;
 import com.selimhorri.app.domain.Order;
-import com.selimhorri.app.dto.CartDto;
 import com.selimhorri.app.dto.OrderDto;
+import com.selimhorri.app.helper.mapper.OrderMapper;
 
 public interface OrderMappingHelper {
 	
 	public static OrderDto map(final Order order) {
-		return OrderDto.builder()
-				.orderId(order.getOrderId())
-				.orderDate(order.getOrderDate())
-				.orderDesc(order.getOrderDesc())
-				.orderFee(order.getOrderFee())
-				.cartDto(
-						CartDto.builder()
-							.cartId(order.getCart().getCartId())
-							.build())
-				.build();
+		return OrderMapper.INSTANCE.map(order);
 	}
 	
 	public static Order map(final OrderDto orderDto) {
-		return Order.builder()
-				.orderId(orderDto.getOrderId())
-				.orderDate(orderDto.getOrderDate())
-				.orderDesc(orderDto.getOrderDesc())
-				.orderFee(orderDto.getOrderFee())
-				.cart(
-						Cart.builder()
-							.cartId(orderDto.getCartDto().getCartId())
-							.build())
-				.build();
+		return OrderMapper.INSTANCE.map(orderDto);
 	}
 	
 	
@@ -0,0 +1,72 @@
+package com.selimhorri.app.helper;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
+import com.selimhorri.app.exception.wrapper.InvalidCursorException;
+
+public interface PageHelper {
+	
+	int DEFAULT_PAGE_SIZE = 50;
+	int MAX_PAGE_SIZE = 500;
+	String CURSOR_KEY_SEPARATOR = ",";
+	
+	public static Pageable pageable(final Integer page, final Integer size, final Sort sort) {
+		final int pageSize = (size == null || size < 1) ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+		return PageRequest.of((page == null || page < 0) ? 0 : page, pageSize, sort);
+	}
+	
+	/**
+	 * Opaque keyset cursor, url-safe base64 of the ordered key values of the last row served
+	 */
+	public static String encodeCursor(final Object... keys) {
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.stream(keys)
+				.map(String::valueOf)
+				.collect(Collectors.joining(CURSOR_KEY_SEPARATOR))
+				.getBytes(StandardCharsets.UTF_8));
+	}
+	
+	public static <K> K decodeCursor(final String cursor, final Function<String[], K> keyParser) {
+		try {
+			return keyParser.apply(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8)
+					.split(CURSOR_KEY_SEPARATOR, -1));
+		}
+		catch (final RuntimeException e) {
+			throw new InvalidCursorException(String.format("Cursor: %s is not valid", cursor), e);
+		}
+	}
+	
+	public static <T> DtoCollectionResponse<T> collectionResponse(final Slice<?> slice, final List<T> dtos, 
+			final boolean keyset, final Function<T, String> cursorFunction) {
+		return DtoCollectionResponse.<T>builder()
+				.collection(dtos)
+				.page((keyset) ? null : slice.getNumber())
+				.size(slice.getSize())
+				.hasNext(slice.hasNext())
+				.nextCursor((slice.hasNext() && !dtos.isEmpty()) ? cursorFunction.apply(dtos.get(dtos.size() - 1)) : null)
+				.build();
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
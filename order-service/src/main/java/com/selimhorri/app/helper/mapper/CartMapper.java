@@ -0,0 +1,32 @@
+package com.selimhorri.app.helper.mapper;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.factory.Mappers;
+
+import com.selimhorri.app.domain.Cart;
+import com.selimhorri.app.dto.CartDto;
+
+@Mapper(config = MappingConfig.class)
+public interface CartMapper {
+	
+	CartMapper INSTANCE = Mappers.getMapper(CartMapper.class);
+	
+	@Mapping(target = "userDto.userId", source = "userId")
+	CartDto map(final Cart cart);
+	
+	Cart map(final CartDto cartDto);
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
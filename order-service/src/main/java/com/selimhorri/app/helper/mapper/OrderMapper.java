@@ -0,0 +1,50 @@
+package com.selimhorri.app.helper.mapper;
+
+import org.mapstruct.BeanMapping;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.Named;
+import org.mapstruct.factory.Mappers;
+
+import com.selimhorri.app.domain.Cart;
+import com.selimhorri.app.domain.Order;
+import com.selimhorri.app.dto.CartDto;
+import com.selimhorri.app.dto.OrderDto;
+
+@Mapper(config = MappingConfig.class)
+public interface OrderMapper {
+	
+	OrderMapper INSTANCE = Mappers.getMapper(OrderMapper.class);
+	
+	@Mapping(target = "cartDto", source = "cart", qualifiedByName = "cartId")
+	OrderDto map(final Order order);
+	
+	@Mapping(target = "cart", source = "cartDto", qualifiedByName = "cartId")
+	Order map(final OrderDto orderDto);
+	
+	/**
+	 * Only the id of the lazily loaded cart is read, so mapping an order never initializes it
+	 */
+	@Named("cartId")
+	@BeanMapping(ignoreByDefault = true)
+	@Mapping(target = "cartId")
+	CartDto mapCartId(final Cart cart);
+	
+	@Named("cartId")
+	@BeanMapping(ignoreByDefault = true)
+	@Mapping(target = "cartId")
+	Cart mapCartId(final CartDto cartDto);
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -1,11 +1,32 @@
 package com.selimhorri.app.repository;
 
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
+
+import java.util.stream.Stream;
+
+import javax.persistence.QueryHint;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import com.selimhorri.app.domain.Cart;
+import com.selimhorri.app.helper.StreamHelper;
 
 public interface CartRepository extends JpaRepository<Cart, Integer> {
 	
+	Slice<Cart> findAllBy(final Pageable pageable);
+	Slice<Cart> findByCartIdGreaterThan(final Integer cartId, final Pageable pageable);
+	
+	@QueryHints(value = {
+		@QueryHint(name = HINT_FETCH_SIZE, value = StreamHelper.FETCH_SIZE),
+		@QueryHint(name = HINT_READONLY, value = "true")
+	})
+	@Query("SELECT c FROM Cart c ORDER BY c.cartId")
+	Stream<Cart> streamAll();
 	
 	
 }
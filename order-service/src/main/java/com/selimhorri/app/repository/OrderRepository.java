@@ -1,11 +1,32 @@
 package com.selimhorri.app.repository;
 
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
+
+import java.util.stream.Stream;
+
+import javax.persistence.QueryHint;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import com.selimhorri.app.domain.Order;
+import com.selimhorri.app.helper.StreamHelper;
 
 public interface OrderRepository extends JpaRepository<Order, Integer> {
 	
+	Slice<Order> findAllBy(final Pageable pageable);
+	Slice<Order> findByOrderIdGreaterThan(final Integer orderId, final Pageable pageable);
+	
+	@QueryHints(value = {
+		@QueryHint(name = HINT_FETCH_SIZE, value = StreamHelper.FETCH_SIZE),
+		@QueryHint(name = HINT_READONLY, value = "true")
+	})
+	@Query("SELECT o FROM Order o LEFT JOIN FETCH o.cart ORDER BY o.orderId")
+	Stream<Order> streamAll();
 	
 	
 }
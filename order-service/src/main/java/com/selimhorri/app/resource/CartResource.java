@@ -1,9 +1,14 @@
 package com.selimhorri.app.resource;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 import javax.validation.Valid;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
 
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -12,10 +17,14 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.selimhorri.app.dto.CartDto;
 import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
+import com.selimhorri.app.helper.StreamHelper;
 import com.selimhorri.app.service.CartService;
 
 import lombok.RequiredArgsConstructor;
@@ -28,11 +37,25 @@ import lombok.extern.slf4j.Slf4j;
 public class CartResource {
 	
 	private final CartService cartService;
+	private final ObjectMapper objectMapper;
 	
 	@GetMapping
-	public ResponseEntity<DtoCollectionResponse<CartDto>> findAll() {
+	public ResponseEntity<DtoCollectionResponse<CartDto>> findAll(
+			@RequestParam(name = "page", required = false) final Integer page, 
+			@RequestParam(name = "size", required = false) final Integer size, 
+			@RequestParam(name = "cursor", required = false) final String cursor) {
 		log.info("*** CartDto List, controller; fetch all categories *");
-		return ResponseEntity.ok(new DtoCollectionResponse<>(this.cartService.findAll()));
+		if (page == null && size == null && cursor == null)
+			return ResponseEntity.ok(new DtoCollectionResponse<>(this.cartService.findAll()));
+		return ResponseEntity.ok(this.cartService.findAll(page, size, cursor));
+	}
+	
+	@GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+	public ResponseEntity<StreamingResponseBody> streamAll() {
+		log.info("*** CartDto Stream, controller; stream all carts *");
+		return ResponseEntity.ok()
+				.contentType(MediaType.APPLICATION_NDJSON)
+				.body(StreamHelper.ndjson(this.objectMapper, this.cartService::streamAll));
 	}
 	
 	@GetMapping("/{cartId}")
@@ -53,6 +76,15 @@ public class CartResource {
 		return ResponseEntity.ok(this.cartService.save(cartDto));
 	}
 	
+	@PostMapping("/bulk")
+	public ResponseEntity<List<CartDto>> saveAll(
+			@RequestBody 
+			@NotNull(message = "Input must not be NULL!") 
+			@Valid final List<CartDto> cartDtos) {
+		log.info("*** CartDto List, resource; save carts in bulk *");
+		return ResponseEntity.ok(this.cartService.saveAll(cartDtos));
+	}
+	
 	@PutMapping
 	public ResponseEntity<CartDto> update(
 			@RequestBody 
@@ -81,6 +113,15 @@ public class CartResource {
 		return ResponseEntity.ok(true);
 	}
 	
+	@PostMapping("/batch")
+	public ResponseEntity<Map<Integer, CartDto>> findAllByIds(
+			@RequestBody 
+			@NotNull(message = "Input must not be NULL") 
+			@Valid final Set<Integer> cartIds) {
+		log.info("*** CartDto Map, resource; fetch carts by ids *");
+		return ResponseEntity.ok(this.cartService.findAllByIds(cartIds));
+	}
+	
 	
 	
 }
@@ -1,9 +1,14 @@
 package com.selimhorri.app.resource;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 import javax.validation.Valid;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
 
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -12,10 +17,14 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.selimhorri.app.dto.OrderDto;
 import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
+import com.selimhorri.app.helper.StreamHelper;
 import com.selimhorri.app.service.OrderService;
 
 import lombok.RequiredArgsConstructor;
@@ -28,11 +37,25 @@ import lombok.extern.slf4j.Slf4j;
 public class OrderResource {
 	
 	private final OrderService orderService;
+	private final ObjectMapper objectMapper;
 	
 	@GetMapping
-	public ResponseEntity<DtoCollectionResponse<OrderDto>> findAll() {
+	public ResponseEntity<DtoCollectionResponse<OrderDto>> findAll(
+			@RequestParam(name = "page", required = false) final Integer page, 
+			@RequestParam(name = "size", required = false) final Integer size, 
+			@RequestParam(name = "cursor", required = false) final String cursor) {
 		log.info("*** OrderDto List, controller; fetch all orders *");
-		return ResponseEntity.ok(new DtoCollectionResponse<>(this.orderService.findAll()));
+		if (page == null && size == null && cursor == null)
+			return ResponseEntity.ok(new DtoCollectionResponse<>(this.orderService.findAll()));
+		return ResponseEntity.ok(this.orderService.findAll(page, size, cursor));
+	}
+	
+	@GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+	public ResponseEntity<StreamingResponseBody> streamAll() {
+		log.info("*** OrderDto Stream, controller; stream all orders *");
+		return ResponseEntity.ok()
+				.contentType(MediaType.APPLICATION_NDJSON)
+				.body(StreamHelper.ndjson(this.objectMapper, this.orderService::streamAll));
 	}
 	
 	@GetMapping("/{orderId}")
@@ -53,6 +76,15 @@ public class OrderResource {
 		return ResponseEntity.ok(this.orderService.save(orderDto));
 	}
 	
+	@PostMapping("/bulk")
+	public ResponseEntity<List<OrderDto>> saveAll(
+			@RequestBody 
+			@NotNull(message = "Input must not be NULL!") 
+			@Valid final List<OrderDto> orderDtos) {
+		log.info("*** OrderDto List, resource; save orders in bulk *");
+		return ResponseEntity.ok(this.orderService.saveAll(orderDtos));
+	}
+	
 	@PutMapping
 	public ResponseEntity<OrderDto> update(
 			@RequestBody 
@@ -81,6 +113,15 @@ public class OrderResource {
 		return ResponseEntity.ok(true);
 	}
 	
+	@PostMapping("/batch")
+	public ResponseEntity<Map<Integer, OrderDto>> findAllByIds(
+			@RequestBody 
+			@NotNull(message = "Input must not be NULL") 
+			@Valid final Set<Integer> orderIds) {
+		log.info("*** OrderDto Map, resource; fetch orders by ids *");
+		return ResponseEntity.ok(this.orderService.findAllByIds(orderIds));
+	}
+	
 	
 	
 }
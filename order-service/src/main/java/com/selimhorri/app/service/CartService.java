@@ -1,16 +1,24 @@
 package com.selimhorri.app.service;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 
 import com.selimhorri.app.dto.CartDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 
 public interface CartService {
 	
 	List<CartDto> findAll();
+	DtoCollectionResponse<CartDto> findAll(final Integer page, final Integer size, final String cursor);
 	CartDto findById(final Integer cartId);
 	CartDto save(final CartDto cartDto);
+	List<CartDto> saveAll(final List<CartDto> cartDtos);
 	CartDto update(final CartDto cartDto);
 	CartDto update(final Integer cartId, final CartDto cartDto);
 	void deleteById(final Integer cartId);
+	Map<Integer, CartDto> findAllByIds(final Set<Integer> cartIds);
+	void streamAll(final Consumer<CartDto> consumer);
 	
 }
@@ -1,16 +1,24 @@
 package com.selimhorri.app.service;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 
 import com.selimhorri.app.dto.OrderDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 
 public interface OrderService {
 	
 	List<OrderDto> findAll();
+	DtoCollectionResponse<OrderDto> findAll(final Integer page, final Integer size, final String cursor);
 	OrderDto findById(final Integer orderId);
 	OrderDto save(final OrderDto orderDto);
+	List<OrderDto> saveAll(final List<OrderDto> orderDtos);
 	OrderDto update(final OrderDto orderDto);
 	OrderDto update(final Integer orderId, final OrderDto orderDto);
 	void deleteById(final Integer orderId);
+	Map<Integer, OrderDto> findAllByIds(final Set<Integer> orderIds);
+	void streamAll(final Consumer<OrderDto> consumer);
 	
 }
@@ -1,18 +1,37 @@
 package com.selimhorri.app.service.impl;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import javax.persistence.EntityManager;
 import javax.transaction.Transactional;
 
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
 import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.domain.Cart;
 import com.selimhorri.app.dto.CartDto;
 import com.selimhorri.app.dto.UserDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 import com.selimhorri.app.exception.wrapper.CartNotFoundException;
+import com.selimhorri.app.helper.BatchQueryHelper;
 import com.selimhorri.app.helper.CartMappingHelper;
+import com.selimhorri.app.helper.PageHelper;
+import com.selimhorri.app.helper.StreamHelper;
 import com.selimhorri.app.repository.CartRepository;
 import com.selimhorri.app.service.CartService;
 
@@ -26,21 +45,44 @@ import lombok.extern.slf4j.Slf4j;
 public class CartServiceImpl implements CartService {
 	
 	private final CartRepository cartRepository;
+	private final EntityManager entityManager;
 	private final RestTemplate restTemplate;
 	
 	@Override
 	public List<CartDto> findAll() {
 		log.info("*** CartDto List, service; fetch all carts *");
-		return this.cartRepository.findAll()
+		return this.enrichUsers(this.cartRepository.findAll()
 				.stream()
+					.filter(StreamHelper.distinctBy(Cart::getCartId))
 					.map(CartMappingHelper::map)
-					.map(c -> {
-						c.setUserDto(this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
-								.USER_SERVICE_API_URL + "/" + c.getUserDto().getUserId(), UserDto.class));
-						return c;
-					})
-					.distinct()
-					.collect(Collectors.toUnmodifiableList());
+					.collect(Collectors.toUnmodifiableList()));
+	}
+	
+	@Override
+	public DtoCollectionResponse<CartDto> findAll(final Integer page, final Integer size, final String cursor) {
+		log.info("*** CartDto Page, service; fetch carts page *");
+		final Slice<Cart> carts = (cursor == null) 
+				? this.cartRepository.findAllBy(PageHelper.pageable(page, size, Sort.by("cartId"))) 
+				: this.cartRepository.findByCartIdGreaterThan(PageHelper
+						.decodeCursor(cursor, keys -> Integer.parseInt(keys[0])), PageHelper.pageable(0, size, Sort.by("cartId")));
+		return PageHelper.collectionResponse(carts, this.enrichUsers(carts.stream()
+					.map(CartMappingHelper::map)
+					.collect(Collectors.toUnmodifiableList())), 
+				cursor != null, d -> PageHelper.encodeCursor(d.getCartId()));
+	}
+	
+	@Override
+	public void streamAll(final Consumer<CartDto> consumer) {
+		log.info("*** CartDto Stream, service; stream all carts *");
+		try (final Stream<Cart> carts = this.cartRepository.streamAll()) {
+			StreamHelper.forEachChunk(carts, chunk -> {
+				this.enrichUsers(chunk.stream()
+						.map(CartMappingHelper::map)
+						.collect(Collectors.toUnmodifiableList()))
+					.forEach(consumer);
+				this.entityManager.clear();
+			});
+		}
 	}
 	
 	@Override
@@ -64,6 +106,23 @@ public class CartServiceImpl implements CartService {
 				.save(CartMappingHelper.map(cartDto)));
 	}
 	
+	@Override
+	public List<CartDto> saveAll(final List<CartDto> cartDtos) {
+		log.info("*** CartDto List, service; save carts in bulk *");
+		final List<CartDto> saved = new ArrayList<>(cartDtos.size());
+		StreamHelper.forEachChunk(cartDtos.stream(), chunk -> {
+			this.cartRepository.saveAll(chunk.stream()
+						.map(CartMappingHelper::map)
+						.collect(Collectors.toUnmodifiableList()))
+					.stream()
+						.map(CartMappingHelper::map)
+						.forEach(saved::add);
+			this.entityManager.flush();
+			this.entityManager.clear();
+		});
+		return Collections.unmodifiableList(saved);
+	}
+	
 	@Override
 	public CartDto update(final CartDto cartDto) {
 		log.info("*** CartDto, service; update cart *");
@@ -84,6 +143,36 @@ public class CartServiceImpl implements CartService {
 		this.cartRepository.deleteById(cartId);
 	}
 	
+	@Override
+	public Map<Integer, CartDto> findAllByIds(final Set<Integer> cartIds) {
+		log.info("*** CartDto Map, service; fetch carts by ids *");
+		return this.enrichUsers(BatchQueryHelper.findAllByIdInChunks(this.cartRepository, cartIds)
+				.stream()
+					.map(CartMappingHelper::map)
+					.collect(Collectors.toUnmodifiableList()))
+				.stream()
+					.collect(Collectors.toUnmodifiableMap(CartDto::getCartId, Function.identity()));
+	}
+	
+	private List<CartDto> enrichUsers(final List<CartDto> cartDtos) {
+		final Set<Integer> userIds = cartDtos.stream()
+				.map(c -> c.getUserDto().getUserId())
+				.filter(Objects::nonNull)
+				.collect(Collectors.toUnmodifiableSet());
+		if (userIds.isEmpty())
+			return cartDtos;
+		
+		final Map<Integer, UserDto> userDtos = this.restTemplate.exchange(
+				AppConstant.DiscoveredDomainsApi.USER_SERVICE_API_URL + "/batch",
+				HttpMethod.POST,
+				new HttpEntity<>(userIds),
+				new ParameterizedTypeReference<Map<Integer, UserDto>>() {})
+				.getBody();
+		if (userDtos != null)
+			cartDtos.forEach(c -> c.setUserDto(userDtos.getOrDefault(c.getUserDto().getUserId(), c.getUserDto())));
+		return cartDtos;
+	}
+	
 	
 	
 }
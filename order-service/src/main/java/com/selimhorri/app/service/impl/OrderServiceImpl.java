@@ -1,15 +1,30 @@
 package com.selimhorri.app.service.impl;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import javax.persistence.EntityManager;
 import javax.transaction.Transactional;
 
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
+import com.selimhorri.app.domain.Order;
 import com.selimhorri.app.dto.OrderDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 import com.selimhorri.app.exception.wrapper.OrderNotFoundException;
+import com.selimhorri.app.helper.BatchQueryHelper;
 import com.selimhorri.app.helper.OrderMappingHelper;
+import com.selimhorri.app.helper.PageHelper;
+import com.selimhorri.app.helper.StreamHelper;
 import com.selimhorri.app.repository.OrderRepository;
 import com.selimhorri.app.service.OrderService;
 
@@ -23,17 +38,44 @@ import lombok.extern.slf4j.Slf4j;
 public class OrderServiceImpl implements OrderService {
 	
 	private final OrderRepository orderRepository;
+	private final EntityManager entityManager;
 	
 	@Override
 	public List<OrderDto> findAll() {
 		log.info("*** OrderDto List, service; fetch all orders *");
 		return this.orderRepository.findAll()
 				.stream()
+					.filter(StreamHelper.distinctBy(Order::getOrderId))
 					.map(OrderMappingHelper::map)
-					.distinct()
 					.collect(Collectors.toUnmodifiableList());
 	}
 	
+	@Override
+	public DtoCollectionResponse<OrderDto> findAll(final Integer page, final Integer size, final String cursor) {
+		log.info("*** OrderDto Page, service; fetch orders page *");
+		final Slice<Order> orders = (cursor == null) 
+				? this.orderRepository.findAllBy(PageHelper.pageable(page, size, Sort.by("orderId"))) 
+				: this.orderRepository.findByOrderIdGreaterThan(PageHelper
+						.decodeCursor(cursor, keys -> Integer.parseInt(keys[0])), PageHelper.pageable(0, size, Sort.by("orderId")));
+		return PageHelper.collectionResponse(orders, orders.stream()
+					.map(OrderMappingHelper::map)
+					.collect(Collectors.toUnmodifiableList()), 
+				cursor != null, d -> PageHelper.encodeCursor(d.getOrderId()));
+	}
+	
+	@Override
+	public void streamAll(final Consumer<OrderDto> consumer) {
+		log.info("*** OrderDto Stream, service; stream all orders *");
+		try (final Stream<Order> orders = this.orderRepository.streamAll()) {
+			StreamHelper.forEachChunk(orders, chunk -> {
+				chunk.stream()
+					.map(OrderMappingHelper::map)
+					.forEach(consumer);
+				this.entityManager.clear();
+			});
+		}
+	}
+	
 	@Override
 	public OrderDto findById(final Integer orderId) {
 		log.info("*** OrderDto, service; fetch order by id *");
@@ -50,6 +92,23 @@ public class OrderServiceImpl implements OrderService {
 				.save(OrderMappingHelper.map(orderDto)));
 	}
 	
+	@Override
+	public List<OrderDto> saveAll(final List<OrderDto> orderDtos) {
+		log.info("*** OrderDto List, service; save orders in bulk *");
+		final List<OrderDto> saved = new ArrayList<>(orderDtos.size());
+		StreamHelper.forEachChunk(orderDtos.stream(), chunk -> {
+			this.orderRepository.saveAll(chunk.stream()
+						.map(OrderMappingHelper::map)
+						.collect(Collectors.toUnmodifiableList()))
+					.stream()
+						.map(OrderMappingHelper::map)
+						.forEach(saved::add);
+			this.entityManager.flush();
+			this.entityManager.clear();
+		});
+		return Collections.unmodifiableList(saved);
+	}
+	
 	@Override
 	public OrderDto update(final OrderDto orderDto) {
 		log.info("*** OrderDto, service; update order *");
@@ -70,6 +129,15 @@ public class OrderServiceImpl implements OrderService {
 		this.orderRepository.delete(OrderMappingHelper.map(this.findById(orderId)));
 	}
 	
+	@Override
+	public Map<Integer, OrderDto> findAllByIds(final Set<Integer> orderIds) {
+		log.info("*** OrderDto Map, service; fetch orders by ids *");
+		return BatchQueryHelper.findAllByIdInChunks(this.orderRepository, orderIds)
+				.stream()
+					.map(OrderMappingHelper::map)
+					.collect(Collectors.toUnmodifiableMap(OrderDto::getOrderId, Function.identity()));
+	}
+	
 	
 	
 }
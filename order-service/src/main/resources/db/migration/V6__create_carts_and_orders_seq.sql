@@ -0,0 +1,16 @@
+
+CREATE TABLE carts_seq (
+	sequence_name VARCHAR(64) NOT NULL PRIMARY KEY,
+	next_val BIGINT NOT NULL
+);
+
+INSERT INTO carts_seq (sequence_name, next_val)
+	SELECT 'carts', COALESCE(MAX(cart_id), 0) + 1 FROM carts;
+
+CREATE TABLE orders_seq (
+	sequence_name VARCHAR(64) NOT NULL PRIMARY KEY,
+	next_val BIGINT NOT NULL
+);
+
+INSERT INTO orders_seq (sequence_name, next_val)
+	SELECT 'orders', COALESCE(MAX(order_id), 0) + 1 FROM orders;
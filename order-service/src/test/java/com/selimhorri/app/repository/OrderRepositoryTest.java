@@ -0,0 +1,69 @@
+package com.selimhorri.app.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import com.selimhorri.app.dto.OrderDto;
+import com.selimhorri.app.helper.OrderMappingHelper;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class OrderRepositoryTest {
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        testEntityManager.clear();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void testFindAll_ShouldNotSelectCarts() {
+        // Act
+        List<OrderDto> orderDtos = orderRepository.findAll()
+                .stream()
+                .map(OrderMappingHelper::map)
+                .collect(Collectors.toList());
+
+        // Assert
+        assertEquals(4, orderDtos.size());
+        assertNotNull(orderDtos.get(0).getCartDto().getCartId());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testFindAllBy_ShouldNotSelectCarts() {
+        // Act
+        List<OrderDto> orderDtos = orderRepository.findAllBy(PageRequest.of(0, 10, Sort.by("orderId")))
+                .map(OrderMappingHelper::map)
+                .getContent();
+
+        // Assert
+        assertEquals(4, orderDtos.size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+}
@@ -2,12 +2,17 @@ package com.selimhorri.app.service;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.persistence.EntityManager;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -20,6 +25,7 @@ import com.selimhorri.app.domain.Order;
 import com.selimhorri.app.domain.Cart;
 import com.selimhorri.app.dto.OrderDto;
 import com.selimhorri.app.helper.OrderMappingHelper;
+import com.selimhorri.app.helper.StreamHelper;
 import com.selimhorri.app.repository.OrderRepository;
 import com.selimhorri.app.service.impl.OrderServiceImpl;
 import com.selimhorri.app.exception.wrapper.OrderNotFoundException;
@@ -30,6 +36,9 @@ class OrderServiceTest {
     @Mock
     private OrderRepository orderRepository;
 
+    @Mock
+    private EntityManager entityManager;
+
     @InjectMocks
     private OrderServiceImpl orderService;
 
@@ -71,6 +80,24 @@ class OrderServiceTest {
         verify(orderRepository, times(1)).findAll();
     }
 
+    @Test
+    void testFindAll_WithRepeatedRows_ShouldKeepFirstOrderPerId() {
+        // Arrange
+        Order order2 = new Order();
+        order2.setOrderId(2);
+        order2.setCart(testOrder.getCart());
+        when(orderRepository.findAll()).thenReturn(Arrays.asList(testOrder, order2, testOrder, order2));
+
+        // Act
+        List<OrderDto> result = orderService.findAll();
+
+        // Assert
+        assertEquals(List.of(1, 2), result.stream()
+                .map(OrderDto::getOrderId)
+                .collect(Collectors.toList()));
+        assertEquals("Test Order", result.get(0).getOrderDesc());
+    }
+
     @Test
     void testFindById_WithValidId_ShouldReturnOrder() {
         // Arrange
@@ -108,6 +135,25 @@ class OrderServiceTest {
         verify(orderRepository, times(1)).save(any(Order.class));
     }
 
+    @Test
+    void testSaveAll_ShouldFlushAndClearEveryChunk() {
+        // Arrange
+        List<OrderDto> orderDtos = IntStream.range(0, StreamHelper.CHUNK_SIZE + 1)
+                .mapToObj(i -> testOrderDto)
+                .collect(Collectors.toList());
+        when(orderRepository.saveAll(anyList()))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        List<OrderDto> result = orderService.saveAll(orderDtos);
+
+        // Assert
+        assertEquals(StreamHelper.CHUNK_SIZE + 1, result.size());
+        verify(orderRepository, times(2)).saveAll(anyList());
+        verify(entityManager, times(2)).flush();
+        verify(entityManager, times(2)).clear();
+    }
+
     @Test
     void testDeleteById_ShouldDeleteOrder() {
         // Arrange
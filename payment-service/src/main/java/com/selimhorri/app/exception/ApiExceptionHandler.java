@@ -12,6 +12,7 @@ import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 
 import com.selimhorri.app.exception.payload.ExceptionMsg;
+import com.selimhorri.app.exception.wrapper.InvalidCursorException;
 import com.selimhorri.app.exception.wrapper.PaymentNotFoundException;
 
 import lombok.RequiredArgsConstructor;
@@ -43,6 +44,7 @@ public class ApiExceptionHandler {
 	@ExceptionHandler(value = {
 		IllegalStateException.class,
 		PaymentNotFoundException.class,
+		InvalidCursorException.class,
 	})
 	public <T extends RuntimeException> ResponseEntity<ExceptionMsg> handleApiRequestException(final T e) {
 		
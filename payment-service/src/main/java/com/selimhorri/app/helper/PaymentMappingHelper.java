@@ -1,30 +1,17 @@
 package com.selimhorri.app.helper;
 
 import com.selimhorri.app.domain.Payment;
-import com.selimhorri.app.dto.OrderDto;
 import com.selimhorri.app.dto.PaymentDto;
+import com.selimhorri.app.helper.mapper.PaymentMapper;
 
 public interface PaymentMappingHelper {
 	
 	public static PaymentDto map(final Payment payment) {
-		return PaymentDto.builder()
-				.paymentId(payment.getPaymentId())
-				.isPayed(payment.getIsPayed())
-				.paymentStatus(payment.getPaymentStatus())
-				.orderDto(
-						OrderDto.builder()
-							.orderId(payment.getOrderId())
-							.build())
-				.build();
+		return PaymentMapper.INSTANCE.map(payment);
 	}
 	
 	public static Payment map(final PaymentDto paymentDto) {
-		return Payment.builder()
-				.paymentId(paymentDto.getPaymentId())
-				.orderId(paymentDto.getOrderDto().getOrderId())
-				.isPayed(paymentDto.getIsPayed())
-				.paymentStatus(paymentDto.getPaymentStatus())
-				.build();
+		return PaymentMapper.INSTANCE.map(paymentDto);
 	}
 	
 	
@@ -0,0 +1,33 @@
+package com.selimhorri.app.helper.mapper;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.factory.Mappers;
+
+import com.selimhorri.app.domain.Payment;
+import com.selimhorri.app.dto.PaymentDto;
+
+@Mapper(config = MappingConfig.class)
+public interface PaymentMapper {
+	
+	PaymentMapper INSTANCE = Mappers.getMapper(PaymentMapper.class);
+	
+	@Mapping(target = "orderDto.orderId", source = "orderId")
+	PaymentDto map(final Payment payment);
+	
+	@Mapping(target = "orderId", source = "orderDto.orderId")
+	Payment map(final PaymentDto paymentDto);
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
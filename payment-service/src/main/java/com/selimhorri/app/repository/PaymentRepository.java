@@ -1,11 +1,34 @@
 package com.selimhorri.app.repository;
 
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import javax.persistence.QueryHint;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import com.selimhorri.app.domain.Payment;
+import com.selimhorri.app.helper.StreamHelper;
 
 public interface PaymentRepository extends JpaRepository<Payment, Integer> {
 	
+	Slice<Payment> findAllBy(final Pageable pageable);
+	Slice<Payment> findByPaymentIdGreaterThan(final Integer paymentId, final Pageable pageable);
+	List<Payment> findAllByOrderIdOrderByPaymentId(final Integer orderId);
+	
+	@QueryHints(value = {
+		@QueryHint(name = HINT_FETCH_SIZE, value = StreamHelper.FETCH_SIZE),
+		@QueryHint(name = HINT_READONLY, value = "true")
+	})
+	@Query("SELECT p FROM Payment p ORDER BY p.paymentId")
+	Stream<Payment> streamAll();
 	
 	
 }
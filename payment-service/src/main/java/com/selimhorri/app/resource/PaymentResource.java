@@ -1,9 +1,14 @@
 package com.selimhorri.app.resource;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 import javax.validation.Valid;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
 
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -12,10 +17,14 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.selimhorri.app.dto.PaymentDto;
 import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
+import com.selimhorri.app.helper.StreamHelper;
 import com.selimhorri.app.service.PaymentService;
 
 import lombok.RequiredArgsConstructor;
@@ -28,11 +37,34 @@ import lombok.extern.slf4j.Slf4j;
 public class PaymentResource {
 	
 	private final PaymentService paymentService;
+	private final ObjectMapper objectMapper;
 	
 	@GetMapping
-	public ResponseEntity<DtoCollectionResponse<PaymentDto>> findAll() {
+	public ResponseEntity<DtoCollectionResponse<PaymentDto>> findAll(
+			@RequestParam(name = "page", required = false) final Integer page, 
+			@RequestParam(name = "size", required = false) final Integer size, 
+			@RequestParam(name = "cursor", required = false) final String cursor) {
 		log.info("*** PaymentDto List, controller; fetch all payments *");
-		return ResponseEntity.ok(new DtoCollectionResponse<>(this.paymentService.findAll()));
+		if (page == null && size == null && cursor == null)
+			return ResponseEntity.ok(new DtoCollectionResponse<>(this.paymentService.findAll()));
+		return ResponseEntity.ok(this.paymentService.findAll(page, size, cursor));
+	}
+	
+	@GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+	public ResponseEntity<StreamingResponseBody> streamAll() {
+		log.info("*** PaymentDto Stream, controller; stream all payments *");
+		return ResponseEntity.ok()
+				.contentType(MediaType.APPLICATION_NDJSON)
+				.body(StreamHelper.ndjson(this.objectMapper, this.paymentService::streamAll));
+	}
+	
+	@GetMapping("/order/{orderId}")
+	public ResponseEntity<DtoCollectionResponse<PaymentDto>> findAllByOrderId(
+			@PathVariable("orderId") 
+			@NotBlank(message = "Input must not be blank") 
+			@Valid final String orderId) {
+		log.info("*** PaymentDto List, resource; fetch payments of order *");
+		return ResponseEntity.ok(new DtoCollectionResponse<>(this.paymentService.findAllByOrderId(Integer.parseInt(orderId))));
 	}
 	
 	@GetMapping("/{paymentId}")
@@ -53,6 +85,15 @@ public class PaymentResource {
 		return ResponseEntity.ok(this.paymentService.save(paymentDto));
 	}
 	
+	@PostMapping("/bulk")
+	public ResponseEntity<List<PaymentDto>> saveAll(
+			@RequestBody 
+			@NotNull(message = "Input must not be NULL!") 
+			@Valid final List<PaymentDto> paymentDtos) {
+		log.info("*** PaymentDto List, resource; save payments in bulk *");
+		return ResponseEntity.ok(this.paymentService.saveAll(paymentDtos));
+	}
+	
 	@PutMapping
 	public ResponseEntity<PaymentDto> update(
 			@RequestBody 
@@ -69,6 +110,15 @@ public class PaymentResource {
 		return ResponseEntity.ok(true);
 	}
 	
+	@PostMapping("/batch")
+	public ResponseEntity<Map<Integer, PaymentDto>> findAllByIds(
+			@RequestBody 
+			@NotNull(message = "Input must not be NULL") 
+			@Valid final Set<Integer> paymentIds) {
+		log.info("*** PaymentDto Map, resource; fetch payments by ids *");
+		return ResponseEntity.ok(this.paymentService.findAllByIds(paymentIds));
+	}
+	
 	
 	
 }
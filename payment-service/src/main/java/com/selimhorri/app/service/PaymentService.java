@@ -1,15 +1,24 @@
 package com.selimhorri.app.service;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 
 import com.selimhorri.app.dto.PaymentDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 
 public interface PaymentService {
 	
 	List<PaymentDto> findAll();
+	DtoCollectionResponse<PaymentDto> findAll(final Integer page, final Integer size, final String cursor);
+	List<PaymentDto> findAllByOrderId(final Integer orderId);
 	PaymentDto findById(final Integer paymentId);
 	PaymentDto save(final PaymentDto paymentDto);
+	List<PaymentDto> saveAll(final List<PaymentDto> paymentDtos);
 	PaymentDto update(final PaymentDto paymentDto);
 	void deleteById(final Integer paymentId);
+	Map<Integer, PaymentDto> findAllByIds(final Set<Integer> paymentIds);
+	void streamAll(final Consumer<PaymentDto> consumer);
 	
 }
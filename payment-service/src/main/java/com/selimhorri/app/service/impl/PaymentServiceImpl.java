@@ -1,18 +1,37 @@
 package com.selimhorri.app.service.impl;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import javax.persistence.EntityManager;
 import javax.transaction.Transactional;
 
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
 import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.domain.Payment;
 import com.selimhorri.app.dto.OrderDto;
 import com.selimhorri.app.dto.PaymentDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 import com.selimhorri.app.exception.wrapper.PaymentNotFoundException;
+import com.selimhorri.app.helper.BatchQueryHelper;
+import com.selimhorri.app.helper.PageHelper;
 import com.selimhorri.app.helper.PaymentMappingHelper;
+import com.selimhorri.app.helper.StreamHelper;
 import com.selimhorri.app.repository.PaymentRepository;
 import com.selimhorri.app.service.PaymentService;
 
@@ -26,20 +45,55 @@ import lombok.extern.slf4j.Slf4j;
 public class PaymentServiceImpl implements PaymentService {
 	
 	private final PaymentRepository paymentRepository;
+	private final EntityManager entityManager;
 	private final RestTemplate restTemplate;
 	
 	@Override
 	public List<PaymentDto> findAll() {
 		log.info("*** PaymentDto List, service; fetch all payments *");
-		return this.paymentRepository.findAll()
+		return this.enrichOrders(this.paymentRepository.findAll()
+				.stream()
+					.filter(StreamHelper.distinctBy(Payment::getPaymentId))
+					.map(PaymentMappingHelper::map)
+					.collect(Collectors.toUnmodifiableList()));
+	}
+	
+	@Override
+	public DtoCollectionResponse<PaymentDto> findAll(final Integer page, final Integer size, final String cursor) {
+		log.info("*** PaymentDto Page, service; fetch payments page *");
+		final Slice<Payment> payments = (cursor == null) 
+				? this.paymentRepository.findAllBy(PageHelper.pageable(page, size, Sort.by("paymentId"))) 
+				: this.paymentRepository.findByPaymentIdGreaterThan(PageHelper
+						.decodeCursor(cursor, keys -> Integer.parseInt(keys[0])), PageHelper.pageable(0, size, Sort.by("paymentId")));
+		return PageHelper.collectionResponse(payments, this.enrichOrders(payments.stream()
+					.map(PaymentMappingHelper::map)
+					.collect(Collectors.toUnmodifiableList())), 
+				cursor != null, d -> PageHelper.encodeCursor(d.getPaymentId()));
+	}
+	
+	@Override
+	public void streamAll(final Consumer<PaymentDto> consumer) {
+		log.info("*** PaymentDto Stream, service; stream all payments *");
+		try (final Stream<Payment> payments = this.paymentRepository.streamAll()) {
+			StreamHelper.forEachChunk(payments, chunk -> {
+				this.enrichOrders(chunk.stream()
+						.map(PaymentMappingHelper::map)
+						.collect(Collectors.toUnmodifiableList()))
+					.forEach(consumer);
+				this.entityManager.clear();
+			});
+		}
+	}
+	
+	/**
+	 * Rows only, the order is left as an id for the caller (the order aggregate) that already holds it
+	 */
+	@Override
+	public List<PaymentDto> findAllByOrderId(final Integer orderId) {
+		log.info("*** PaymentDto List, service; fetch payments of order *");
+		return this.paymentRepository.findAllByOrderIdOrderByPaymentId(orderId)
 				.stream()
 					.map(PaymentMappingHelper::map)
-					.map(p -> {
-						p.setOrderDto(this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
-								.ORDER_SERVICE_API_URL + "/" + p.getOrderDto().getOrderId(), OrderDto.class));
-						return p;
-					})
-					.distinct()
 					.collect(Collectors.toUnmodifiableList());
 	}
 	
@@ -63,6 +117,23 @@ public class PaymentServiceImpl implements PaymentService {
 				.save(PaymentMappingHelper.map(paymentDto)));
 	}
 	
+	@Override
+	public List<PaymentDto> saveAll(final List<PaymentDto> paymentDtos) {
+		log.info("*** PaymentDto List, service; save payments in bulk *");
+		final List<PaymentDto> saved = new ArrayList<>(paymentDtos.size());
+		StreamHelper.forEachChunk(paymentDtos.stream(), chunk -> {
+			this.paymentRepository.saveAll(chunk.stream()
+						.map(PaymentMappingHelper::map)
+						.collect(Collectors.toUnmodifiableList()))
+					.stream()
+						.map(PaymentMappingHelper::map)
+						.forEach(saved::add);
+			this.entityManager.flush();
+			this.entityManager.clear();
+		});
+		return Collections.unmodifiableList(saved);
+	}
+	
 	@Override
 	public PaymentDto update(final PaymentDto paymentDto) {
 		log.info("*** PaymentDto, service; update payment *");
@@ -76,6 +147,36 @@ public class PaymentServiceImpl implements PaymentService {
 		this.paymentRepository.deleteById(paymentId);
 	}
 	
+	@Override
+	public Map<Integer, PaymentDto> findAllByIds(final Set<Integer> paymentIds) {
+		log.info("*** PaymentDto Map, service; fetch payments by ids *");
+		return this.enrichOrders(BatchQueryHelper.findAllByIdInChunks(this.paymentRepository, paymentIds)
+				.stream()
+					.map(PaymentMappingHelper::map)
+					.collect(Collectors.toUnmodifiableList()))
+				.stream()
+					.collect(Collectors.toUnmodifiableMap(PaymentDto::getPaymentId, Function.identity()));
+	}
+	
+	private List<PaymentDto> enrichOrders(final List<PaymentDto> paymentDtos) {
+		final Set<Integer> orderIds = paymentDtos.stream()
+				.map(p -> p.getOrderDto().getOrderId())
+				.filter(Objects::nonNull)
+				.collect(Collectors.toUnmodifiableSet());
+		if (orderIds.isEmpty())
+			return paymentDtos;
+		
+		final Map<Integer, OrderDto> orderDtos = this.restTemplate.exchange(
+				AppConstant.DiscoveredDomainsApi.ORDER_SERVICE_API_URL + "/batch",
+				HttpMethod.POST,
+				new HttpEntity<>(orderIds),
+				new ParameterizedTypeReference<Map<Integer, OrderDto>>() {})
+				.getBody();
+		if (orderDtos != null)
+			paymentDtos.forEach(p -> p.setOrderDto(orderDtos.getOrDefault(p.getOrderDto().getOrderId(), p.getOrderDto())));
+		return paymentDtos;
+	}
+	
 	
 	
 }
@@ -0,0 +1,3 @@
+
+CREATE INDEX idx_payments_order_id ON payments (order_id);
+
@@ -0,0 +1,8 @@
+
+CREATE TABLE payments_seq (
+	sequence_name VARCHAR(64) NOT NULL PRIMARY KEY,
+	next_val BIGINT NOT NULL
+);
+
+INSERT INTO payments_seq (sequence_name, next_val)
+	SELECT 'payments', COALESCE(MAX(payment_id), 0) + 1 FROM payments;
@@ -2,11 +2,16 @@ package com.selimhorri.app.service;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import javax.persistence.EntityManager;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -14,6 +19,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.client.RestTemplate;
 
 import com.selimhorri.app.domain.Payment;
 import com.selimhorri.app.dto.PaymentDto;
@@ -28,6 +34,12 @@ class PaymentServiceTest {
     @Mock
     private PaymentRepository paymentRepository;
 
+    @Mock
+    private RestTemplate restTemplate;
+
+    @Mock
+    private EntityManager entityManager;
+
     @InjectMocks
     private PaymentServiceImpl paymentService;
 
@@ -59,6 +71,21 @@ class PaymentServiceTest {
         verify(paymentRepository, times(1)).findAll();
     }
 
+    @Test
+    void testFindAllByOrderId_ShouldNotCallOrderService() {
+        // Arrange
+        testPayment.setOrderId(5);
+        when(paymentRepository.findAllByOrderIdOrderByPaymentId(5)).thenReturn(List.of(testPayment));
+
+        // Act
+        List<PaymentDto> result = paymentService.findAllByOrderId(5);
+
+        // Assert
+        assertEquals(1, result.size());
+        assertEquals(5, result.get(0).getOrderDto().getOrderId());
+        verifyNoInteractions(restTemplate);
+    }
+
     @Test
     void testFindById_WithValidId_ShouldReturnPayment() {
         // Arrange
@@ -97,6 +124,21 @@ class PaymentServiceTest {
         verify(paymentRepository, times(1)).save(any(Payment.class));
     }
 
+    @Test
+    void testSaveAll_ShouldSaveChunkAndClearPersistenceContext() {
+        // Arrange
+        when(paymentRepository.saveAll(anyList())).thenReturn(List.of(testPayment, testPayment));
+
+        // Act
+        List<PaymentDto> result = paymentService.saveAll(List.of(testPaymentDto, testPaymentDto));
+
+        // Assert
+        assertEquals(2, result.size());
+        verify(paymentRepository, times(1)).saveAll(anyList());
+        verify(entityManager, times(1)).flush();
+        verify(entityManager, times(1)).clear();
+    }
+
     @Test
     void testUpdate_ShouldMarkPaymentAsPaid() {
         // Arrange
@@ -112,4 +154,22 @@ class PaymentServiceTest {
         assertTrue(result.getIsPayed());
         verify(paymentRepository, times(1)).save(any(Payment.class));
     }
+
+    @Test
+    void testStreamAll_ShouldEmitEveryPaymentAndClearPersistenceContext() {
+        // Arrange
+        Payment payment2 = new Payment();
+        payment2.setPaymentId(2);
+        when(paymentRepository.streamAll()).thenReturn(Stream.of(testPayment, payment2));
+        final List<PaymentDto> emitted = new ArrayList<>();
+
+        // Act
+        paymentService.streamAll(emitted::add);
+
+        // Assert
+        assertEquals(2, emitted.size());
+        assertEquals(2, emitted.get(1).getPaymentId());
+        verify(entityManager, times(1)).clear();
+        verifyNoInteractions(restTemplate);
+    }
 }
@@ -0,0 +1,48 @@
+package com.selimhorri.app.config.cache;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Caches are Caffeine-backed and declared up front (spring.cache.*) so that their 
+ * statistics are bound to the meter registry at startup.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+	
+	public static final String PRODUCTS_CACHE = "products";
+	
+	/**
+	 * Puts and evictions made inside a transaction are applied once it commits, whatever the order 
+	 * of the cache and transaction advice, so a concurrent read cannot re-cache the row being replaced.
+	 */
+	@Bean
+	public static BeanPostProcessor transactionAwareCacheManagerPostProcessor() {
+		return new BeanPostProcessor() {
+			@Override
+			public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+				return (bean instanceof CacheManager && !(bean instanceof TransactionAwareCacheManagerProxy)) 
+						? new TransactionAwareCacheManagerProxy((CacheManager) bean) 
+						: bean;
+			}
+		};
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -11,6 +11,7 @@ import javax.persistence.Id;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.Table;
+import javax.persistence.TableGenerator;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -30,7 +31,9 @@ public final class Product extends AbstractMappedEntity implements Serializable
 	private static final long serialVersionUID = 1L;
 	
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.TABLE, generator = "products_seq")
+	@TableGenerator(name = "products_seq", table = "products_seq", pkColumnName = "sequence_name", valueColumnName = "next_val", 
+			pkColumnValue = "products", allocationSize = 50)
 	@Column(name = "product_id", unique = true, nullable = false, updatable = false)
 	private Integer productId;
 	
@@ -49,7 +52,7 @@ public final class Product extends AbstractMappedEntity implements Serializable
 	@Column(name = "quantity")
 	private Integer quantity;
 	
-	@ManyToOne(fetch = FetchType.EAGER)
+	@ManyToOne(fetch = FetchType.LAZY)
 	@JoinColumn(name = "category_id")
 	private Category category;
 	
@@ -0,0 +1,46 @@
+package com.selimhorri.app.domain;
+
+import java.io.Serializable;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Highest stock journal sequence whose deltas are already applied to products.quantity; 
+ * written in the same transaction as those deltas, so a replay never applies them twice.
+ */
+@Entity
+@Table(name = "stock_ledger_checkpoints")
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+public final class StockLedgerCheckpoint implements Serializable {
+	
+	private static final long serialVersionUID = 1L;
+	
+	@Id
+	@Column(name = "ledger_id", unique = true, nullable = false, updatable = false)
+	private String ledgerId;
+	
+	@Column(name = "flushed_sequence", nullable = false)
+	private Long flushedSequence;
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,10 @@
+package com.selimhorri.app.domain.projection;
+
+public interface CategoryTreeRow {
+	
+	Integer getCategoryId();
+	String getCategoryTitle();
+	String getImageUrl();
+	Integer getParentCategoryId();
+	
+}
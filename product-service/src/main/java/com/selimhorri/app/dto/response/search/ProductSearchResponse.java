@@ -0,0 +1,39 @@
+package com.selimhorri.app.dto.response.search;
+
+import java.util.Collection;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.selimhorri.app.dto.ProductDto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+@JsonInclude(Include.NON_NULL)
+public class ProductSearchResponse {
+	
+	private Collection<ProductDto> collection;
+	private Integer page;
+	private Integer size;
+	private Boolean hasNext;
+	private Integer totalHits;
+	private Map<Integer, Integer> categoryFacets;
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,35 @@
+package com.selimhorri.app.exception.wrapper;
+
+public class HotStockUpdateException extends RuntimeException {
+	
+	private static final long serialVersionUID = 1L;
+	
+	public HotStockUpdateException() {
+		super();
+	}
+	
+	public HotStockUpdateException(String message, Throwable cause) {
+		super(message, cause);
+	}
+	
+	public HotStockUpdateException(String message) {
+		super(message);
+	}
+	
+	public HotStockUpdateException(Throwable cause) {
+		super(cause);
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,35 @@
+package com.selimhorri.app.exception.wrapper;
+
+public class InvalidStockReservationException extends RuntimeException {
+	
+	private static final long serialVersionUID = 1L;
+	
+	public InvalidStockReservationException() {
+		super();
+	}
+	
+	public InvalidStockReservationException(String message, Throwable cause) {
+		super(message, cause);
+	}
+	
+	public InvalidStockReservationException(String message) {
+		super(message);
+	}
+	
+	public InvalidStockReservationException(Throwable cause) {
+		super(cause);
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
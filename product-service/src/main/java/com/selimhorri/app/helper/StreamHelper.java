@@ -0,0 +1,81 @@
+package com.selimhorri.app.helper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+public interface StreamHelper {
+	
+	/**
+	 * JDBC fetch size hint for streamed queries, MySQL honours it with useCursorFetch=true
+	 */
+	String FETCH_SIZE = "500";
+	int CHUNK_SIZE = 500;
+	
+	public static <T> void forEachChunk(final Stream<T> stream, final Consumer<List<T>> chunkConsumer) {
+		final List<T> chunk = new ArrayList<>(CHUNK_SIZE);
+		stream.forEachOrdered(t -> {
+			chunk.add(t);
+			if (chunk.size() == CHUNK_SIZE) {
+				chunkConsumer.accept(Collections.unmodifiableList(chunk));
+				chunk.clear();
+			}
+		});
+		if (!chunk.isEmpty())
+			chunkConsumer.accept(Collections.unmodifiableList(chunk));
+	}
+	
+	/**
+	 * Stateful filter letting only the first element of each key through, so rows can be de-duplicated 
+	 * on their primary key in the same pass that maps them, without hashing whole DTO graphs. 
+	 * Meant for sequential streams, as a fresh predicate per stream
+	 */
+	public static <T, K> Predicate<T> distinctBy(final Function<? super T, ? extends K> keyExtractor) {
+		final Set<K> seen = new HashSet<>();
+		return t -> seen.add(keyExtractor.apply(t));
+	}
+	
+	/**
+	 * Newline-delimited JSON body, one compact document per row
+	 */
+	public static <T> StreamingResponseBody ndjson(final ObjectMapper objectMapper, final Consumer<Consumer<T>> producer) {
+		final ObjectWriter objectWriter = objectMapper.writer()
+				.without(SerializationFeature.INDENT_OUTPUT);
+		return outputStream -> producer.accept(dto -> {
+			try {
+				outputStream.write(objectWriter.writeValueAsBytes(dto));
+				outputStream.write('\n');
+			}
+			catch (final IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		});
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
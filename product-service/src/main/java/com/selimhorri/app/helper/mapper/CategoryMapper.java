@@ -0,0 +1,47 @@
+package com.selimhorri.app.helper.mapper;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.Named;
+import org.mapstruct.factory.Mappers;
+
+import com.selimhorri.app.domain.Category;
+import com.selimhorri.app.dto.CategoryDto;
+
+/**
+ * A missing parent maps to an empty one, in both directions
+ */
+@Mapper(config = MappingConfig.class, imports = {Category.class, CategoryDto.class})
+public interface CategoryMapper {
+	
+	CategoryMapper INSTANCE = Mappers.getMapper(CategoryMapper.class);
+	
+	@Mapping(target = "parentCategoryDto", source = "parentCategory", 
+			qualifiedByName = "parentCategoryDto", defaultExpression = "java(new CategoryDto())")
+	CategoryDto map(final Category category);
+	
+	@Mapping(target = "parentCategory", source = "parentCategoryDto", 
+			qualifiedByName = "parentCategory", defaultExpression = "java(new Category())")
+	Category map(final CategoryDto categoryDto);
+	
+	@Named("parentCategoryDto")
+	@Mapping(target = "parentCategoryDto", ignore = true)
+	CategoryDto mapParent(final Category parentCategory);
+	
+	@Named("parentCategory")
+	@Mapping(target = "parentCategory", ignore = true)
+	Category mapParent(final CategoryDto parentCategoryDto);
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
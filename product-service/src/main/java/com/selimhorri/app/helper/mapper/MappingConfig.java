@@ -0,0 +1,29 @@
+package com.selimhorri.app.helper.mapper;
+
+import org.mapstruct.Builder;
+import org.mapstruct.MapperConfig;
+import org.mapstruct.ReportingPolicy;
+
+/**
+ * Shared by the generated mappers: targets are created with their no-args constructor and 
+ * filled through setters instead of going through an intermediate Lombok builder, 
+ * and any target property a mapping does not name is left unset, as the helpers always did
+ */
+@MapperConfig(
+		builder = @Builder(disableBuilder = true), 
+		unmappedTargetPolicy = ReportingPolicy.IGNORE)
+public interface MappingConfig {
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,33 @@
+package com.selimhorri.app.helper.mapper;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.factory.Mappers;
+
+import com.selimhorri.app.domain.Product;
+import com.selimhorri.app.dto.ProductDto;
+
+@Mapper(config = MappingConfig.class)
+public interface ProductMapper {
+	
+	ProductMapper INSTANCE = Mappers.getMapper(ProductMapper.class);
+	
+	@Mapping(target = "categoryDto", source = "category")
+	ProductDto map(final Product product);
+	
+	@Mapping(target = "category", source = "categoryDto")
+	Product map(final ProductDto productDto);
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
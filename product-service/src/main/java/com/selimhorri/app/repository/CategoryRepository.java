@@ -1,11 +1,36 @@
 package com.selimhorri.app.repository;
 
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import com.selimhorri.app.domain.Category;
+import com.selimhorri.app.domain.projection.CategoryTreeRow;
 
 public interface CategoryRepository extends JpaRepository<Category, Integer> {
 	
+	@Override
+	@EntityGraph(attributePaths = "parentCategory")
+	List<Category> findAll();
+	
+	@Override
+	@EntityGraph(attributePaths = "parentCategory")
+	Optional<Category> findById(final Integer categoryId);
+	
+	@EntityGraph(attributePaths = "parentCategory")
+	Slice<Category> findAllBy(final Pageable pageable);
+	
+	@EntityGraph(attributePaths = "parentCategory")
+	Slice<Category> findByCategoryIdGreaterThan(final Integer categoryId, final Pageable pageable);
+	
+	@Query("SELECT c.categoryId AS categoryId, c.categoryTitle AS categoryTitle, c.imageUrl AS imageUrl, "
+			+ "p.categoryId AS parentCategoryId FROM Category c LEFT JOIN c.parentCategory p")
+	List<CategoryTreeRow> findAllTreeRows();
 	
 	
 }
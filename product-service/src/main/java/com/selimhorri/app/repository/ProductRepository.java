@@ -1,11 +1,73 @@
 package com.selimhorri.app.repository;
 
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import com.selimhorri.app.domain.Product;
+import com.selimhorri.app.helper.StreamHelper;
 
 public interface ProductRepository extends JpaRepository<Product, Integer> {
 	
+	@Override
+	@EntityGraph(attributePaths = "category")
+	List<Product> findAll();
+	
+	@Override
+	@EntityGraph(attributePaths = "category")
+	Optional<Product> findById(final Integer productId);
+	
+	@Override
+	@EntityGraph(attributePaths = "category")
+	List<Product> findAllById(final Iterable<Integer> productIds);
+	
+	@EntityGraph(attributePaths = "category")
+	Slice<Product> findAllBy(final Pageable pageable);
+	
+	@EntityGraph(attributePaths = "category")
+	Slice<Product> findByProductIdGreaterThan(final Integer productId, final Pageable pageable);
+	
+	@EntityGraph(attributePaths = "category")
+	List<Product> findAllByCategoryCategoryId(final Integer categoryId);
+	
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("SELECT p FROM Product p WHERE p.productId = :productId")
+	Optional<Product> findByIdForUpdate(@Param("productId") final Integer productId);
+	
+	@QueryHints(value = {
+		@QueryHint(name = HINT_FETCH_SIZE, value = StreamHelper.FETCH_SIZE),
+		@QueryHint(name = HINT_READONLY, value = "true")
+	})
+	@Query("SELECT p FROM Product p LEFT JOIN FETCH p.category ORDER BY p.productId")
+	Stream<Product> streamAll();
+	
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("UPDATE Product p SET p.quantity = p.quantity - :quantity WHERE p.productId = :productId AND p.quantity >= :quantity")
+	int reserveStock(@Param("productId") final Integer productId, @Param("quantity") final Integer quantity);
+	
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("UPDATE Product p SET p.quantity = p.quantity + :quantity WHERE p.productId = :productId")
+	int releaseStock(@Param("productId") final Integer productId, @Param("quantity") final Integer quantity);
+	
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("UPDATE Product p SET p.quantity = p.quantity + :delta WHERE p.productId = :productId")
+	int adjustStock(@Param("productId") final Integer productId, @Param("delta") final Integer delta);
 	
 	
 }
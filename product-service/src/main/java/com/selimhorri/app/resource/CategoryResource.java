@@ -1,9 +1,14 @@
 package com.selimhorri.app.resource;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 import javax.validation.Valid;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
 
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -12,11 +17,15 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.selimhorri.app.dto.CategoryDto;
 import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
+import com.selimhorri.app.service.CatalogCacheService;
+import com.selimhorri.app.service.CatalogCacheService.CachedResponse;
 import com.selimhorri.app.service.CategoryService;
+import com.selimhorri.app.service.CategoryTreeService;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -28,11 +37,28 @@ import lombok.extern.slf4j.Slf4j;
 public class CategoryResource {
 	
 	private final CategoryService categoryService;
+	private final CatalogCacheService catalogCacheService;
+	private final CategoryTreeService categoryTreeService;
 	
+	/**
+	 * Served from the catalog cache with a strong ETag, so a matching If-None-Match is answered 
+	 * with 304 Not Modified until the next catalog write; shared caches may keep it for a short while
+	 */
 	@GetMapping
-	public ResponseEntity<DtoCollectionResponse<CategoryDto>> findAll() {
+	public ResponseEntity<byte[]> findAll(
+			@RequestParam(name = "page", required = false) final Integer page, 
+			@RequestParam(name = "size", required = false) final Integer size, 
+			@RequestParam(name = "cursor", required = false) final String cursor) {
 		log.info("*** CategoryDto List, controller; fetch all categories *");
-		return ResponseEntity.ok(new DtoCollectionResponse<>(this.categoryService.findAll()));
+		final CachedResponse response = this.catalogCacheService.get(String.format("categories?page=%s&size=%s&cursor=%s", page, size, cursor), 
+				() -> (page == null && size == null && cursor == null) 
+					? new DtoCollectionResponse<>(this.categoryService.findAll()) 
+					: this.categoryService.findAll(page, size, cursor));
+		return ResponseEntity.ok()
+				.contentType(MediaType.APPLICATION_JSON)
+				.cacheControl(this.catalogCacheService.cacheControl())
+				.eTag(response.getEtag())
+				.body(response.getBody());
 	}
 	
 	@GetMapping("/{categoryId}")
@@ -44,6 +70,24 @@ public class CategoryResource {
 		return ResponseEntity.ok(this.categoryService.findById(Integer.parseInt(categoryId)));
 	}
 	
+	@GetMapping("/{categoryId}/tree")
+	public ResponseEntity<CategoryDto> findTree(
+			@PathVariable("categoryId") 
+			@NotBlank(message = "Input must not be blank") 
+			@Valid final String categoryId) {
+		log.info("*** CategoryDto, resource; fetch category tree by id *");
+		return ResponseEntity.ok(this.categoryTreeService.findTree(Integer.parseInt(categoryId)));
+	}
+	
+	@GetMapping("/{categoryId}/ancestors")
+	public ResponseEntity<List<CategoryDto>> findAncestors(
+			@PathVariable("categoryId") 
+			@NotBlank(message = "Input must not be blank") 
+			@Valid final String categoryId) {
+		log.info("*** CategoryDto List, resource; fetch category ancestors by id *");
+		return ResponseEntity.ok(this.categoryTreeService.findAncestors(Integer.parseInt(categoryId)));
+	}
+	
 	@PostMapping
 	public ResponseEntity<CategoryDto> save(
 			@RequestBody 
@@ -81,6 +125,15 @@ public class CategoryResource {
 		return ResponseEntity.ok(true);
 	}
 	
+	@PostMapping("/batch")
+	public ResponseEntity<Map<Integer, CategoryDto>> findAllByIds(
+			@RequestBody 
+			@NotNull(message = "Input must not be NULL") 
+			@Valid final Set<Integer> categoryIds) {
+		log.info("*** CategoryDto Map, resource; fetch categories by ids *");
+		return ResponseEntity.ok(this.categoryService.findAllByIds(categoryIds));
+	}
+	
 	
 	
 }
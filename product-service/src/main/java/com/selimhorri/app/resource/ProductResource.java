@@ -1,9 +1,14 @@
 package com.selimhorri.app.resource;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 import javax.validation.Valid;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
 
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -12,11 +17,21 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.selimhorri.app.dto.ProductDto;
+import com.selimhorri.app.dto.StockReservationDto;
 import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
+import com.selimhorri.app.dto.response.search.ProductSearchResponse;
+import com.selimhorri.app.helper.StreamHelper;
+import com.selimhorri.app.service.CatalogCacheService;
+import com.selimhorri.app.service.CatalogCacheService.CachedResponse;
+import com.selimhorri.app.service.ProductSearchService;
 import com.selimhorri.app.service.ProductService;
+import com.selimhorri.app.service.StockService;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -28,11 +43,50 @@ import lombok.extern.slf4j.Slf4j;
 public class ProductResource {
 	
 	private final ProductService productService;
+	private final CatalogCacheService catalogCacheService;
+	private final ProductSearchService productSearchService;
+	private final StockService stockService;
+	private final ObjectMapper objectMapper;
 	
+	/**
+	 * Served from the catalog cache with a strong ETag, so a matching If-None-Match is answered 
+	 * with 304 Not Modified until the next catalog write; shared caches may keep it for a short while
+	 */
 	@GetMapping
-	public ResponseEntity<DtoCollectionResponse<ProductDto>> findAll() {
-		log.info("*** ProductDto List, controller; fetch all categories *");
-		return ResponseEntity.ok(new DtoCollectionResponse<>(this.productService.findAll()));
+	public ResponseEntity<byte[]> findAll(
+			@RequestParam(name = "page", required = false) final Integer page, 
+			@RequestParam(name = "size", required = false) final Integer size, 
+			@RequestParam(name = "cursor", required = false) final String cursor) {
+		log.info("*** ProductDto List, controller; fetch all products *");
+		final CachedResponse response = this.catalogCacheService.get(String.format("products?page=%s&size=%s&cursor=%s", page, size, cursor), 
+				() -> (page == null && size == null && cursor == null) 
+					? new DtoCollectionResponse<>(this.productService.findAll()) 
+					: this.productService.findAll(page, size, cursor));
+		return ResponseEntity.ok()
+				.contentType(MediaType.APPLICATION_JSON)
+				.cacheControl(this.catalogCacheService.cacheControl())
+				.eTag(response.getEtag())
+				.body(response.getBody());
+	}
+	
+	@GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+	public ResponseEntity<StreamingResponseBody> streamAll() {
+		log.info("*** ProductDto Stream, controller; stream all products *");
+		return ResponseEntity.ok()
+				.contentType(MediaType.APPLICATION_NDJSON)
+				.body(StreamHelper.ndjson(this.objectMapper, this.productService::streamAll));
+	}
+	
+	@GetMapping("/search")
+	public ResponseEntity<ProductSearchResponse> search(
+			@RequestParam(name = "q", required = false) final String query, 
+			@RequestParam(name = "category", required = false) final String category, 
+			@RequestParam(name = "minPrice", required = false) final Double minPrice, 
+			@RequestParam(name = "maxPrice", required = false) final Double maxPrice, 
+			@RequestParam(name = "page", required = false) final Integer page, 
+			@RequestParam(name = "size", required = false) final Integer size) {
+		log.info("*** ProductSearchResponse, resource; search products *");
+		return ResponseEntity.ok(this.productSearchService.search(query, category, minPrice, maxPrice, page, size));
 	}
 	
 	@GetMapping("/{productId}")
@@ -53,6 +107,15 @@ public class ProductResource {
 		return ResponseEntity.ok(this.productService.save(productDto));
 	}
 	
+	@PostMapping("/bulk")
+	public ResponseEntity<List<ProductDto>> saveAll(
+			@RequestBody 
+			@NotNull(message = "Input must not be NULL!") 
+			@Valid final List<ProductDto> productDtos) {
+		log.info("*** ProductDto List, resource; save products in bulk *");
+		return ResponseEntity.ok(this.productService.saveAll(productDtos));
+	}
+	
 	@PutMapping
 	public ResponseEntity<ProductDto> update(
 			@RequestBody 
@@ -81,6 +144,62 @@ public class ProductResource {
 		return ResponseEntity.ok(true);
 	}
 	
+	@PostMapping("/batch")
+	public ResponseEntity<Map<Integer, ProductDto>> findAllByIds(
+			@RequestBody 
+			@NotNull(message = "Input must not be NULL!") 
+			@Valid final Set<Integer> productIds) {
+		log.info("*** ProductDto Map, resource; fetch products by ids *");
+		return ResponseEntity.ok(this.productService.findAllByIds(productIds));
+	}
+	
+	@PostMapping("/{productId}/reserve")
+	public ResponseEntity<Boolean> reserve(
+			@PathVariable("productId") 
+			@NotBlank(message = "Input must not be blank") 
+			@Valid final String productId, 
+			@RequestBody 
+			@NotNull(message = "Input must not be NULL") 
+			@Valid final StockReservationDto stockReservationDto) {
+		log.info("*** Boolean, resource; reserve product stock *");
+		this.stockService.reserve(Integer.parseInt(productId), stockReservationDto.getQuantity());
+		return ResponseEntity.ok(true);
+	}
+	
+	@PostMapping("/{productId}/release")
+	public ResponseEntity<Boolean> release(
+			@PathVariable("productId") 
+			@NotBlank(message = "Input must not be blank") 
+			@Valid final String productId, 
+			@RequestBody 
+			@NotNull(message = "Input must not be NULL") 
+			@Valid final StockReservationDto stockReservationDto) {
+		log.info("*** Boolean, resource; release product stock *");
+		this.stockService.release(Integer.parseInt(productId), stockReservationDto.getQuantity());
+		return ResponseEntity.ok(true);
+	}
+	
+	@PostMapping("/reserve")
+	public ResponseEntity<Boolean> reserveAll(
+			@RequestBody 
+			@NotNull(message = "Input must not be NULL") 
+			@Valid final List<StockReservationDto> stockReservationDtos) {
+		log.info("*** Boolean, resource; reserve stock of all order lines *");
+		this.stockService.reserveAll(stockReservationDtos);
+		return ResponseEntity.ok(true);
+	}
+	
+	@PostMapping("/release")
+	public ResponseEntity<Boolean> releaseAll(
+			@RequestBody 
+			@NotNull(message = "Input must not be NULL") 
+			@Valid final List<StockReservationDto> stockReservationDtos) {
+		log.info("*** Boolean, resource; release stock of all order lines *");
+		this.stockService.releaseAll(stockReservationDtos);
+		return ResponseEntity.ok(true);
+	}
+	
+	
 	
 	
 }
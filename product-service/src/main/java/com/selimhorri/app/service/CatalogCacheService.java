@@ -0,0 +1,37 @@
+package com.selimhorri.app.service;
+
+import java.util.function.Supplier;
+
+import org.springframework.http.CacheControl;
+
+import lombok.Value;
+
+public interface CatalogCacheService {
+	
+	CachedResponse get(final String key, final Supplier<?> loader);
+	void invalidate();
+	void stockChanged();
+	CacheControl cacheControl();
+	
+	@Value
+	class CachedResponse {
+		long version;
+		long stockVersion;
+		long renderedAt;
+		String etag;
+		byte[] body;
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
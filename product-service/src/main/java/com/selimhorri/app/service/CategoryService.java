@@ -1,16 +1,21 @@
 package com.selimhorri.app.service;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import com.selimhorri.app.dto.CategoryDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 
 public interface CategoryService {
 	
 	List<CategoryDto> findAll();
+	DtoCollectionResponse<CategoryDto> findAll(final Integer page, final Integer size, final String cursor);
 	CategoryDto findById(final Integer categoryId);
 	CategoryDto save(final CategoryDto categoryDto);
 	CategoryDto update(final CategoryDto categoryDto);
 	CategoryDto update(final Integer categoryId, final CategoryDto categoryDto);
 	void deleteById(final Integer categoryId);
+	Map<Integer, CategoryDto> findAllByIds(final Set<Integer> categoryIds);
 	
 }
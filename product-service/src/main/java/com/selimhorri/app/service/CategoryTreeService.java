@@ -0,0 +1,16 @@
+package com.selimhorri.app.service;
+
+import java.util.List;
+
+import com.selimhorri.app.dto.CategoryDto;
+
+public interface CategoryTreeService {
+	
+	CategoryDto findTree(final Integer categoryId);
+	List<CategoryDto> findAncestors(final Integer categoryId);
+	List<Integer> findSubtreeIds(final Integer categoryId);
+	void refresh();
+	void put(final CategoryDto categoryDto);
+	void remove(final Integer categoryId);
+	
+}
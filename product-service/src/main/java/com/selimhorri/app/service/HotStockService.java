@@ -0,0 +1,11 @@
+package com.selimhorri.app.service;
+
+public interface HotStockService {
+	
+	boolean isHot(final Integer productId);
+	boolean reserve(final Integer productId, final Integer quantity);
+	void release(final Integer productId, final Integer quantity);
+	void remove(final Integer productId);
+	void flush();
+	
+}
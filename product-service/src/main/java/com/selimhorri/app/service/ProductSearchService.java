@@ -0,0 +1,17 @@
+package com.selimhorri.app.service;
+
+import java.util.Collection;
+
+import com.selimhorri.app.dto.response.search.ProductSearchResponse;
+
+public interface ProductSearchService {
+	
+	ProductSearchResponse search(final String query, final String category, final Double minPrice, final Double maxPrice, 
+			final Integer page, final Integer size);
+	void rebuild();
+	void reindex(final Integer productId);
+	void reindexAll(final Collection<Integer> productIds);
+	void reindexCategory(final Integer categoryId);
+	void remove(final Integer productId);
+	
+}
@@ -1,16 +1,24 @@
 package com.selimhorri.app.service;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 
 import com.selimhorri.app.dto.ProductDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 
 public interface ProductService {
 	
 	List<ProductDto> findAll();
+	DtoCollectionResponse<ProductDto> findAll(final Integer page, final Integer size, final String cursor);
 	ProductDto findById(final Integer productId);
 	ProductDto save(final ProductDto productDto);
+	List<ProductDto> saveAll(final List<ProductDto> productDtos);
 	ProductDto update(final ProductDto productDto);
 	ProductDto update(final Integer productId, final ProductDto productDto);
 	void deleteById(final Integer productId);
+	Map<Integer, ProductDto> findAllByIds(final Set<Integer> productIds);
+	void streamAll(final Consumer<ProductDto> consumer);
 	
 }
@@ -0,0 +1,14 @@
+package com.selimhorri.app.service;
+
+import java.util.List;
+
+import com.selimhorri.app.dto.StockReservationDto;
+
+public interface StockService {
+	
+	void reserve(final Integer productId, final Integer quantity);
+	void release(final Integer productId, final Integer quantity);
+	void reserveAll(final List<StockReservationDto> stockReservationDtos);
+	void releaseAll(final List<StockReservationDto> stockReservationDtos);
+	
+}
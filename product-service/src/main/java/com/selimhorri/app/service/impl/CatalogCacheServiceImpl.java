@@ -0,0 +1,145 @@
+package com.selimhorri.app.service.impl;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.DigestUtils;
+import org.springframework.util.unit.DataSize;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.selimhorri.app.service.CatalogCacheService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Serialized catalog reads, stamped with the catalog version they were rendered at. Every write 
+ * bumps the version once its transaction commits, which retires all stamped bodies at once, so until 
+ * the next write a repeated read is a map lookup: no query, no Jackson. The version is read before 
+ * the data, so a body rendered concurrently with a commit is stamped with the older version.
+ * <p>
+ * Stock moves with every checkout, so stock writes do not retire bodies: a body rendered before the 
+ * latest stock change is still served until it is app.catalog-cache.stock-max-staleness old, which 
+ * bounds how stale a listed quantity may be while keeping listings cached under checkout traffic.
+ * <p>
+ * The strong ETag is a digest of the rendered bytes rather than the version itself: instances count 
+ * their own writes, and a digest is the same on every instance holding the same catalog. Writes made 
+ * through another instance are picked up when bodies expire, as with the products cache.
+ * <p>
+ * Browsers revalidate on every read, while shared caches such as the gateway may keep a body for 
+ * the shared max age, which bounds how long a write goes unseen at the edge.
+ */
+@Service
+@Slf4j
+public class CatalogCacheServiceImpl implements CatalogCacheService {
+	
+	private final ObjectMapper objectMapper;
+	private final AtomicLong version = new AtomicLong();
+	private final AtomicLong stockVersion = new AtomicLong();
+	private final Cache<String, CachedResponse> responses;
+	private final CacheControl cacheControl;
+	private final long stockMaxStaleness;
+	private final Counter hits;
+	private final Counter misses;
+	
+	public CatalogCacheServiceImpl(
+			final ObjectMapper objectMapper, 
+			final MeterRegistry meterRegistry, 
+			@Value("${app.catalog-cache.max-size:64MB}") final DataSize maxSize, 
+			@Value("${app.catalog-cache.expire-after-write:10m}") final Duration expireAfterWrite, 
+			@Value("${app.catalog-cache.shared-max-age:30s}") final Duration sharedMaxAge, 
+			@Value("${app.catalog-cache.stock-max-staleness:30s}") final Duration stockMaxStaleness) {
+		this.objectMapper = objectMapper;
+		this.stockMaxStaleness = stockMaxStaleness.toNanos();
+		this.hits = meterRegistry.counter("catalog.cache.requests", "result", "hit");
+		this.misses = meterRegistry.counter("catalog.cache.requests", "result", "miss");
+		this.responses = Caffeine.newBuilder()
+				.maximumWeight(maxSize.toBytes())
+				.weigher((final String key, final CachedResponse response) -> response.getBody().length)
+				.expireAfterWrite(expireAfterWrite)
+				.build();
+		this.cacheControl = CacheControl.maxAge(Duration.ZERO)
+				.mustRevalidate()
+				.sMaxAge(sharedMaxAge);
+	}
+	
+	@Override
+	public CachedResponse get(final String key, final Supplier<?> loader) {
+		final long current = this.version.get();
+		final long currentStock = this.stockVersion.get();
+		final long now = System.nanoTime();
+		final CachedResponse cached = this.responses.getIfPresent(key);
+		if (cached != null && cached.getVersion() == current 
+				&& (cached.getStockVersion() == currentStock || now - cached.getRenderedAt() < this.stockMaxStaleness)) {
+			this.hits.increment();
+			return cached;
+		}
+		this.misses.increment();
+		log.info("*** CachedResponse, service; render catalog response {} at version {} *", key, current);
+		final byte[] body;
+		try {
+			body = this.objectMapper.writeValueAsBytes(loader.get());
+		}
+		catch (JsonProcessingException e) {
+			throw new IllegalStateException(String.format("Could not render catalog response %s", key), e);
+		}
+		final CachedResponse rendered = new CachedResponse(current, currentStock, now, "\"" + DigestUtils.md5DigestAsHex(body) + "\"", body);
+		this.responses.put(key, rendered);
+		return rendered;
+	}
+	
+	@Override
+	public void invalidate() {
+		if (TransactionSynchronizationManager.isSynchronizationActive())
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					version.incrementAndGet();
+				}
+			});
+		else
+			this.version.incrementAndGet();
+	}
+	
+	@Override
+	public void stockChanged() {
+		if (TransactionSynchronizationManager.isSynchronizationActive())
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					stockVersion.incrementAndGet();
+				}
+			});
+		else
+			this.stockVersion.incrementAndGet();
+	}
+	
+	@Override
+	public CacheControl cacheControl() {
+		return this.cacheControl;
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
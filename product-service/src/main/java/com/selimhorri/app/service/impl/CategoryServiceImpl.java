@@ -1,17 +1,32 @@
 package com.selimhorri.app.service.impl;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import javax.transaction.Transactional;
 
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
+import com.selimhorri.app.config.cache.CacheConfig;
+import com.selimhorri.app.domain.Category;
 import com.selimhorri.app.dto.CategoryDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 import com.selimhorri.app.exception.wrapper.CategoryNotFoundException;
+import com.selimhorri.app.helper.BatchQueryHelper;
 import com.selimhorri.app.helper.CategoryMappingHelper;
+import com.selimhorri.app.helper.PageHelper;
+import com.selimhorri.app.helper.StreamHelper;
 import com.selimhorri.app.repository.CategoryRepository;
+import com.selimhorri.app.service.CatalogCacheService;
 import com.selimhorri.app.service.CategoryService;
+import com.selimhorri.app.service.CategoryTreeService;
+import com.selimhorri.app.service.ProductSearchService;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -23,17 +38,33 @@ import lombok.extern.slf4j.Slf4j;
 public class CategoryServiceImpl implements CategoryService {
 	
 	private final CategoryRepository categoryRepository;
+	private final CategoryTreeService categoryTreeService;
+	private final ProductSearchService productSearchService;
+	private final CatalogCacheService catalogCacheService;
 	
 	@Override
 	public List<CategoryDto> findAll() {
 		log.info("*** CategoryDto List, service; fetch all categorys *");
 		return this.categoryRepository.findAll()
 				.stream()
+					.filter(StreamHelper.distinctBy(Category::getCategoryId))
 					.map(CategoryMappingHelper::map)
-					.distinct()
 					.collect(Collectors.toUnmodifiableList());
 	}
 	
+	@Override
+	public DtoCollectionResponse<CategoryDto> findAll(final Integer page, final Integer size, final String cursor) {
+		log.info("*** CategoryDto Page, service; fetch categories page *");
+		final Slice<Category> categorys = (cursor == null) 
+				? this.categoryRepository.findAllBy(PageHelper.pageable(page, size, Sort.by("categoryId"))) 
+				: this.categoryRepository.findByCategoryIdGreaterThan(PageHelper
+						.decodeCursor(cursor, keys -> Integer.parseInt(keys[0])), PageHelper.pageable(0, size, Sort.by("categoryId")));
+		return PageHelper.collectionResponse(categorys, categorys.stream()
+					.map(CategoryMappingHelper::map)
+					.collect(Collectors.toUnmodifiableList()), 
+				cursor != null, d -> PageHelper.encodeCursor(d.getCategoryId()));
+	}
+	
 	@Override
 	public CategoryDto findById(final Integer categoryId) {
 		log.info("*** CategoryDto, service; fetch category by id *");
@@ -45,28 +76,55 @@ public class CategoryServiceImpl implements CategoryService {
 	@Override
 	public CategoryDto save(final CategoryDto categoryDto) {
 		log.info("*** CategoryDto, service; save category *");
-		return CategoryMappingHelper.map(this.categoryRepository
+		final CategoryDto saved = CategoryMappingHelper.map(this.categoryRepository
 				.save(CategoryMappingHelper.map(categoryDto)));
+		this.categoryTreeService.put(saved);
+		this.catalogCacheService.invalidate();
+		return saved;
 	}
 	
 	@Override
+	@CacheEvict(cacheNames = CacheConfig.PRODUCTS_CACHE, allEntries = true)
 	public CategoryDto update(final CategoryDto categoryDto) {
 		log.info("*** CategoryDto, service; update category *");
-		return CategoryMappingHelper.map(this.categoryRepository
+		final CategoryDto saved = CategoryMappingHelper.map(this.categoryRepository
 				.save(CategoryMappingHelper.map(categoryDto)));
+		this.categoryTreeService.put(saved);
+		this.productSearchService.reindexCategory(saved.getCategoryId());
+		this.catalogCacheService.invalidate();
+		return saved;
 	}
 	
 	@Override
+	@CacheEvict(cacheNames = CacheConfig.PRODUCTS_CACHE, allEntries = true)
 	public CategoryDto update(final Integer categoryId, final CategoryDto categoryDto) {
 		log.info("*** CategoryDto, service; update category with categoryId *");
-		return CategoryMappingHelper.map(this.categoryRepository
+		final CategoryDto saved = CategoryMappingHelper.map(this.categoryRepository
 				.save(CategoryMappingHelper.map(this.findById(categoryId))));
+		this.categoryTreeService.put(saved);
+		this.productSearchService.reindexCategory(saved.getCategoryId());
+		this.catalogCacheService.invalidate();
+		return saved;
 	}
 	
 	@Override
+	@CacheEvict(cacheNames = CacheConfig.PRODUCTS_CACHE, allEntries = true)
 	public void deleteById(final Integer categoryId) {
 		log.info("*** Void, service; delete category by id *");
+		final List<Integer> subtreeIds = this.categoryTreeService.findSubtreeIds(categoryId);
 		this.categoryRepository.deleteById(categoryId);
+		this.categoryTreeService.remove(categoryId);
+		subtreeIds.forEach(this.productSearchService::reindexCategory);
+		this.catalogCacheService.invalidate();
+	}
+	
+	@Override
+	public Map<Integer, CategoryDto> findAllByIds(final Set<Integer> categoryIds) {
+		log.info("*** CategoryDto Map, service; fetch categorys by ids *");
+		return BatchQueryHelper.findAllByIdInChunks(this.categoryRepository, categoryIds)
+				.stream()
+					.map(CategoryMappingHelper::map)
+					.collect(Collectors.toUnmodifiableMap(CategoryDto::getCategoryId, Function.identity()));
 	}
 	
 	
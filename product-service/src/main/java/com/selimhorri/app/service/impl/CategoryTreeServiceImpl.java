@@ -0,0 +1,316 @@
+package com.selimhorri.app.service.impl;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.selimhorri.app.domain.projection.CategoryTreeRow;
+import com.selimhorri.app.dto.CategoryDto;
+import com.selimhorri.app.exception.wrapper.CategoryNotFoundException;
+import com.selimhorri.app.repository.CategoryRepository;
+import com.selimhorri.app.service.CategoryTreeService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Serves the category hierarchy from an immutable in-memory snapshot, loaded with a single 
+ * query and replaced copy-on-write when categories are written through {@link CategoryServiceImpl}. 
+ * A write copies the snapshot's maps shallowly and patches only what it touches: the child list of 
+ * the old and new parent, and the ancestor paths of the written category's subtree when it moves.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class CategoryTreeServiceImpl implements CategoryTreeService {
+	
+	private final CategoryRepository categoryRepository;
+	private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+	
+	@EventListener(ApplicationReadyEvent.class)
+	public void onApplicationReady() {
+		this.refresh();
+	}
+	
+	@Override
+	public CategoryDto findTree(final Integer categoryId) {
+		log.info("*** CategoryDto, service; fetch category tree by id *");
+		final Snapshot current = this.current();
+		return current.tree(current.node(categoryId));
+	}
+	
+	@Override
+	public List<CategoryDto> findAncestors(final Integer categoryId) {
+		log.info("*** CategoryDto List, service; fetch category ancestors by id *");
+		final Snapshot current = this.current();
+		current.node(categoryId);
+		return current.ancestors.getOrDefault(categoryId, List.of())
+				.stream()
+					.map(id -> current.nodes.get(id).toDto())
+					.collect(Collectors.toUnmodifiableList());
+	}
+	
+	/**
+	 * The category followed by all of its descendants; an unknown category yields just its own id.
+	 */
+	@Override
+	public List<Integer> findSubtreeIds(final Integer categoryId) {
+		log.info("*** Integer List, service; fetch category subtree ids by id *");
+		return this.current().subtreeOf(categoryId);
+	}
+	
+	@Override
+	public void refresh() {
+		log.info("*** Void, service; load category tree *");
+		this.snapshot.set(Snapshot.of(this.categoryRepository.findAllTreeRows()
+				.stream()
+					.map(Node::new)
+					.collect(Collectors.toMap(Node::getCategoryId, n -> n))));
+	}
+	
+	@Override
+	public void put(final CategoryDto categoryDto) {
+		if (categoryDto == null || categoryDto.getCategoryId() == null)
+			return;
+		final Node node = new Node(categoryDto.getCategoryId(), categoryDto.getCategoryTitle(), categoryDto.getImageUrl(), 
+				(categoryDto.getParentCategoryDto() != null) ? categoryDto.getParentCategoryDto().getCategoryId() : null);
+		this.afterCommit(s -> s.with(node));
+	}
+	
+	@Override
+	public void remove(final Integer categoryId) {
+		this.afterCommit(s -> s.without(categoryId));
+	}
+	
+	private Snapshot current() {
+		final Snapshot current = this.snapshot.get();
+		if (current != null)
+			return current;
+		this.refresh();
+		return this.snapshot.get();
+	}
+	
+	/**
+	 * Applies the change once the surrounding transaction commits, so rolled back writes never 
+	 * reach the tree. Until the first load there is nothing to update; that load reads committed state.
+	 */
+	private void afterCommit(final UnaryOperator<Snapshot> change) {
+		final Runnable apply = () -> this.snapshot.getAndUpdate(s -> (s == null) ? null : change.apply(s));
+		if (TransactionSynchronizationManager.isSynchronizationActive())
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					apply.run();
+				}
+			});
+		else
+			apply.run();
+	}
+	
+	@Value
+	private static class Node {
+		
+		Integer categoryId;
+		String categoryTitle;
+		String imageUrl;
+		Integer parentCategoryId;
+		
+		Node(final CategoryTreeRow row) {
+			this(row.getCategoryId(), row.getCategoryTitle(), row.getImageUrl(), row.getParentCategoryId());
+		}
+		
+		Node(final Integer categoryId, final String categoryTitle, final String imageUrl, final Integer parentCategoryId) {
+			this.categoryId = categoryId;
+			this.categoryTitle = categoryTitle;
+			this.imageUrl = imageUrl;
+			this.parentCategoryId = parentCategoryId;
+		}
+		
+		CategoryDto toDto() {
+			return CategoryDto.builder()
+					.categoryId(this.categoryId)
+					.categoryTitle(this.categoryTitle)
+					.imageUrl(this.imageUrl)
+					.build();
+		}
+		
+	}
+	
+	private static final class Snapshot {
+		
+		private final Map<Integer, Node> nodes;
+		private final Map<Integer, List<Integer>> children;
+		private final Map<Integer, List<Integer>> ancestors;
+		
+		/**
+		 * Takes ownership of the given maps, which are never modified once the snapshot is published.
+		 */
+		private Snapshot(final Map<Integer, Node> nodes, final Map<Integer, List<Integer>> children, final Map<Integer, List<Integer>> ancestors) {
+			this.nodes = nodes;
+			this.children = children;
+			this.ancestors = ancestors;
+		}
+		
+		/**
+		 * Children are grouped by parent id even when that parent is missing, so a category 
+		 * written later under that id picks them up without a rebuild.
+		 */
+		static Snapshot of(final Map<Integer, Node> nodes) {
+			final Map<Integer, List<Integer>> children = nodes.values()
+					.stream()
+						.filter(n -> n.getParentCategoryId() != null)
+						.sorted(Comparator.comparing(Node::getCategoryId))
+						.collect(Collectors.groupingBy(Node::getParentCategoryId, 
+								Collectors.mapping(Node::getCategoryId, Collectors.toUnmodifiableList())));
+			final Map<Integer, List<Integer>> ancestors = new HashMap<>();
+			nodes.keySet().forEach(id -> ancestors.put(id, pathOf(nodes, id)));
+			return new Snapshot(new HashMap<>(nodes), children, ancestors);
+		}
+		
+		/**
+		 * Root-first ancestor path of the given category; a parent cycle in the data ends the walk.
+		 */
+		private static List<Integer> pathOf(final Map<Integer, Node> nodes, final Integer categoryId) {
+			final Deque<Integer> path = new ArrayDeque<>();
+			final Set<Integer> seen = new HashSet<>(List.of(categoryId));
+			Integer parentId = nodes.get(categoryId).getParentCategoryId();
+			while (parentId != null && nodes.containsKey(parentId) && seen.add(parentId)) {
+				path.addFirst(parentId);
+				parentId = nodes.get(parentId).getParentCategoryId();
+			}
+			return List.copyOf(path);
+		}
+		
+		private static List<Integer> subtreeOf(final Map<Integer, List<Integer>> children, final Integer categoryId) {
+			final Set<Integer> subtree = new LinkedHashSet<>();
+			final Deque<Integer> pending = new ArrayDeque<>(List.of(categoryId));
+			while (!pending.isEmpty()) {
+				final Integer id = pending.pop();
+				if (subtree.add(id))
+					pending.addAll(children.getOrDefault(id, List.of()));
+			}
+			return List.copyOf(subtree);
+		}
+		
+		private static void attach(final Map<Integer, List<Integer>> children, final Integer parentId, final Integer categoryId) {
+			if (parentId == null)
+				return;
+			final List<Integer> siblings = new ArrayList<>(children.getOrDefault(parentId, List.of()));
+			siblings.add(categoryId);
+			siblings.sort(Comparator.naturalOrder());
+			children.put(parentId, List.copyOf(siblings));
+		}
+		
+		private static void detach(final Map<Integer, List<Integer>> children, final Integer parentId, final Integer categoryId) {
+			if (parentId == null || !children.containsKey(parentId))
+				return;
+			final List<Integer> siblings = children.get(parentId)
+					.stream()
+						.filter(id -> !id.equals(categoryId))
+						.collect(Collectors.toUnmodifiableList());
+			if (siblings.isEmpty())
+				children.remove(parentId);
+			else
+				children.put(parentId, siblings);
+		}
+		
+		Node node(final Integer categoryId) {
+			final Node node = this.nodes.get(categoryId);
+			if (node == null)
+				throw new CategoryNotFoundException(String.format("Category with id: %d not found", categoryId));
+			return node;
+		}
+		
+		CategoryDto tree(final Node node) {
+			return this.tree(node, new HashSet<>(List.of(node.getCategoryId())));
+		}
+		
+		/**
+		 * Subtree below the given category; as in {@link #pathOf(Map, Integer)}, a parent cycle in the data ends the descent.
+		 */
+		private CategoryDto tree(final Node node, final Set<Integer> seen) {
+			final CategoryDto categoryDto = node.toDto();
+			final List<Integer> childIds = this.children.getOrDefault(node.getCategoryId(), List.of())
+					.stream()
+						.filter(seen::add)
+						.collect(Collectors.toUnmodifiableList());
+			if (!childIds.isEmpty())
+				categoryDto.setSubCategoriesDtos(childIds.stream()
+						.map(id -> this.tree(this.nodes.get(id), seen))
+						.collect(Collectors.toCollection(LinkedHashSet::new)));
+			return categoryDto;
+		}
+		
+		List<Integer> subtreeOf(final Integer categoryId) {
+			return subtreeOf(this.children, categoryId);
+		}
+		
+		/**
+		 * A write that keeps the parent only replaces the node; a new or moved category is also 
+		 * re-attached, and the ancestor paths of its subtree are walked again.
+		 */
+		Snapshot with(final Node node) {
+			final Integer categoryId = node.getCategoryId();
+			final Node previous = this.nodes.get(categoryId);
+			final Map<Integer, Node> nodes = new HashMap<>(this.nodes);
+			nodes.put(categoryId, node);
+			if (previous != null && Objects.equals(previous.getParentCategoryId(), node.getParentCategoryId()))
+				return new Snapshot(nodes, this.children, this.ancestors);
+			final Map<Integer, List<Integer>> children = new HashMap<>(this.children);
+			if (previous != null)
+				detach(children, previous.getParentCategoryId(), categoryId);
+			attach(children, node.getParentCategoryId(), categoryId);
+			final Map<Integer, List<Integer>> ancestors = new HashMap<>(this.ancestors);
+			subtreeOf(children, categoryId).forEach(id -> ancestors.put(id, pathOf(nodes, id)));
+			return new Snapshot(nodes, children, ancestors);
+		}
+		
+		Snapshot without(final Integer categoryId) {
+			final Node removed = this.nodes.get(categoryId);
+			if (removed == null)
+				return this;
+			final Map<Integer, Node> nodes = new HashMap<>(this.nodes);
+			final Map<Integer, List<Integer>> children = new HashMap<>(this.children);
+			final Map<Integer, List<Integer>> ancestors = new HashMap<>(this.ancestors);
+			this.subtreeOf(categoryId).forEach(id -> {
+				nodes.remove(id);
+				children.remove(id);
+				ancestors.remove(id);
+			});
+			detach(children, removed.getParentCategoryId(), categoryId);
+			return new Snapshot(nodes, children, ancestors);
+		}
+		
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
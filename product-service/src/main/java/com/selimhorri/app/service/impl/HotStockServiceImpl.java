@@ -0,0 +1,241 @@
+package com.selimhorri.app.service.impl;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.selimhorri.app.config.cache.CacheConfig;
+import com.selimhorri.app.domain.StockLedgerCheckpoint;
+import com.selimhorri.app.repository.ProductRepository;
+import com.selimhorri.app.repository.StockLedgerCheckpointRepository;
+import com.selimhorri.app.service.CatalogCacheService;
+import com.selimhorri.app.service.HotStockService;
+import com.selimhorri.app.service.ProductSearchService;
+import com.selimhorri.app.stock.StockJournal;
+import com.selimhorri.app.stock.StripedStockCounter;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-memory stock ledger for the products flagged in app.stock.hot.product-ids. Reservations of 
+ * those products never touch their row: they are taken from a striped counter, made durable in the 
+ * journal, and their net deltas are written to products.quantity in one batch per flush interval. 
+ * On startup, deltas journaled after the last stored checkpoint are replayed before the counters 
+ * are loaded, so a crash loses no acknowledged reservation.
+ * <p>
+ * A reservation is journaled before the surrounding transaction commits. A crash between the two 
+ * therefore replays a reservation the client was never granted: the product is undersold by those 
+ * units until it is restocked, but never oversold.
+ * <p>
+ * While flagged, the ledger owns the product's stock: products.quantity lags by up to one flush 
+ * interval, product writes that would replace its quantity are rejected, and only one instance 
+ * may flag a given product.
+ */
+@Service
+@Slf4j
+public class HotStockServiceImpl implements HotStockService {
+	
+	private final ProductRepository productRepository;
+	private final StockLedgerCheckpointRepository stockLedgerCheckpointRepository;
+	private final ProductSearchService productSearchService;
+	private final CatalogCacheService catalogCacheService;
+	private final CacheManager cacheManager;
+	private final TransactionTemplate transactionTemplate;
+	private final Set<Integer> productIds;
+	private final int stripes;
+	private final Duration flushInterval;
+	private final Path journalDirectory;
+	private final String ledgerId;
+	private final Map<Integer, StripedStockCounter> counters = new ConcurrentHashMap<>();
+	private StockJournal journal;
+	private ScheduledExecutorService flusher;
+	
+	public HotStockServiceImpl(
+			final ProductRepository productRepository, 
+			final StockLedgerCheckpointRepository stockLedgerCheckpointRepository, 
+			final ProductSearchService productSearchService, 
+			final CatalogCacheService catalogCacheService, 
+			final CacheManager cacheManager, 
+			final PlatformTransactionManager transactionManager, 
+			@Value("${app.stock.hot.product-ids:}") final Set<Integer> productIds, 
+			@Value("${app.stock.hot.stripes:16}") final int stripes, 
+			@Value("${app.stock.hot.flush-interval:1s}") final Duration flushInterval, 
+			@Value("${app.stock.hot.journal-directory:data/stock-journal}") final Path journalDirectory, 
+			@Value("${app.stock.hot.ledger-id:${spring.application.name:product-service}}") final String ledgerId) {
+		this.productRepository = productRepository;
+		this.stockLedgerCheckpointRepository = stockLedgerCheckpointRepository;
+		this.productSearchService = productSearchService;
+		this.catalogCacheService = catalogCacheService;
+		this.cacheManager = cacheManager;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.productIds = (productIds == null) ? Collections.emptySet() : Set.copyOf(productIds);
+		this.stripes = stripes;
+		this.flushInterval = flushInterval;
+		this.journalDirectory = journalDirectory;
+		this.ledgerId = ledgerId;
+	}
+	
+	@PostConstruct
+	public void start() {
+		if (this.productIds.isEmpty())
+			return;
+		log.info("*** Void, service; recover hot stock ledger *");
+		final long checkpoint = this.stockLedgerCheckpointRepository.findById(this.ledgerId)
+				.map(StockLedgerCheckpoint::getFlushedSequence)
+				.orElse(0L);
+		final StockJournal.Replay replay = StockJournal.replay(this.journalDirectory, checkpoint);
+		if (!replay.getDeltas().isEmpty()) {
+			log.info("*** Replaying {} unflushed hot stock deltas up to sequence {} *", replay.getDeltas().size(), replay.getLastSequence());
+			this.store(replay.getDeltas(), replay.getLastSequence());
+		}
+		this.journal = StockJournal.open(this.journalDirectory, replay.getLastSequence());
+		this.productRepository.findAllById(this.productIds).forEach(product -> this.counters.put(product.getProductId(), 
+				new StripedStockCounter(this.stripes, (product.getQuantity() == null) ? 0 : product.getQuantity())));
+		this.flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+			final Thread thread = new Thread(r, "hot-stock-flusher");
+			thread.setDaemon(true);
+			return thread;
+		});
+		this.flusher.scheduleWithFixedDelay(this::flush, this.flushInterval.toMillis(), this.flushInterval.toMillis(), TimeUnit.MILLISECONDS);
+		log.info("*** Hot stock ledger holds products {} *", new TreeMap<>(this.counters).keySet());
+	}
+	
+	@Override
+	public boolean isHot(final Integer productId) {
+		return this.counters.containsKey(productId);
+	}
+	
+	@Override
+	public boolean reserve(final Integer productId, final Integer quantity) {
+		final StripedStockCounter counter = this.counters.get(productId);
+		if (!counter.reserve(quantity))
+			return false;
+		try {
+			this.journal.append(productId, -quantity);
+		}
+		catch (RuntimeException e) {
+			counter.release(quantity);
+			throw e;
+		}
+		return true;
+	}
+	
+	@Override
+	public void release(final Integer productId, final Integer quantity) {
+		final StripedStockCounter counter = this.counters.get(productId);
+		this.journal.append(productId, quantity);
+		counter.release(quantity);
+	}
+	
+	/**
+	 * Drops the counter of a deleted product once the delete commits, so its later reservations 
+	 * are answered from the missing row instead of the ledger.
+	 */
+	@Override
+	public void remove(final Integer productId) {
+		if (!this.isHot(productId))
+			return;
+		if (TransactionSynchronizationManager.isSynchronizationActive())
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					counters.remove(productId);
+				}
+			});
+		else
+			this.counters.remove(productId);
+	}
+	
+	/**
+	 * Writes the net delta of every hot product since the previous flush, together with the 
+	 * journal checkpoint, in one transaction; on failure the deltas are kept for the next flush.
+	 */
+	@Override
+	public synchronized void flush() {
+		if (this.journal == null)
+			return;
+		try {
+			final StockJournal.Checkpoint checkpoint = this.journal.checkpoint();
+			if (checkpoint == null)
+				return;
+			try {
+				this.store(checkpoint.getDeltas(), checkpoint.getSequence());
+			}
+			catch (RuntimeException e) {
+				this.journal.aborted(checkpoint);
+				throw e;
+			}
+			this.journal.committed(checkpoint);
+			checkpoint.getDeltas().keySet().forEach(this::stockChanged);
+		}
+		catch (RuntimeException e) {
+			log.warn("*** Hot stock flush failed, retrying next interval: {} *", e.getMessage());
+		}
+	}
+	
+	@PreDestroy
+	public void shutdown() {
+		if (this.journal == null)
+			return;
+		this.flusher.shutdown();
+		try {
+			this.flusher.awaitTermination(this.flushInterval.toMillis() * 2, TimeUnit.MILLISECONDS);
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		this.flush();
+		this.journal.close();
+	}
+	
+	private void store(final Map<Integer, Long> deltas, final long sequence) {
+		this.transactionTemplate.executeWithoutResult(status -> {
+			// ascending ids, same lock order as StockService.reserveAll
+			new TreeMap<>(deltas).forEach((productId, delta) -> {
+				if (this.productRepository.adjustStock(productId, Math.toIntExact(delta)) != 1)
+					log.warn("*** Dropping hot stock delta {} of missing product {} *", delta, productId);
+			});
+			this.stockLedgerCheckpointRepository.save(new StockLedgerCheckpoint(this.ledgerId, sequence));
+		});
+	}
+	
+	private void stockChanged(final Integer productId) {
+		final Cache products = this.cacheManager.getCache(CacheConfig.PRODUCTS_CACHE);
+		if (products != null)
+			products.evict(productId);
+		this.productSearchService.reindex(productId);
+		this.catalogCacheService.stockChanged();
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
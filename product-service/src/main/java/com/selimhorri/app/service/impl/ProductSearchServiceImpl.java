@@ -0,0 +1,451 @@
+package com.selimhorri.app.service.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.annotation.PreDestroy;
+import javax.persistence.EntityManager;
+import javax.transaction.Transactional;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.selimhorri.app.domain.Product;
+import com.selimhorri.app.dto.ProductDto;
+import com.selimhorri.app.dto.response.search.ProductSearchResponse;
+import com.selimhorri.app.helper.BatchQueryHelper;
+import com.selimhorri.app.helper.PageHelper;
+import com.selimhorri.app.helper.ProductMappingHelper;
+import com.selimhorri.app.helper.StreamHelper;
+import com.selimhorri.app.repository.ProductRepository;
+import com.selimhorri.app.service.ProductSearchService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Embedded inverted index over product title, sku and category title. Every product gets a 
+ * stable ordinal; category facets and liveness are bitsets over those ordinals and postings switch 
+ * from a sorted ordinal array to a bitset once dense, so a query is a handful of bitset intersections 
+ * followed by a scan of the matching ordinals only.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class ProductSearchServiceImpl implements ProductSearchService {
+	
+	private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+	
+	private final ProductRepository productRepository;
+	private final EntityManager entityManager;
+	
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+	private final Map<Integer, Integer> ordinals = new HashMap<>();
+	private final List<ProductDto> documents = new ArrayList<>();
+	private final NavigableMap<String, Posting> postings = new TreeMap<>();
+	private final Map<Integer, BitSet> categories = new HashMap<>();
+	private final Map<Integer, String> categoryTitles = new HashMap<>();
+	private final BitSet live = new BitSet();
+	private final Set<Integer> pendingProducts = ConcurrentHashMap.newKeySet();
+	private final ExecutorService indexer = Executors.newSingleThreadExecutor(r -> {
+		final Thread thread = new Thread(r, "product-search-indexer");
+		thread.setDaemon(true);
+		return thread;
+	});
+	private final Map<Integer, Integer> categorySlots = new HashMap<>();
+	private final List<Integer> slotCategories = new ArrayList<>();
+	private int[] documentSlots = new int[0];
+	private double[] documentPrices = new double[0];
+	
+	@EventListener(ApplicationReadyEvent.class)
+	@Transactional
+	public void onApplicationReady() {
+		this.rebuild();
+	}
+	
+	@Override
+	@Transactional
+	public void rebuild() {
+		log.info("*** Void, service; build product search index *");
+		this.lock.writeLock().lock();
+		try {
+			this.ordinals.clear();
+			this.documents.clear();
+			this.postings.clear();
+			this.categories.clear();
+			this.categoryTitles.clear();
+			this.live.clear();
+			this.categorySlots.clear();
+			this.slotCategories.clear();
+			this.documentSlots = new int[0];
+			this.documentPrices = new double[0];
+			try (final Stream<Product> products = this.productRepository.streamAll()) {
+				StreamHelper.forEachChunk(products, chunk -> {
+					chunk.stream()
+						.map(ProductMappingHelper::map)
+						.forEach(this::add);
+					this.entityManager.clear();
+				});
+			}
+			log.info("*** Product search index built with {} products and {} terms *", this.live.cardinality(), this.postings.size());
+		}
+		finally {
+			this.lock.writeLock().unlock();
+		}
+	}
+	
+	@Override
+	public ProductSearchResponse search(final String query, final String category, final Double minPrice, final Double maxPrice, 
+			final Integer page, final Integer size) {
+		log.info("*** ProductSearchResponse, service; search products *");
+		final int pageNumber = (page == null || page < 0) ? 0 : page;
+		final int pageSize = (size == null || size < 1) ? PageHelper.DEFAULT_PAGE_SIZE : Math.min(size, PageHelper.MAX_PAGE_SIZE);
+		
+		this.lock.readLock().lock();
+		try {
+			final BitSet hits = (BitSet) this.live.clone();
+			for (final String term : this.tokenize(query)) {
+				final BitSet matches = new BitSet();
+				this.postings.subMap(term, true, term + Character.MAX_VALUE, true).values().forEach(p -> p.addTo(matches));
+				hits.and(matches);
+			}
+			if (category != null && !category.isBlank())
+				hits.and(this.categoryMatches(category.trim()));
+			
+			if (minPrice != null || maxPrice != null)
+				for (int ordinal = hits.nextSetBit(0); ordinal >= 0; ordinal = hits.nextSetBit(ordinal + 1)) {
+					final double price = this.documentPrices[ordinal];
+					if (Double.isNaN(price) || (minPrice != null && price < minPrice) || (maxPrice != null && price > maxPrice))
+						hits.clear(ordinal);
+				}
+			
+			final int[] slotCounts = new int[this.slotCategories.size()];
+			final List<ProductDto> collection = new ArrayList<>(pageSize);
+			final int skip = pageNumber * pageSize;
+			int total = 0;
+			for (int ordinal = hits.nextSetBit(0); ordinal >= 0; ordinal = hits.nextSetBit(ordinal + 1)) {
+				if (this.documentSlots[ordinal] >= 0)
+					slotCounts[this.documentSlots[ordinal]]++;
+				if (total >= skip && collection.size() < pageSize)
+					collection.add(this.documents.get(ordinal));
+				total++;
+			}
+			final Map<Integer, Integer> facets = new HashMap<>();
+			for (int slot = 0; slot < slotCounts.length; slot++)
+				if (slotCounts[slot] > 0)
+					facets.put(this.slotCategories.get(slot), slotCounts[slot]);
+			
+			return ProductSearchResponse.builder()
+					.collection(List.copyOf(collection))
+					.page(pageNumber)
+					.size(pageSize)
+					.hasNext(total > skip + collection.size())
+					.totalHits(total)
+					.categoryFacets(Map.copyOf(facets))
+					.build();
+		}
+		finally {
+			this.lock.readLock().unlock();
+		}
+	}
+	
+	@Override
+	public void reindex(final Integer productId) {
+		this.afterCommit(() -> {
+			if (this.pendingProducts.add(productId))
+				this.enqueue(() -> this.reload(productId));
+		});
+	}
+	
+	@Override
+	public void reindexAll(final Collection<Integer> productIds) {
+		this.afterCommit(() -> this.enqueue(() -> this.reloadAll(productIds)));
+	}
+	
+	private void reload(final Integer productId) {
+		this.pendingProducts.remove(productId);
+		final ProductDto productDto = this.productRepository.findById(productId)
+				.map(ProductMappingHelper::map)
+				.orElse(null);
+		this.lock.writeLock().lock();
+		try {
+			this.delete(productId);
+			if (productDto != null)
+				this.add(productDto);
+		}
+		finally {
+			this.lock.writeLock().unlock();
+		}
+	}
+	
+	private void reloadAll(final Collection<Integer> productIds) {
+		final List<ProductDto> productDtos = BatchQueryHelper.findAllByIdInChunks(this.productRepository, productIds)
+				.stream()
+					.map(ProductMappingHelper::map)
+					.collect(Collectors.toUnmodifiableList());
+		this.lock.writeLock().lock();
+		try {
+			productIds.forEach(this::delete);
+			productDtos.forEach(this::add);
+		}
+		finally {
+			this.lock.writeLock().unlock();
+		}
+	}
+	
+	@Override
+	public void reindexCategory(final Integer categoryId) {
+		this.afterCommit(() -> this.enqueue(() -> {
+			final List<ProductDto> productDtos = this.productRepository.findAllByCategoryCategoryId(categoryId)
+					.stream()
+						.map(ProductMappingHelper::map)
+						.collect(Collectors.toUnmodifiableList());
+			this.lock.writeLock().lock();
+			try {
+				final List<Integer> indexed = this.categories.getOrDefault(categoryId, new BitSet())
+						.stream()
+							.mapToObj(ordinal -> this.documents.get(ordinal).getProductId())
+							.collect(Collectors.toUnmodifiableList());
+				indexed.forEach(this::delete);
+				this.categoryTitles.remove(categoryId);
+				productDtos.forEach(this::add);
+			}
+			finally {
+				this.lock.writeLock().unlock();
+			}
+		}));
+	}
+	
+	@Override
+	public void remove(final Integer productId) {
+		this.afterCommit(() -> this.enqueue(() -> {
+			this.lock.writeLock().lock();
+			try {
+				this.delete(productId);
+			}
+			finally {
+				this.lock.writeLock().unlock();
+			}
+		}));
+	}
+	
+	private BitSet categoryMatches(final String category) {
+		final BitSet matches = new BitSet();
+		if (category.chars().allMatch(Character::isDigit) && category.length() < 10) {
+			final BitSet byId = this.categories.get(Integer.parseInt(category));
+			if (byId != null)
+				matches.or(byId);
+			return matches;
+		}
+		this.categoryTitles.forEach((categoryId, title) -> {
+			if (title.equalsIgnoreCase(category))
+				matches.or(this.categories.get(categoryId));
+		});
+		return matches;
+	}
+	
+	/**
+	 * Caller holds the write lock. A re-added product keeps its ordinal.
+	 */
+	private void add(final ProductDto productDto) {
+		if (productDto.getProductId() == null)
+			return;
+		final int ordinal = this.ordinals.computeIfAbsent(productDto.getProductId(), id -> {
+			this.documents.add(null);
+			return this.documents.size() - 1;
+		});
+		this.documents.set(ordinal, productDto);
+		this.live.set(ordinal);
+		if (ordinal >= this.documentSlots.length) {
+			final int capacity = Math.max(16, this.documentSlots.length * 2);
+			this.documentSlots = Arrays.copyOf(this.documentSlots, capacity);
+			this.documentPrices = Arrays.copyOf(this.documentPrices, capacity);
+		}
+		this.documentPrices[ordinal] = (productDto.getPriceUnit() != null) ? productDto.getPriceUnit() : Double.NaN;
+		this.documentSlots[ordinal] = -1;
+		this.terms(productDto).forEach(term -> this.postings.computeIfAbsent(term, t -> new Posting()).add(ordinal));
+		if (productDto.getCategoryDto() != null && productDto.getCategoryDto().getCategoryId() != null) {
+			final Integer categoryId = productDto.getCategoryDto().getCategoryId();
+			this.categories.computeIfAbsent(categoryId, c -> new BitSet()).set(ordinal);
+			this.documentSlots[ordinal] = this.categorySlots.computeIfAbsent(categoryId, c -> {
+				this.slotCategories.add(c);
+				return this.slotCategories.size() - 1;
+			});
+			if (productDto.getCategoryDto().getCategoryTitle() != null)
+				this.categoryTitles.put(categoryId, productDto.getCategoryDto().getCategoryTitle());
+		}
+	}
+	
+	/**
+	 * Caller holds the write lock. Clears the product from every structure, dropping emptied postings.
+	 */
+	private void delete(final Integer productId) {
+		final Integer ordinal = this.ordinals.get(productId);
+		if (ordinal == null || !this.live.get(ordinal))
+			return;
+		final ProductDto productDto = this.documents.get(ordinal);
+		this.terms(productDto).forEach(term -> {
+			final Posting posting = this.postings.get(term);
+			if (posting != null) {
+				posting.remove(ordinal);
+				if (posting.isEmpty())
+					this.postings.remove(term);
+			}
+		});
+		if (productDto.getCategoryDto() != null && productDto.getCategoryDto().getCategoryId() != null) {
+			final BitSet bits = this.categories.get(productDto.getCategoryDto().getCategoryId());
+			if (bits != null)
+				bits.clear(ordinal);
+		}
+		this.live.clear(ordinal);
+		this.documents.set(ordinal, null);
+	}
+	
+	private Set<String> terms(final ProductDto productDto) {
+		final Set<String> terms = new LinkedHashSet<>();
+		terms.addAll(this.tokenize(productDto.getProductTitle()));
+		terms.addAll(this.tokenize(productDto.getSku()));
+		if (productDto.getCategoryDto() != null)
+			terms.addAll(this.tokenize(productDto.getCategoryDto().getCategoryTitle()));
+		return terms;
+	}
+	
+	private List<String> tokenize(final String text) {
+		if (text == null || text.isBlank())
+			return List.of();
+		return Arrays.stream(TOKEN_SEPARATOR.split(text.toLowerCase(Locale.ROOT)))
+				.filter(t -> !t.isEmpty())
+				.distinct()
+				.collect(Collectors.toUnmodifiableList());
+	}
+	
+	/**
+	 * Index changes are applied once the surrounding transaction commits, so rolled back writes never become searchable.
+	 */
+	private void afterCommit(final Runnable action) {
+		if (TransactionSynchronizationManager.isSynchronizationActive())
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					action.run();
+				}
+			});
+		else
+			action.run();
+	}
+	
+	/**
+	 * Runs on the indexer thread, which reads in its own transaction instead of waiting for 
+	 * a second pooled connection while the committing writer still holds its first.
+	 */
+	private void enqueue(final Runnable change) {
+		this.indexer.execute(() -> {
+			try {
+				change.run();
+			}
+			catch (final RuntimeException e) {
+				log.warn("*** Product search index update failed: {} *", e.getMessage());
+			}
+		});
+	}
+	
+	@PreDestroy
+	public void shutdown() {
+		this.indexer.shutdownNow();
+	}
+	
+	/**
+	 * Ordinals of the products containing one term. Most terms (skus, rare words) match a few 
+	 * products and stay a small sorted array; a bitset is only worth its size once the term is dense.
+	 */
+	private static final class Posting {
+		
+		private static final int DENSE_THRESHOLD = 1024;
+		private int[] ordinals = new int[2];
+		private int size;
+		private BitSet dense;
+		
+		void add(final int ordinal) {
+			if (this.dense != null) {
+				this.dense.set(ordinal);
+				return;
+			}
+			final int index = Arrays.binarySearch(this.ordinals, 0, this.size, ordinal);
+			if (index >= 0)
+				return;
+			if (this.size == DENSE_THRESHOLD) {
+				final BitSet bits = new BitSet();
+				this.addTo(bits);
+				bits.set(ordinal);
+				this.dense = bits;
+				this.ordinals = null;
+				return;
+			}
+			final int insertAt = -index - 1;
+			if (this.size == this.ordinals.length)
+				this.ordinals = Arrays.copyOf(this.ordinals, this.size * 2);
+			System.arraycopy(this.ordinals, insertAt, this.ordinals, insertAt + 1, this.size - insertAt);
+			this.ordinals[insertAt] = ordinal;
+			this.size++;
+		}
+		
+		void remove(final int ordinal) {
+			if (this.dense != null) {
+				this.dense.clear(ordinal);
+				return;
+			}
+			final int index = Arrays.binarySearch(this.ordinals, 0, this.size, ordinal);
+			if (index < 0)
+				return;
+			System.arraycopy(this.ordinals, index + 1, this.ordinals, index, this.size - index - 1);
+			this.size--;
+		}
+		
+		boolean isEmpty() {
+			return (this.dense != null) ? this.dense.isEmpty() : this.size == 0;
+		}
+		
+		void addTo(final BitSet target) {
+			if (this.dense != null)
+				target.or(this.dense);
+			else
+				for (int i = 0; i < this.size; i++)
+					target.set(this.ordinals[i]);
+		}
+		
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -1,16 +1,38 @@
 package com.selimhorri.app.service.impl;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import javax.persistence.EntityManager;
 import javax.transaction.Transactional;
 
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
+import com.selimhorri.app.config.cache.CacheConfig;
+import com.selimhorri.app.domain.Product;
 import com.selimhorri.app.dto.ProductDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
+import com.selimhorri.app.exception.wrapper.HotStockUpdateException;
 import com.selimhorri.app.exception.wrapper.ProductNotFoundException;
+import com.selimhorri.app.helper.BatchQueryHelper;
+import com.selimhorri.app.helper.PageHelper;
 import com.selimhorri.app.helper.ProductMappingHelper;
+import com.selimhorri.app.helper.StreamHelper;
 import com.selimhorri.app.repository.ProductRepository;
+import com.selimhorri.app.service.CatalogCacheService;
+import com.selimhorri.app.service.HotStockService;
+import com.selimhorri.app.service.ProductSearchService;
 import com.selimhorri.app.service.ProductService;
 
 import lombok.RequiredArgsConstructor;
@@ -23,18 +45,49 @@ import lombok.extern.slf4j.Slf4j;
 public class ProductServiceImpl implements ProductService {
 	
 	private final ProductRepository productRepository;
+	private final EntityManager entityManager;
+	private final ProductSearchService productSearchService;
+	private final CatalogCacheService catalogCacheService;
+	private final HotStockService hotStockService;
 	
 	@Override
 	public List<ProductDto> findAll() {
 		log.info("*** ProductDto List, service; fetch all products *");
 		return this.productRepository.findAll()
 				.stream()
+					.filter(StreamHelper.distinctBy(Product::getProductId))
 					.map(ProductMappingHelper::map)
-					.distinct()
 					.collect(Collectors.toUnmodifiableList());
 	}
 	
 	@Override
+	public DtoCollectionResponse<ProductDto> findAll(final Integer page, final Integer size, final String cursor) {
+		log.info("*** ProductDto Page, service; fetch products page *");
+		final Slice<Product> products = (cursor == null) 
+				? this.productRepository.findAllBy(PageHelper.pageable(page, size, Sort.by("productId"))) 
+				: this.productRepository.findByProductIdGreaterThan(PageHelper
+						.decodeCursor(cursor, keys -> Integer.parseInt(keys[0])), PageHelper.pageable(0, size, Sort.by("productId")));
+		return PageHelper.collectionResponse(products, products.stream()
+					.map(ProductMappingHelper::map)
+					.collect(Collectors.toUnmodifiableList()), 
+				cursor != null, d -> PageHelper.encodeCursor(d.getProductId()));
+	}
+	
+	@Override
+	public void streamAll(final Consumer<ProductDto> consumer) {
+		log.info("*** ProductDto Stream, service; stream all products *");
+		try (final Stream<Product> products = this.productRepository.streamAll()) {
+			StreamHelper.forEachChunk(products, chunk -> {
+				chunk.stream()
+					.map(ProductMappingHelper::map)
+					.forEach(consumer);
+				this.entityManager.clear();
+			});
+		}
+	}
+	
+	@Override
+	@Cacheable(cacheNames = CacheConfig.PRODUCTS_CACHE, key = "#productId")
 	public ProductDto findById(final Integer productId) {
 		log.info("*** ProductDto, service; fetch product by id *");
 		return this.productRepository.findById(productId)
@@ -43,31 +96,102 @@ public class ProductServiceImpl implements ProductService {
 	}
 	
 	@Override
+	@CacheEvict(cacheNames = CacheConfig.PRODUCTS_CACHE, key = "#productDto.productId", condition = "#productDto.productId != null")
 	public ProductDto save(final ProductDto productDto) {
 		log.info("*** ProductDto, service; save product *");
-		return ProductMappingHelper.map(this.productRepository
-				.save(ProductMappingHelper.map(productDto)));
+		final ProductDto saved = ProductMappingHelper.map(this.productRepository
+				.save(ProductMappingHelper.map(this.withLedgerQuantity(productDto))));
+		this.productSearchService.reindex(saved.getProductId());
+		this.catalogCacheService.invalidate();
+		return saved;
+	}
+	
+	/**
+	 * Inserts go out as JDBC batches of hibernate.jdbc.batch_size, the persistence context 
+	 * is flushed and cleared every chunk so it never holds the whole import. Rows of hot products 
+	 * keep their ledger-owned quantity, as with single writes
+	 */
+	@Override
+	@CacheEvict(cacheNames = CacheConfig.PRODUCTS_CACHE, allEntries = true)
+	public List<ProductDto> saveAll(final List<ProductDto> productDtos) {
+		log.info("*** ProductDto List, service; save products in bulk *");
+		final List<ProductDto> saved = new ArrayList<>(productDtos.size());
+		StreamHelper.forEachChunk(productDtos.stream(), chunk -> {
+			this.productRepository.saveAll(chunk.stream()
+						.map(this::withLedgerQuantity)
+						.map(ProductMappingHelper::map)
+						.collect(Collectors.toUnmodifiableList()))
+					.stream()
+						.map(ProductMappingHelper::map)
+						.forEach(saved::add);
+			this.entityManager.flush();
+			this.entityManager.clear();
+		});
+		this.productSearchService.reindexAll(saved.stream()
+				.map(ProductDto::getProductId)
+				.collect(Collectors.toUnmodifiableSet()));
+		this.catalogCacheService.invalidate();
+		return Collections.unmodifiableList(saved);
 	}
 	
 	@Override
+	@CacheEvict(cacheNames = CacheConfig.PRODUCTS_CACHE, key = "#productDto.productId")
 	public ProductDto update(final ProductDto productDto) {
 		log.info("*** ProductDto, service; update product *");
-		return ProductMappingHelper.map(this.productRepository
-				.save(ProductMappingHelper.map(productDto)));
+		final ProductDto saved = ProductMappingHelper.map(this.productRepository
+				.save(ProductMappingHelper.map(this.withLedgerQuantity(productDto))));
+		this.productSearchService.reindex(saved.getProductId());
+		this.catalogCacheService.invalidate();
+		return saved;
 	}
 	
 	@Override
+	@CacheEvict(cacheNames = CacheConfig.PRODUCTS_CACHE, key = "#productId")
 	public ProductDto update(final Integer productId, final ProductDto productDto) {
 		log.info("*** ProductDto, service; update product with productId *");
-		return ProductMappingHelper.map(this.productRepository
-				.save(ProductMappingHelper.map(this.findById(productId))));
+		final ProductDto saved = ProductMappingHelper.map(this.productRepository
+				.save(ProductMappingHelper.map(this.withLedgerQuantity(this.findById(productId)))));
+		this.productSearchService.reindex(saved.getProductId());
+		this.catalogCacheService.invalidate();
+		return saved;
 	}
 	
 	@Override
+	@CacheEvict(cacheNames = CacheConfig.PRODUCTS_CACHE, key = "#productId")
 	public void deleteById(final Integer productId) {
 		log.info("*** Void, service; delete product by id *");
 		this.productRepository.delete(ProductMappingHelper
 				.map(this.findById(productId)));
+		this.hotStockService.remove(productId);
+		this.productSearchService.remove(productId);
+		this.catalogCacheService.invalidate();
+	}
+	
+	/**
+	 * While flagged hot, a product's stock is owned by the {@link HotStockService} ledger: a write may 
+	 * carry the row's current quantity but never replace it. The row stays locked until commit, so a 
+	 * ledger flush cannot land between this read and the write.
+	 */
+	private ProductDto withLedgerQuantity(final ProductDto productDto) {
+		if (productDto.getProductId() == null || !this.hotStockService.isHot(productDto.getProductId()))
+			return productDto;
+		final Integer quantity = this.productRepository.findByIdForUpdate(productDto.getProductId())
+				.map(Product::getQuantity)
+				.orElseThrow(() -> new ProductNotFoundException(String.format("Product with id: %d not found", productDto.getProductId())));
+		if (productDto.getQuantity() != null && !productDto.getQuantity().equals(quantity))
+			throw new HotStockUpdateException(String
+					.format("Stock of hot product with id: %d is managed by the stock ledger, reserve or release it instead", productDto.getProductId()));
+		productDto.setQuantity(quantity);
+		return productDto;
+	}
+	
+	@Override
+	public Map<Integer, ProductDto> findAllByIds(final Set<Integer> productIds) {
+		log.info("*** ProductDto Map, service; fetch products by ids *");
+		return BatchQueryHelper.findAllByIdInChunks(this.productRepository, productIds)
+				.stream()
+					.map(ProductMappingHelper::map)
+					.collect(Collectors.toUnmodifiableMap(ProductDto::getProductId, Function.identity()));
 	}
 	
 	
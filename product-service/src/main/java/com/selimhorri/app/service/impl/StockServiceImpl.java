@@ -0,0 +1,174 @@
+package com.selimhorri.app.service.impl;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import javax.transaction.Transactional;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.selimhorri.app.config.cache.CacheConfig;
+import com.selimhorri.app.dto.StockReservationDto;
+import com.selimhorri.app.exception.wrapper.InsufficientStockException;
+import com.selimhorri.app.exception.wrapper.InvalidStockReservationException;
+import com.selimhorri.app.exception.wrapper.ProductNotFoundException;
+import com.selimhorri.app.repository.ProductRepository;
+import com.selimhorri.app.service.CatalogCacheService;
+import com.selimhorri.app.service.HotStockService;
+import com.selimhorri.app.service.ProductSearchService;
+import com.selimhorri.app.service.StockService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Stock changes are single conditional UPDATEs, never read-modify-write, so concurrent 
+ * checkouts cannot oversell or lose updates, and a row lock is only held from its UPDATE to commit. 
+ * Products flagged hot bypass their row altogether and go through the in-memory {@link HotStockService}.
+ */
+@Service
+@Transactional
+@Slf4j
+@RequiredArgsConstructor
+public class StockServiceImpl implements StockService {
+	
+	private final ProductRepository productRepository;
+	private final ProductSearchService productSearchService;
+	private final CatalogCacheService catalogCacheService;
+	private final CacheManager cacheManager;
+	private final HotStockService hotStockService;
+	
+	@Override
+	public void reserve(final Integer productId, final Integer quantity) {
+		log.info("*** Void, service; reserve product stock *");
+		this.reserveLine(productId, this.requirePositive(productId, quantity));
+		this.stockChanged(productId);
+	}
+	
+	@Override
+	public void release(final Integer productId, final Integer quantity) {
+		log.info("*** Void, service; release product stock *");
+		this.releaseLine(productId, this.requirePositive(productId, quantity));
+		this.stockChanged(productId);
+	}
+	
+	/**
+	 * All lines or none: any short line rolls the whole order back. Lines for the same product 
+	 * are merged and rows are updated in ascending id order, so concurrent orders never deadlock.
+	 */
+	@Override
+	public void reserveAll(final List<StockReservationDto> stockReservationDtos) {
+		log.info("*** Void, service; reserve stock of all order lines *");
+		final Map<Integer, Integer> lines = this.mergeLines(stockReservationDtos);
+		lines.forEach(this::reserveLine);
+		lines.keySet().forEach(this::stockChanged);
+	}
+	
+	@Override
+	public void releaseAll(final List<StockReservationDto> stockReservationDtos) {
+		log.info("*** Void, service; release stock of all order lines *");
+		final Map<Integer, Integer> lines = this.mergeLines(stockReservationDtos);
+		lines.forEach(this::releaseLine);
+		lines.keySet().forEach(this::stockChanged);
+	}
+	
+	private void reserveLine(final Integer productId, final Integer quantity) {
+		if (this.hotStockService.isHot(productId)) {
+			if (!this.hotStockService.reserve(productId, quantity))
+				throw new InsufficientStockException(String.format("Product with id: %d has less than %d units in stock", productId, quantity));
+			this.afterRollback(() -> this.hotStockService.release(productId, quantity));
+			return;
+		}
+		if (this.productRepository.reserveStock(productId, quantity) == 1)
+			return;
+		if (!this.productRepository.existsById(productId))
+			throw new ProductNotFoundException(String.format("Product with id: %d not found", productId));
+		throw new InsufficientStockException(String.format("Product with id: %d has less than %d units in stock", productId, quantity));
+	}
+	
+	private void releaseLine(final Integer productId, final Integer quantity) {
+		if (this.hotStockService.isHot(productId)) {
+			this.afterCommit(() -> this.hotStockService.release(productId, quantity));
+			return;
+		}
+		if (this.productRepository.releaseStock(productId, quantity) != 1)
+			throw new ProductNotFoundException(String.format("Product with id: %d not found", productId));
+	}
+	
+	private Map<Integer, Integer> mergeLines(final List<StockReservationDto> stockReservationDtos) {
+		if (stockReservationDtos == null || stockReservationDtos.isEmpty())
+			throw new InvalidStockReservationException("Stock reservation must contain at least one line");
+		final Map<Integer, Integer> lines = new TreeMap<>();
+		for (final StockReservationDto line : stockReservationDtos) {
+			if (line == null || line.getProductId() == null)
+				throw new InvalidStockReservationException("Stock reservation line must reference a product");
+			lines.merge(line.getProductId(), this.requirePositive(line.getProductId(), line.getQuantity()), Integer::sum);
+		}
+		return lines;
+	}
+	
+	private Integer requirePositive(final Integer productId, final Integer quantity) {
+		if (quantity == null || quantity < 1)
+			throw new InvalidStockReservationException(String.format("Quantity for product with id: %d must be positive", productId));
+		return quantity;
+	}
+	
+	/**
+	 * A hot ledger reservation is taken right away, to know whether the units are there, and 
+	 * cannot roll back with the row updates; it is given back once the transaction rolls back.
+	 */
+	private void afterRollback(final Runnable compensation) {
+		if (TransactionSynchronizationManager.isSynchronizationActive())
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCompletion(final int status) {
+					if (status == STATUS_ROLLED_BACK)
+						compensation.run();
+				}
+			});
+	}
+	
+	/**
+	 * A hot ledger release cannot be taken back, so it is only applied once the transaction commits.
+	 */
+	private void afterCommit(final Runnable action) {
+		if (TransactionSynchronizationManager.isSynchronizationActive())
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					action.run();
+				}
+			});
+		else
+			action.run();
+	}
+	
+	private void stockChanged(final Integer productId) {
+		// hot products are refreshed when the ledger flushes them
+		if (this.hotStockService.isHot(productId))
+			return;
+		final Cache products = this.cacheManager.getCache(CacheConfig.PRODUCTS_CACHE);
+		if (products != null)
+			products.evict(productId);
+		this.productSearchService.reindex(productId);
+		this.catalogCacheService.stockChanged();
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
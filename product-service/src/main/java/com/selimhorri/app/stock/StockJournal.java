@@ -0,0 +1,307 @@
+package com.selimhorri.app.stock;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Append-only, write-ahead journal of hot stock deltas. Appends from any thread are group
+ * committed by a single writer thread: a whole batch is written and forced to disk once before
+ * any caller in it returns, so durability costs one fsync per batch rather than per reservation.
+ * Each record is checksummed, so the torn tail a crash may leave is detected and ignored on replay.
+ * <p>
+ * The journal is split into segments. {@link #checkpoint()} seals the current segment and hands
+ * over the net deltas it covers; once those are stored, {@link #committed(Checkpoint)} deletes the
+ * sealed segments. Anything still on disk at startup is what {@link #replay(Path, long)} recovers.
+ */
+@Slf4j
+public class StockJournal implements Closeable {
+	
+	private static final String SEGMENT_PREFIX = "stock-journal-";
+	private static final String SEGMENT_SUFFIX = ".log";
+	// sequence, productId, delta, crc
+	private static final int RECORD_SIZE = Long.BYTES + Integer.BYTES + Integer.BYTES + Integer.BYTES;
+	private static final int MAX_BATCH = 4096;
+	
+	private final Path directory;
+	private final BlockingQueue<Append> appends = new LinkedBlockingQueue<>();
+	private final Thread writer;
+	private final Map<Integer, Long> pendingDeltas = new HashMap<>();
+	private final List<Path> sealedSegments = new ArrayList<>();
+	private FileChannel segment;
+	private Path segmentPath;
+	private long sequence;
+	private volatile boolean closed;
+	
+	private StockJournal(final Path directory, final long sequence) throws IOException {
+		this.directory = directory;
+		this.sequence = sequence;
+		this.openSegment();
+		this.writer = new Thread(this::write, "hot-stock-journal");
+		this.writer.setDaemon(true);
+		this.writer.start();
+	}
+	
+	/**
+	 * Starts a fresh journal after the given sequence. Segments left in the directory are deleted,
+	 * so this must only be called once their {@link #replay(Path, long) replay} has been stored.
+	 */
+	public static StockJournal open(final Path directory, final long sequence) {
+		try {
+			Files.createDirectories(directory);
+			for (final Path stale : segments(directory))
+				Files.delete(stale);
+			return new StockJournal(directory, sequence);
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException(String.format("Could not open stock journal in %s", directory), e);
+		}
+	}
+	
+	/**
+	 * Sums, per product, every intact record with a sequence above {@code afterSequence}.
+	 * Reading stops at the first torn or corrupt record of a segment.
+	 */
+	public static Replay replay(final Path directory, final long afterSequence) {
+		final Map<Integer, Long> deltas = new HashMap<>();
+		long lastSequence = afterSequence;
+		if (!Files.isDirectory(directory))
+			return new Replay(deltas, lastSequence);
+		try {
+			for (final Path segment : segments(directory)) {
+				final ByteBuffer records = ByteBuffer.wrap(Files.readAllBytes(segment));
+				while (records.remaining() >= RECORD_SIZE) {
+					final long recordSequence = records.getLong();
+					final int productId = records.getInt();
+					final int delta = records.getInt();
+					final int checksum = records.getInt();
+					if (checksum != checksum(recordSequence, productId, delta)) {
+						log.warn("*** Stock journal segment {} is torn after sequence {}, ignoring its tail *", segment, lastSequence);
+						break;
+					}
+					if (recordSequence > afterSequence) {
+						deltas.merge(productId, (long) delta, Long::sum);
+						lastSequence = Math.max(lastSequence, recordSequence);
+					}
+				}
+			}
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException(String.format("Could not replay stock journal in %s", directory), e);
+		}
+		deltas.values().removeIf(delta -> delta == 0);
+		return new Replay(deltas, lastSequence);
+	}
+	
+	/**
+	 * Blocks until the delta is durable.
+	 */
+	public void append(final int productId, final int delta) {
+		if (this.closed)
+			throw new IllegalStateException("Stock journal is closed");
+		final Append append = new Append(productId, delta, new CompletableFuture<>());
+		this.appends.add(append);
+		try {
+			append.getDone().get();
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while waiting for the stock journal", e);
+		}
+		catch (ExecutionException e) {
+			throw new UncheckedIOException("Could not write stock journal", e.getCause() instanceof IOException
+					? (IOException) e.getCause() : new IOException(e.getCause()));
+		}
+	}
+	
+	/**
+	 * Seals the current segment and takes the net deltas journaled so far, or null if there are none.
+	 */
+	public synchronized Checkpoint checkpoint() {
+		if (this.pendingDeltas.isEmpty() && this.sealedSegments.isEmpty())
+			return null;
+		try {
+			this.segment.force(true);
+			this.segment.close();
+			this.sealedSegments.add(this.segmentPath);
+			this.openSegment();
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException("Could not roll stock journal segment", e);
+		}
+		final Map<Integer, Long> deltas = new HashMap<>(this.pendingDeltas);
+		deltas.values().removeIf(delta -> delta == 0);
+		this.pendingDeltas.clear();
+		return new Checkpoint(deltas, this.sequence, List.copyOf(this.sealedSegments));
+	}
+	
+	public synchronized void committed(final Checkpoint checkpoint) {
+		for (final Path sealed : checkpoint.getSegments()) {
+			try {
+				Files.deleteIfExists(sealed);
+				this.sealedSegments.remove(sealed);
+			}
+			catch (IOException e) {
+				log.warn("*** Could not delete flushed stock journal segment {}: {} *", sealed, e.getMessage());
+			}
+		}
+	}
+	
+	/**
+	 * Hands the deltas of a checkpoint that could not be stored back, so the next checkpoint retries them.
+	 */
+	public synchronized void aborted(final Checkpoint checkpoint) {
+		checkpoint.getDeltas().forEach((productId, delta) -> this.pendingDeltas.merge(productId, delta, Long::sum));
+	}
+	
+	@Override
+	public void close() {
+		this.closed = true;
+		try {
+			this.writer.join(TimeUnit.SECONDS.toMillis(5));
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		final List<Append> abandoned = new ArrayList<>();
+		this.appends.drainTo(abandoned);
+		abandoned.forEach(append -> append.getDone().completeExceptionally(new IOException("Stock journal is closed")));
+		synchronized (this) {
+			try {
+				this.segment.close();
+			}
+			catch (IOException e) {
+				log.warn("*** Could not close stock journal: {} *", e.getMessage());
+			}
+		}
+	}
+	
+	private void write() {
+		final List<Append> batch = new ArrayList<>();
+		while (!this.closed || !this.appends.isEmpty()) {
+			try {
+				final Append first = this.appends.poll(100, TimeUnit.MILLISECONDS);
+				if (first == null)
+					continue;
+				batch.add(first);
+				this.appends.drainTo(batch, MAX_BATCH - 1);
+				this.write(batch);
+				batch.forEach(append -> append.getDone().complete(null));
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+			catch (IOException | RuntimeException e) {
+				log.error("*** Stock journal write failed: {} *", e.getMessage());
+				batch.forEach(append -> append.getDone().completeExceptionally(e));
+			}
+			finally {
+				batch.clear();
+			}
+		}
+	}
+	
+	private synchronized void write(final List<Append> batch) throws IOException {
+		final ByteBuffer records = ByteBuffer.allocate(batch.size() * RECORD_SIZE);
+		long recordSequence = this.sequence;
+		for (final Append append : batch) {
+			recordSequence++;
+			records.putLong(recordSequence)
+					.putInt(append.getProductId())
+					.putInt(append.getDelta())
+					.putInt(checksum(recordSequence, append.getProductId(), append.getDelta()));
+		}
+		records.flip();
+		final long position = this.segment.size();
+		try {
+			while (records.hasRemaining())
+				this.segment.write(records);
+			this.segment.force(false);
+		}
+		catch (IOException e) {
+			// a half-written batch must not be replayed, its callers are told it failed
+			this.segment.truncate(position);
+			throw e;
+		}
+		this.sequence = recordSequence;
+		batch.forEach(append -> this.pendingDeltas.merge(append.getProductId(), (long) append.getDelta(), Long::sum));
+	}
+	
+	private void openSegment() throws IOException {
+		this.segmentPath = this.directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, this.sequence + 1, SEGMENT_SUFFIX));
+		this.segment = FileChannel.open(this.segmentPath, 
+				StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+	}
+	
+	private static List<Path> segments(final Path directory) throws IOException {
+		final List<Path> segments = new ArrayList<>();
+		try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+			stream.forEach(segments::add);
+		}
+		segments.sort(null);
+		return segments;
+	}
+	
+	private static int checksum(final long recordSequence, final int productId, final int delta) {
+		final CRC32 crc = new CRC32();
+		crc.update(ByteBuffer.allocate(Long.BYTES + Integer.BYTES + Integer.BYTES)
+				.putLong(recordSequence)
+				.putInt(productId)
+				.putInt(delta)
+				.array());
+		return (int) crc.getValue();
+	}
+	
+	@Value
+	public static class Replay {
+		Map<Integer, Long> deltas;
+		long lastSequence;
+	}
+	
+	@Value
+	public static class Checkpoint {
+		Map<Integer, Long> deltas;
+		long sequence;
+		List<Path> segments;
+	}
+	
+	@Value
+	private static class Append {
+		int productId;
+		int delta;
+		CompletableFuture<Void> done;
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,103 @@
+package com.selimhorri.app.stock;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Available units of one hot product, split LongAdder-style across cache-line padded stripes.
+ * A thread reserves from its own stripe with a compare-and-set that never takes the stripe below
+ * zero, so the total can never go negative; only when no single stripe holds enough does a
+ * reservation gather units from several stripes, under a lock, giving them back if still short.
+ */
+public class StripedStockCounter {
+	
+	// 8 longs = 64 bytes, so neighbouring stripes never share a cache line
+	private static final int PADDING = 8;
+	
+	private final int stripes;
+	private final AtomicLongArray cells;
+	private final Object gatherLock = new Object();
+	
+	public StripedStockCounter(final int stripes, final long available) {
+		if (stripes < 1)
+			throw new IllegalArgumentException("Stock counter needs at least one stripe");
+		this.stripes = stripes;
+		this.cells = new AtomicLongArray(stripes * PADDING);
+		final long share = Math.max(0, available) / stripes;
+		final long remainder = Math.max(0, available) % stripes;
+		for (int i = 0; i < stripes; i++)
+			this.cells.set(i * PADDING, share + (i < remainder ? 1 : 0));
+	}
+	
+	public boolean reserve(final long units) {
+		final int home = this.home();
+		for (int i = 0; i < this.stripes; i++)
+			if (this.take((home + i) % this.stripes, units))
+				return true;
+		return this.gather(units);
+	}
+	
+	public void release(final long units) {
+		this.cells.addAndGet(this.home() * PADDING, units);
+	}
+	
+	public long available() {
+		long sum = 0;
+		for (int i = 0; i < this.stripes; i++)
+			sum += this.cells.get(i * PADDING);
+		return sum;
+	}
+	
+	private boolean take(final int stripe, final long units) {
+		final int index = stripe * PADDING;
+		long current;
+		do {
+			current = this.cells.get(index);
+			if (current < units)
+				return false;
+		} while (!this.cells.compareAndSet(index, current, current - units));
+		return true;
+	}
+	
+	private boolean gather(final long units) {
+		synchronized (this.gatherLock) {
+			final long[] taken = new long[this.stripes];
+			long missing = units;
+			for (int i = 0; i < this.stripes && missing > 0; i++) {
+				final int index = i * PADDING;
+				long current;
+				long share;
+				do {
+					current = this.cells.get(index);
+					share = Math.min(current, missing);
+				} while (share > 0 && !this.cells.compareAndSet(index, current, current - share));
+				if (share > 0) {
+					taken[i] = share;
+					missing -= share;
+				}
+			}
+			if (missing == 0)
+				return true;
+			for (int i = 0; i < this.stripes; i++)
+				if (taken[i] > 0)
+					this.cells.addAndGet(i * PADDING, taken[i]);
+			return false;
+		}
+	}
+	
+	private int home() {
+		return (int) (Thread.currentThread().getId() % this.stripes);
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,6 @@
+
+CREATE TABLE stock_ledger_checkpoints (
+	ledger_id VARCHAR(255) NOT NULL PRIMARY KEY,
+	flushed_sequence BIGINT NOT NULL
+);
+
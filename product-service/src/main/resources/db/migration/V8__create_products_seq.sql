@@ -0,0 +1,8 @@
+
+CREATE TABLE products_seq (
+	sequence_name VARCHAR(64) NOT NULL PRIMARY KEY,
+	next_val BIGINT NOT NULL
+);
+
+INSERT INTO products_seq (sequence_name, next_val)
+	SELECT 'products', COALESCE(MAX(product_id), 0) + 1 FROM products;
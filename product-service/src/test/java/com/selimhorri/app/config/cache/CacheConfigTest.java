@@ -0,0 +1,68 @@
+package com.selimhorri.app.config.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class CacheConfigTest {
+
+    private Cache products;
+
+    @BeforeEach
+    void setUp() {
+        final CacheManager cacheManager = (CacheManager) CacheConfig.transactionAwareCacheManagerPostProcessor()
+                .postProcessAfterInitialization(new CaffeineCacheManager(CacheConfig.PRODUCTS_CACHE), "cacheManager");
+        products = cacheManager.getCache(CacheConfig.PRODUCTS_CACHE);
+        products.put(1, "before");
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive())
+            TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    void testEvict_InsideTransaction_ShouldWaitForCommit() {
+        // Arrange
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        products.evict(1);
+
+        // Assert
+        assertNotNull(products.get(1));
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertNull(products.get(1));
+    }
+
+    @Test
+    void testEvict_InsideRolledBackTransaction_ShouldKeepEntry() {
+        // Arrange
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        products.evict(1);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        // Assert
+        assertEquals("before", products.get(1).get());
+    }
+
+    @Test
+    void testEvict_OutsideTransaction_ShouldApplyImmediately() {
+        // Act
+        products.evict(1);
+
+        // Assert
+        assertNull(products.get(1));
+    }
+}
@@ -0,0 +1,168 @@
+package com.selimhorri.app.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import com.selimhorri.app.domain.Category;
+import com.selimhorri.app.domain.Product;
+import com.selimhorri.app.dto.CategoryDto;
+import com.selimhorri.app.dto.ProductDto;
+import com.selimhorri.app.helper.CategoryMappingHelper;
+import com.selimhorri.app.helper.ProductMappingHelper;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class ProductRepositoryTest {
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        // a sub category two levels deep, so an eager parent chain would show up as extra selects
+        final Category computer = testEntityManager.find(Category.class, 1);
+        final Category laptops = testEntityManager.persist(Category.builder()
+                .categoryTitle("Laptops")
+                .parentCategory(computer)
+                .build());
+        final Category gaming = testEntityManager.persist(Category.builder()
+                .categoryTitle("Gaming laptops")
+                .parentCategory(laptops)
+                .build());
+        testEntityManager.persist(Product.builder()
+                .productTitle("rog")
+                .sku("rog-g14")
+                .priceUnit(0.0)
+                .quantity(5)
+                .category(gaming)
+                .build());
+        testEntityManager.flush();
+        testEntityManager.clear();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void testFindAll_ShouldFetchCategoriesInOneStatement() {
+        // Act
+        List<ProductDto> productDtos = productRepository.findAll()
+                .stream()
+                .map(ProductMappingHelper::map)
+                .collect(Collectors.toList());
+
+        // Assert
+        assertEquals(5, productDtos.size());
+        assertTrue(productDtos.stream().allMatch(p -> p.getCategoryDto().getCategoryTitle() != null));
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testFindAllBy_ShouldFetchCategoriesInOneStatement() {
+        // Act
+        List<ProductDto> productDtos = productRepository.findAllBy(PageRequest.of(0, 10, Sort.by("productId")))
+                .map(ProductMappingHelper::map)
+                .getContent();
+
+        // Assert
+        assertEquals(5, productDtos.size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testFindAllByCategoryId_ShouldFetchCategoryInOneStatement() {
+        // Arrange
+        final Integer gamingId = categoryRepository.findAll()
+                .stream()
+                .filter(c -> "Gaming laptops".equals(c.getCategoryTitle()))
+                .findFirst()
+                .orElseThrow()
+                .getCategoryId();
+        statistics.clear();
+
+        // Act
+        List<ProductDto> productDtos = productRepository.findAllByCategoryCategoryId(gamingId)
+                .stream()
+                .map(ProductMappingHelper::map)
+                .collect(Collectors.toList());
+
+        // Assert
+        assertEquals(1, productDtos.size());
+        assertEquals("Gaming laptops", productDtos.get(0).getCategoryDto().getCategoryTitle());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testFindAllCategories_ShouldNotWalkTheParentChain() {
+        // Act
+        List<CategoryDto> categoryDtos = categoryRepository.findAll()
+                .stream()
+                .map(CategoryMappingHelper::map)
+                .collect(Collectors.toList());
+
+        // Assert
+        assertEquals(5, categoryDtos.size());
+        assertTrue(categoryDtos.stream()
+                .anyMatch(c -> "Laptops".equals(c.getParentCategoryDto().getCategoryTitle())));
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testSaveAll_ShouldBatchInserts() {
+        // Arrange
+        final Category category = testEntityManager.getEntityManager().getReference(Category.class, 1);
+        final List<Product> products = IntStream.range(0, 120)
+                .mapToObj(i -> Product.builder()
+                        .productTitle("bulk " + i)
+                        .sku("bulk-" + i)
+                        .priceUnit(0.0)
+                        .quantity(1)
+                        .category(category)
+                        .build())
+                .collect(Collectors.toList());
+
+        // Act
+        productRepository.saveAll(products);
+        testEntityManager.flush();
+
+        // Assert
+        // pooled id blocks of 50 and batched inserts, rather than 120 identity round trips
+        assertEquals(120, statistics.getEntityInsertCount());
+        assertTrue(statistics.getPrepareStatementCount() <= 6);
+    }
+
+    @Test
+    void testFindByIdForUpdate_ShouldLoadProductUnderRowLock() {
+        // Act
+        final Product product = productRepository.findByIdForUpdate(1).orElseThrow();
+
+        // Assert
+        assertEquals(1, product.getProductId());
+        assertNotNull(product.getQuantity());
+        assertTrue(productRepository.findByIdForUpdate(-1).isEmpty());
+    }
+}
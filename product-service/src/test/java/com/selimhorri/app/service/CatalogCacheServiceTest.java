@@ -0,0 +1,131 @@
+package com.selimhorri.app.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.unit.DataSize;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.selimhorri.app.service.CatalogCacheService.CachedResponse;
+import com.selimhorri.app.service.impl.CatalogCacheServiceImpl;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class CatalogCacheServiceTest {
+
+    private MeterRegistry meterRegistry;
+    private CatalogCacheService catalogCacheService;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        catalogCacheService = new CatalogCacheServiceImpl(new ObjectMapper(), meterRegistry, DataSize.ofMegabytes(1), Duration.ofMinutes(10), Duration.ofSeconds(30), Duration.ofMinutes(1));
+        loads = new AtomicInteger();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive())
+            TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    void testGet_WithUnchangedCatalog_ShouldRenderOnce() {
+        // Act
+        CachedResponse first = catalogCacheService.get("products", () -> List.of("asus", loads.incrementAndGet()));
+        CachedResponse second = catalogCacheService.get("products", () -> List.of("asus", loads.incrementAndGet()));
+
+        // Assert
+        assertEquals(1, loads.get());
+        assertSame(first, second);
+        assertEquals("[\"asus\",1]", new String(first.getBody()));
+        assertTrue(first.getEtag().matches("\"[0-9a-f]{32}\""));
+        assertEquals(1.0, count("hit"));
+        assertEquals(1.0, count("miss"));
+    }
+
+    @Test
+    void testGet_AfterInvalidate_ShouldRenderAgainAndKeepEtagOfSameBody() {
+        // Arrange
+        CachedResponse before = catalogCacheService.get("products", () -> List.of("asus"));
+
+        // Act
+        catalogCacheService.invalidate();
+        CachedResponse same = catalogCacheService.get("products", () -> {
+            loads.incrementAndGet();
+            return List.of("asus");
+        });
+        catalogCacheService.invalidate();
+        CachedResponse changed = catalogCacheService.get("products", () -> List.of("rog"));
+
+        // Assert
+        assertEquals(1, loads.get());
+        assertEquals(before.getEtag(), same.getEtag());
+        assertNotEquals(before.getEtag(), changed.getEtag());
+    }
+
+    @Test
+    void testGet_AfterStockChangeWithinStaleness_ShouldServeCachedBody() {
+        // Arrange
+        CachedResponse before = catalogCacheService.get("products", () -> List.of("asus", 10));
+
+        // Act
+        catalogCacheService.stockChanged();
+        CachedResponse after = catalogCacheService.get("products", () -> List.of("asus", loads.incrementAndGet()));
+
+        // Assert
+        assertSame(before, after);
+        assertEquals(0, loads.get());
+    }
+
+    @Test
+    void testGet_AfterStockChangePastStaleness_ShouldRenderAgain() {
+        // Arrange
+        final CatalogCacheService fresh = new CatalogCacheServiceImpl(new ObjectMapper(), new SimpleMeterRegistry(),
+                DataSize.ofMegabytes(1), Duration.ofMinutes(10), Duration.ofSeconds(30), Duration.ZERO);
+        CachedResponse before = fresh.get("products", () -> List.of("asus", 10));
+        CachedResponse unchanged = fresh.get("products", () -> List.of("asus", 10));
+
+        // Act
+        fresh.stockChanged();
+        CachedResponse after = fresh.get("products", () -> List.of("asus", 9));
+
+        // Assert
+        assertSame(before, unchanged);
+        assertEquals("[\"asus\",9]", new String(after.getBody()));
+    }
+
+    @Test
+    void testInvalidate_InTransaction_ShouldWaitForCommit() {
+        // Arrange
+        CachedResponse before = catalogCacheService.get("categories", () -> List.of("Computer"));
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        catalogCacheService.invalidate();
+        CachedResponse uncommitted = catalogCacheService.get("categories", () -> List.of("Game"));
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        CachedResponse committed = catalogCacheService.get("categories", () -> List.of("Game"));
+
+        // Assert
+        assertSame(before, uncommitted);
+        assertEquals("[\"Game\"]", new String(committed.getBody()));
+    }
+
+    private double count(final String result) {
+        return meterRegistry.get("catalog.cache.requests")
+                .tag("result", result)
+                .counter()
+                .count();
+    }
+}
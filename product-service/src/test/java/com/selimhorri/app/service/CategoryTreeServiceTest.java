@@ -0,0 +1,243 @@
+package com.selimhorri.app.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.selimhorri.app.domain.projection.CategoryTreeRow;
+import com.selimhorri.app.dto.CategoryDto;
+import com.selimhorri.app.exception.wrapper.CategoryNotFoundException;
+import com.selimhorri.app.repository.CategoryRepository;
+import com.selimhorri.app.service.impl.CategoryTreeServiceImpl;
+
+@ExtendWith(MockitoExtension.class)
+class CategoryTreeServiceTest {
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    private CategoryTreeService categoryTreeService;
+
+    @BeforeEach
+    void setUp() {
+        categoryTreeService = new CategoryTreeServiceImpl(categoryRepository);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive())
+            TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    void testFindTree_WithLoadedRows_ShouldBuildHierarchyFromSingleQuery() {
+        // Arrange
+        when(categoryRepository.findAllTreeRows()).thenReturn(List.of(
+                row(1, "computers", null), row(2, "laptops", 1), row(3, "gaming", 2), row(4, "desktops", 1)));
+
+        // Act
+        final CategoryDto tree = categoryTreeService.findTree(1);
+        final List<CategoryDto> ancestors = categoryTreeService.findAncestors(3);
+
+        // Assert
+        assertEquals(Set.of(2, 4), ids(tree.getSubCategoriesDtos()));
+        assertEquals(Set.of(3), ids(child(tree, 2).getSubCategoriesDtos()));
+        assertNull(child(tree, 4).getSubCategoriesDtos());
+        assertEquals(List.of(1, 2), ancestors.stream().map(CategoryDto::getCategoryId).collect(Collectors.toList()));
+        verify(categoryRepository, times(1)).findAllTreeRows();
+    }
+
+    @Test
+    void testFindTree_WithUnknownCategory_ShouldThrowCategoryNotFoundException() {
+        // Arrange
+        when(categoryRepository.findAllTreeRows()).thenReturn(List.of(row(1, "computers", null)));
+
+        // Act & Assert
+        assertThrows(CategoryNotFoundException.class, () -> categoryTreeService.findTree(99));
+    }
+
+    @Test
+    void testFindTree_WithParentCycle_ShouldEndDescent() {
+        // Arrange
+        when(categoryRepository.findAllTreeRows()).thenReturn(List.of(row(1, "a", 2), row(2, "b", 1)));
+
+        // Act
+        final CategoryDto tree = categoryTreeService.findTree(1);
+
+        // Assert
+        assertEquals(Set.of(2), ids(tree.getSubCategoriesDtos()));
+        assertNull(child(tree, 2).getSubCategoriesDtos());
+        assertEquals(List.of(2), categoryTreeService.findAncestors(1).stream().map(CategoryDto::getCategoryId).collect(Collectors.toList()));
+    }
+
+    @Test
+    void testFindSubtreeIds_WithNestedCategories_ShouldListCategoryAndDescendants() {
+        // Arrange
+        when(categoryRepository.findAllTreeRows()).thenReturn(List.of(
+                row(1, "computers", null), row(2, "laptops", 1), row(3, "gaming", 2), row(4, "desktops", 1)));
+
+        // Act & Assert
+        assertEquals(Set.of(2, 3), Set.copyOf(categoryTreeService.findSubtreeIds(2)));
+        assertEquals(2, categoryTreeService.findSubtreeIds(2).get(0));
+        assertEquals(List.of(99), categoryTreeService.findSubtreeIds(99));
+    }
+
+    @Test
+    void testPut_WithNewParent_ShouldMoveSubtree() {
+        // Arrange
+        when(categoryRepository.findAllTreeRows()).thenReturn(List.of(
+                row(1, "computers", null), row(2, "laptops", 1), row(3, "gaming", 2), row(4, "desktops", 1)));
+        categoryTreeService.refresh();
+
+        // Act
+        categoryTreeService.put(category(2, "notebooks", 4));
+        categoryTreeService.put(category(5, "monitors", 1));
+
+        // Assert
+        final CategoryDto tree = categoryTreeService.findTree(1);
+        assertEquals(Set.of(4, 5), ids(tree.getSubCategoriesDtos()));
+        assertEquals("notebooks", child(child(tree, 4), 2).getCategoryTitle());
+        assertEquals(List.of(1, 4, 2), categoryTreeService.findAncestors(3).stream().map(CategoryDto::getCategoryId).collect(Collectors.toList()));
+        verify(categoryRepository, times(1)).findAllTreeRows();
+    }
+
+    @Test
+    void testPut_WithSameParent_ShouldKeepChildrenAndAncestors() {
+        // Arrange
+        when(categoryRepository.findAllTreeRows()).thenReturn(List.of(
+                row(1, "computers", null), row(2, "laptops", 1), row(3, "gaming", 2), row(4, "desktops", 1)));
+        categoryTreeService.refresh();
+
+        // Act
+        categoryTreeService.put(category(2, "notebooks", 1));
+
+        // Assert
+        final CategoryDto tree = categoryTreeService.findTree(1);
+        assertEquals(List.of(2, 4), tree.getSubCategoriesDtos().stream().map(CategoryDto::getCategoryId).collect(Collectors.toList()));
+        assertEquals("notebooks", child(tree, 2).getCategoryTitle());
+        assertEquals(Set.of(3), ids(child(tree, 2).getSubCategoriesDtos()));
+        assertEquals(List.of(1, 2), categoryTreeService.findAncestors(3).stream().map(CategoryDto::getCategoryId).collect(Collectors.toList()));
+    }
+
+    @Test
+    void testPut_WithMissingParentWrittenLater_ShouldAdoptWaitingChildren() {
+        // Arrange
+        when(categoryRepository.findAllTreeRows()).thenReturn(List.of(row(1, "computers", null), row(3, "gaming", 2)));
+        categoryTreeService.refresh();
+
+        // Act
+        categoryTreeService.put(category(2, "laptops", 1));
+
+        // Assert
+        assertEquals(Set.of(3), ids(child(categoryTreeService.findTree(1), 2).getSubCategoriesDtos()));
+        assertEquals(List.of(1, 2), categoryTreeService.findAncestors(3).stream().map(CategoryDto::getCategoryId).collect(Collectors.toList()));
+    }
+
+    @Test
+    void testRemove_WithDescendants_ShouldDropWholeSubtree() {
+        // Arrange
+        when(categoryRepository.findAllTreeRows()).thenReturn(List.of(
+                row(1, "computers", null), row(2, "laptops", 1), row(3, "gaming", 2), row(4, "desktops", 1)));
+        categoryTreeService.refresh();
+
+        // Act
+        categoryTreeService.remove(2);
+
+        // Assert
+        assertEquals(Set.of(4), ids(categoryTreeService.findTree(1).getSubCategoriesDtos()));
+        assertThrows(CategoryNotFoundException.class, () -> categoryTreeService.findTree(2));
+        assertThrows(CategoryNotFoundException.class, () -> categoryTreeService.findTree(3));
+    }
+
+    @Test
+    void testPut_WithRolledBackTransaction_ShouldLeaveTreeUnchanged() {
+        // Arrange
+        when(categoryRepository.findAllTreeRows()).thenReturn(List.of(row(1, "computers", null), row(2, "laptops", 1)));
+        categoryTreeService.refresh();
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        categoryTreeService.put(category(3, "tablets", 1));
+        categoryTreeService.remove(2);
+        assertEquals(Set.of(2), ids(categoryTreeService.findTree(1).getSubCategoriesDtos()));
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        // Assert
+        assertEquals(Set.of(2), ids(categoryTreeService.findTree(1).getSubCategoriesDtos()));
+    }
+
+    @Test
+    void testPut_WithCommittedTransaction_ShouldApplyAfterCommit() {
+        // Arrange
+        when(categoryRepository.findAllTreeRows()).thenReturn(List.of(row(1, "computers", null)));
+        categoryTreeService.refresh();
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        categoryTreeService.put(category(3, "tablets", 1));
+        assertNull(categoryTreeService.findTree(1).getSubCategoriesDtos());
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        // Assert
+        assertEquals(Set.of(3), ids(categoryTreeService.findTree(1).getSubCategoriesDtos()));
+    }
+
+    private static CategoryDto child(final CategoryDto parent, final Integer categoryId) {
+        return parent.getSubCategoriesDtos()
+                .stream()
+                .filter(c -> categoryId.equals(c.getCategoryId()))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static Set<Integer> ids(final Set<CategoryDto> categoryDtos) {
+        return categoryDtos.stream()
+                .map(CategoryDto::getCategoryId)
+                .collect(Collectors.toSet());
+    }
+
+    private static CategoryDto category(final Integer categoryId, final String title, final Integer parentCategoryId) {
+        return CategoryDto.builder()
+                .categoryId(categoryId)
+                .categoryTitle(title)
+                .parentCategoryDto(CategoryDto.builder().categoryId(parentCategoryId).build())
+                .build();
+    }
+
+    private static CategoryTreeRow row(final Integer categoryId, final String title, final Integer parentCategoryId) {
+        return new CategoryTreeRow() {
+            @Override
+            public Integer getCategoryId() {
+                return categoryId;
+            }
+
+            @Override
+            public String getCategoryTitle() {
+                return title;
+            }
+
+            @Override
+            public String getImageUrl() {
+                return null;
+            }
+
+            @Override
+            public Integer getParentCategoryId() {
+                return parentCategoryId;
+            }
+        };
+    }
+}
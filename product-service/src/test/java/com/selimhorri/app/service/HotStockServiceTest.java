@@ -0,0 +1,152 @@
+package com.selimhorri.app.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.selimhorri.app.domain.Product;
+import com.selimhorri.app.domain.StockLedgerCheckpoint;
+import com.selimhorri.app.repository.ProductRepository;
+import com.selimhorri.app.repository.StockLedgerCheckpointRepository;
+import com.selimhorri.app.service.impl.HotStockServiceImpl;
+
+@ExtendWith(MockitoExtension.class)
+class HotStockServiceTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private StockLedgerCheckpointRepository stockLedgerCheckpointRepository;
+
+    @Mock
+    private ProductSearchService productSearchService;
+
+    @Mock
+    private CatalogCacheService catalogCacheService;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @TempDir
+    Path journalDirectory;
+
+    private HotStockServiceImpl hotStockService;
+
+    @BeforeEach
+    void setUp() {
+        when(stockLedgerCheckpointRepository.findById("test")).thenReturn(Optional.empty());
+        when(productRepository.findAllById(Set.of(1))).thenReturn(List.of(
+                Product.builder().productId(1).quantity(5).build()));
+        hotStockService = newLedger();
+        hotStockService.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        hotStockService.shutdown();
+        if (TransactionSynchronizationManager.isSynchronizationActive())
+            TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    void testReserve_ShouldNeverGoBelowZero() {
+        // Act & Assert
+        assertTrue(hotStockService.reserve(1, 3));
+        assertTrue(hotStockService.reserve(1, 2));
+        assertFalse(hotStockService.reserve(1, 1));
+        hotStockService.release(1, 1);
+        assertTrue(hotStockService.reserve(1, 1));
+    }
+
+    @Test
+    void testRemove_InTransaction_ShouldDropCounterAfterCommit() {
+        // Arrange
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        hotStockService.remove(1);
+        assertTrue(hotStockService.isHot(1));
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        // Assert
+        assertFalse(hotStockService.isHot(1));
+    }
+
+    @Test
+    void testFlush_ShouldWriteNetDeltaWithCheckpoint() {
+        // Arrange
+        when(productRepository.adjustStock(1, -3)).thenReturn(1);
+        hotStockService.reserve(1, 4);
+        hotStockService.release(1, 1);
+
+        // Act
+        hotStockService.flush();
+        hotStockService.flush();
+
+        // Assert
+        verify(productRepository, times(1)).adjustStock(1, -3);
+        verify(stockLedgerCheckpointRepository, times(1)).save(new StockLedgerCheckpoint("test", 2L));
+        verify(productSearchService, times(1)).reindex(1);
+    }
+
+    @Test
+    void testStart_AfterCrash_ShouldReplayUnflushedDeltas() {
+        // Arrange
+        hotStockService.reserve(1, 2);
+        hotStockService.reserve(1, 1);
+        when(productRepository.adjustStock(1, -3)).thenReturn(1);
+
+        // Act
+        final HotStockServiceImpl restarted = newLedger();
+        restarted.start();
+
+        // Assert
+        verify(productRepository, times(1)).adjustStock(1, -3);
+        verify(stockLedgerCheckpointRepository, times(1)).save(new StockLedgerCheckpoint("test", 2L));
+        restarted.shutdown();
+    }
+
+    @Test
+    void testFlush_WhenStoreFails_ShouldRetryDeltaNextTime() {
+        // Arrange
+        hotStockService.reserve(1, 2);
+        when(productRepository.adjustStock(1, -2))
+                .thenThrow(new IllegalStateException("database down"))
+                .thenReturn(1);
+
+        // Act
+        hotStockService.flush();
+        hotStockService.flush();
+
+        // Assert
+        verify(productRepository, times(2)).adjustStock(1, -2);
+        verify(stockLedgerCheckpointRepository, times(1)).save(any());
+    }
+
+    private HotStockServiceImpl newLedger() {
+        return new HotStockServiceImpl(productRepository, stockLedgerCheckpointRepository, productSearchService,
+                catalogCacheService, cacheManager, transactionManager, Set.of(1), 4, Duration.ofHours(1), journalDirectory, "test");
+    }
+}
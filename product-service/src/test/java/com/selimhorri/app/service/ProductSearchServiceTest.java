@@ -0,0 +1,231 @@
+package com.selimhorri.app.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.persistence.EntityManager;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.selimhorri.app.domain.Category;
+import com.selimhorri.app.domain.Product;
+import com.selimhorri.app.dto.ProductDto;
+import com.selimhorri.app.dto.response.search.ProductSearchResponse;
+import com.selimhorri.app.repository.ProductRepository;
+import com.selimhorri.app.service.impl.ProductSearchServiceImpl;
+
+@ExtendWith(MockitoExtension.class)
+class ProductSearchServiceTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private ProductSearchServiceImpl productSearchService;
+    private Category laptops;
+    private Category phones;
+
+    @BeforeEach
+    void setUp() {
+        productSearchService = new ProductSearchServiceImpl(productRepository, entityManager);
+        laptops = category(1, "Laptops");
+        phones = category(2, "Phones");
+    }
+
+    @AfterEach
+    void tearDown() {
+        productSearchService.shutdown();
+    }
+
+    @Test
+    void testSearch_WithMixedCaseAndPunctuation_ShouldMatchTokenPrefixes() {
+        // Arrange
+        index(product(1, "ASUS ROG-Strix 15.6\"", "sku-001", 1200.0, laptops),
+                product(2, "Galaxy S21", "sku-002", 800.0, phones));
+
+        // Act & Assert
+        assertEquals(List.of(1), ids(search("rog strix")));
+        assertEquals(List.of(1), ids(search("Asus 15")));
+        assertEquals(List.of(1), ids(search("str")));
+        assertEquals(List.of(1, 2), ids(search("SKU")));
+        assertEquals(List.of(2), ids(search("phones")));
+        assertEquals(List.of(1, 2), ids(search("  ")));
+        assertEquals(List.of(), ids(search("asus galaxy")));
+    }
+
+    @Test
+    void testSearch_WithDenseTerm_ShouldSwitchPostingToBitSetPastThreshold() {
+        // Arrange
+        final List<Product> products = IntStream.rangeClosed(1, 1025)
+                .mapToObj(i -> product(i, "cable " + (i <= 1024 ? "usb" : "hdmi"), "c-" + i, 5.0, laptops))
+                .collect(Collectors.toList());
+        index(products.toArray(new Product[0]));
+
+        // Act
+        final ProductSearchResponse cables = productSearchService.search("cable", null, null, null, 0, 10);
+        final ProductSearchResponse usb = productSearchService.search("usb", null, null, null, 0, 10);
+
+        // Assert
+        assertEquals(1025, cables.getTotalHits());
+        assertEquals(1024, usb.getTotalHits());
+        assertTrue(cables.getHasNext());
+        assertNotNull(dense("cable"));
+        assertNull(dense("usb"));
+    }
+
+    @Test
+    void testRemove_WithDensePosting_ShouldClearOrdinal() {
+        // Arrange
+        index(IntStream.rangeClosed(1, 1100)
+                .mapToObj(i -> product(i, "cable", "c-" + i, 5.0, laptops))
+                .toArray(Product[]::new));
+
+        // Act
+        productSearchService.remove(7);
+        drain();
+
+        // Assert
+        final ProductSearchResponse response = productSearchService.search("cable", null, null, null, 0, 2000);
+        assertEquals(1099, response.getTotalHits());
+        assertFalse(ids(response).contains(7));
+    }
+
+    @Test
+    void testSearch_WithCategoryFilter_ShouldCountFacetsOverAllHits() {
+        // Arrange
+        index(product(1, "Zenbook", "z-1", 900.0, laptops),
+                product(2, "Vivobook", "v-1", 600.0, laptops),
+                product(3, "Pixel", "p-1", 700.0, phones));
+
+        // Act
+        final ProductSearchResponse all = productSearchService.search(null, null, null, null, 0, 1);
+        final ProductSearchResponse byId = search(null, "2", null, null);
+        final ProductSearchResponse byTitle = search(null, "laptops", null, null);
+
+        // Assert
+        assertEquals(Map.of(1, 2, 2, 1), all.getCategoryFacets());
+        assertEquals(1, all.getCollection().size());
+        assertEquals(List.of(3), ids(byId));
+        assertEquals(Map.of(2, 1), byId.getCategoryFacets());
+        assertEquals(List.of(1, 2), ids(byTitle));
+    }
+
+    @Test
+    void testSearch_WithPriceRange_ShouldKeepInclusiveBoundsAndDropUnpriced() {
+        // Arrange
+        index(product(1, "Zenbook", "z-1", 900.0, laptops),
+                product(2, "Vivobook", "v-1", 600.0, laptops),
+                product(3, "Pixel", "p-1", null, phones));
+
+        // Act & Assert
+        assertEquals(List.of(2), ids(search(null, null, null, 600.0)));
+        assertEquals(List.of(1), ids(search(null, null, 600.01, null)));
+        assertEquals(List.of(1, 2), ids(search(null, null, 600.0, 900.0)));
+        assertEquals(List.of(1, 2, 3), ids(search(null, null, null, null)));
+    }
+
+    @Test
+    void testReindex_WithChangedTitle_ShouldReplaceTermsAndKeepPosition() {
+        // Arrange
+        index(product(1, "Zenbook", "z-1", 900.0, laptops),
+                product(2, "Vivobook", "v-1", 600.0, laptops));
+        when(productRepository.findById(1)).thenReturn(Optional.of(product(1, "Yoga", "z-1", 900.0, phones)));
+
+        // Act
+        productSearchService.reindex(1);
+        drain();
+
+        // Assert
+        assertEquals(List.of(), ids(search("zenbook")));
+        assertEquals(List.of(1), ids(search("yoga")));
+        assertEquals(List.of(1, 2), ids(search(null)));
+        assertEquals(Map.of(1, 1, 2, 1), search(null).getCategoryFacets());
+    }
+
+    @Test
+    void testReindexCategory_WithDeletedCategory_ShouldPurgeItsProducts() {
+        // Arrange
+        index(product(1, "Zenbook", "z-1", 900.0, laptops),
+                product(2, "Pixel", "p-1", 700.0, phones));
+        when(productRepository.findAllByCategoryCategoryId(1)).thenReturn(List.of());
+
+        // Act
+        productSearchService.reindexCategory(1);
+        drain();
+
+        // Assert
+        assertEquals(List.of(2), ids(search(null)));
+        assertEquals(List.of(), ids(search(null, "laptops", null, null)));
+    }
+
+    private void index(final Product... products) {
+        when(productRepository.streamAll()).thenReturn(List.of(products).stream());
+        productSearchService.rebuild();
+    }
+
+    /**
+     * Index changes run on the single indexer thread, so a no-op queued behind them marks their completion.
+     */
+    private void drain() {
+        try {
+            ((ExecutorService) ReflectionTestUtils.getField(productSearchService, "indexer")).submit(() -> {}).get();
+        }
+        catch (final Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Object dense(final String term) {
+        final Map<?, ?> postings = (Map<?, ?>) ReflectionTestUtils.getField(productSearchService, "postings");
+        return ReflectionTestUtils.getField(postings.get(term), "dense");
+    }
+
+    private ProductSearchResponse search(final String query) {
+        return search(query, null, null, null);
+    }
+
+    private ProductSearchResponse search(final String query, final String category, final Double minPrice, final Double maxPrice) {
+        return productSearchService.search(query, category, minPrice, maxPrice, 0, 50);
+    }
+
+    private static List<Integer> ids(final ProductSearchResponse response) {
+        return new ArrayList<>(response.getCollection())
+                .stream()
+                .map(ProductDto::getProductId)
+                .collect(Collectors.toList());
+    }
+
+    private static Category category(final Integer categoryId, final String title) {
+        final Category category = new Category();
+        category.setCategoryId(categoryId);
+        category.setCategoryTitle(title);
+        return category;
+    }
+
+    private static Product product(final Integer productId, final String title, final String sku, final Double priceUnit, final Category category) {
+        final Product product = new Product();
+        product.setProductId(productId);
+        product.setProductTitle(title);
+        product.setSku(sku);
+        product.setPriceUnit(priceUnit);
+        product.setQuantity(10);
+        product.setCategory(category);
+        return product;
+    }
+}
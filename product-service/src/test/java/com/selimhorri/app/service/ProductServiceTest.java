@@ -2,11 +2,16 @@ package com.selimhorri.app.service;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+
+import javax.persistence.EntityManager;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -14,13 +19,21 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 
 import com.selimhorri.app.domain.Product;
 import com.selimhorri.app.domain.Category;
 import com.selimhorri.app.dto.ProductDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
+import com.selimhorri.app.helper.PageHelper;
 import com.selimhorri.app.helper.ProductMappingHelper;
 import com.selimhorri.app.repository.ProductRepository;
 import com.selimhorri.app.service.impl.ProductServiceImpl;
+import com.selimhorri.app.exception.wrapper.HotStockUpdateException;
+import com.selimhorri.app.exception.wrapper.InvalidCursorException;
 import com.selimhorri.app.exception.wrapper.ProductNotFoundException;
 
 @ExtendWith(MockitoExtension.class)
@@ -29,6 +42,18 @@ class ProductServiceTest {
     @Mock
     private ProductRepository productRepository;
 
+    @Mock
+    private ProductSearchService productSearchService;
+
+    @Mock
+    private CatalogCacheService catalogCacheService;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private HotStockService hotStockService;
+
     @InjectMocks
     private ProductServiceImpl productService;
 
@@ -117,6 +142,23 @@ class ProductServiceTest {
         verify(productRepository, times(1)).save(any(Product.class));
     }
 
+    @Test
+    void testSaveAll_ShouldSaveInOneChunkAndReindexOnce() {
+        // Arrange
+        when(productRepository.saveAll(anyList())).thenReturn(List.of(testProduct));
+
+        // Act
+        List<ProductDto> result = productService.saveAll(List.of(testProductDto));
+
+        // Assert
+        assertEquals(1, result.size());
+        verify(productRepository, times(1)).saveAll(anyList());
+        verify(entityManager, times(1)).flush();
+        verify(entityManager, times(1)).clear();
+        verify(productSearchService, times(1)).reindexAll(Set.of(testProduct.getProductId()));
+        verify(productSearchService, never()).reindex(any(Integer.class));
+    }
+
     @Test
     void testDeleteById_ShouldDeleteProduct() {
         // Arrange
@@ -129,6 +171,7 @@ class ProductServiceTest {
         // Assert
         verify(productRepository, times(1)).findById(1);
         verify(productRepository, times(1)).delete(any(Product.class));
+        verify(hotStockService, times(1)).remove(1);
     }
 
     @Test
@@ -145,6 +188,63 @@ class ProductServiceTest {
         verify(productRepository, times(1)).save(any(Product.class));
     }
 
+    @Test
+    void testUpdate_WithHotProductAndNewQuantity_ShouldRejectAbsoluteWrite() {
+        // Arrange
+        testProductDto.setQuantity(5);
+        when(hotStockService.isHot(1)).thenReturn(true);
+        when(productRepository.findByIdForUpdate(1)).thenReturn(Optional.of(testProduct));
+
+        // Act & Assert
+        assertThrows(HotStockUpdateException.class, () -> productService.update(testProductDto));
+        verify(productRepository, never()).save(any(Product.class));
+    }
+
+    @Test
+    void testUpdate_WithHotProductAndNoQuantity_ShouldKeepLockedRowQuantity() {
+        // Arrange
+        testProductDto.setQuantity(null);
+        testProductDto.setPriceUnit(149.99);
+        when(hotStockService.isHot(1)).thenReturn(true);
+        when(productRepository.findByIdForUpdate(1)).thenReturn(Optional.of(testProduct));
+        when(productRepository.save(any(Product.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        ProductDto result = productService.update(testProductDto);
+
+        // Assert
+        assertEquals(100, result.getQuantity());
+        assertEquals(149.99, result.getPriceUnit());
+    }
+
+    @Test
+    void testSaveAll_WithHotProductAndNewQuantity_ShouldRejectImport() {
+        // Arrange
+        testProductDto.setQuantity(5);
+        when(hotStockService.isHot(1)).thenReturn(true);
+        when(productRepository.findByIdForUpdate(1)).thenReturn(Optional.of(testProduct));
+
+        // Act & Assert
+        assertThrows(HotStockUpdateException.class, () -> productService.saveAll(List.of(testProductDto)));
+        verify(productRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    void testSaveAll_WithHotProductAndNoQuantity_ShouldKeepLockedRowQuantity() {
+        // Arrange
+        testProductDto.setQuantity(null);
+        when(hotStockService.isHot(1)).thenReturn(true);
+        when(productRepository.findByIdForUpdate(1)).thenReturn(Optional.of(testProduct));
+        when(productRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        List<ProductDto> result = productService.saveAll(List.of(testProductDto));
+
+        // Assert
+        assertEquals(100, result.get(0).getQuantity());
+        verify(productRepository, times(1)).findByIdForUpdate(1);
+    }
+
     @Test
     void testSave_WithZeroQuantity_ShouldCreateProduct() {
         // Arrange
@@ -158,4 +258,45 @@ class ProductServiceTest {
         assertNotNull(result);
         assertEquals(0, result.getQuantity());
     }
+
+    @Test
+    void testFindAllPage_WithoutCursor_ShouldReturnFirstSliceAndNextCursor() {
+        // Arrange
+        final Pageable pageable = PageRequest.of(0, 1, Sort.by("productId"));
+        when(productRepository.findAllBy(pageable))
+                .thenReturn(new SliceImpl<>(List.of(testProduct), pageable, true));
+
+        // Act
+        DtoCollectionResponse<ProductDto> result = productService.findAll(null, 1, null);
+
+        // Assert
+        assertEquals(1, result.getCollection().size());
+        assertEquals(0, result.getPage());
+        assertTrue(result.getHasNext());
+        assertEquals(PageHelper.encodeCursor(1), result.getNextCursor());
+    }
+
+    @Test
+    void testFindAllPage_WithCursor_ShouldSeekPastLastKey() {
+        // Arrange
+        final Pageable pageable = PageRequest.of(0, PageHelper.MAX_PAGE_SIZE, Sort.by("productId"));
+        when(productRepository.findByProductIdGreaterThan(eq(1), eq(pageable)))
+                .thenReturn(new SliceImpl<>(List.of(), pageable, false));
+
+        // Act
+        DtoCollectionResponse<ProductDto> result = productService.findAll(null, 10_000, PageHelper.encodeCursor(1));
+
+        // Assert
+        assertTrue(result.getCollection().isEmpty());
+        assertNull(result.getPage());
+        assertFalse(result.getHasNext());
+        assertNull(result.getNextCursor());
+    }
+
+    @Test
+    void testFindAllPage_WithMalformedCursor_ShouldThrowException() {
+        // Act & Assert
+        assertThrows(InvalidCursorException.class, () -> productService.findAll(null, 10, "not-a-cursor"));
+        verifyNoInteractions(productRepository);
+    }
 }
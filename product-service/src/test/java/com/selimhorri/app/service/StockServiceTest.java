@@ -0,0 +1,220 @@
+package com.selimhorri.app.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.selimhorri.app.dto.StockReservationDto;
+import com.selimhorri.app.exception.wrapper.InsufficientStockException;
+import com.selimhorri.app.exception.wrapper.InvalidStockReservationException;
+import com.selimhorri.app.exception.wrapper.ProductNotFoundException;
+import com.selimhorri.app.repository.ProductRepository;
+import com.selimhorri.app.service.impl.StockServiceImpl;
+
+@ExtendWith(MockitoExtension.class)
+class StockServiceTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private ProductSearchService productSearchService;
+
+    @Mock
+    private CatalogCacheService catalogCacheService;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private HotStockService hotStockService;
+
+    @InjectMocks
+    private StockServiceImpl stockService;
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive())
+            TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    void testReserve_WithEnoughStock_ShouldDecrementAtomically() {
+        // Arrange
+        when(productRepository.reserveStock(1, 3)).thenReturn(1);
+
+        // Act
+        stockService.reserve(1, 3);
+
+        // Assert
+        verify(productRepository, times(1)).reserveStock(1, 3);
+        verify(productRepository, never()).save(any());
+        verify(productSearchService, times(1)).reindex(1);
+        verify(catalogCacheService, times(1)).stockChanged();
+        verify(catalogCacheService, never()).invalidate();
+    }
+
+    @Test
+    void testReserve_WithInsufficientStock_ShouldThrowInsufficientStockException() {
+        // Arrange
+        when(productRepository.reserveStock(1, 30)).thenReturn(0);
+        when(productRepository.existsById(1)).thenReturn(true);
+
+        // Act & Assert
+        assertThrows(InsufficientStockException.class, () -> stockService.reserve(1, 30));
+        verify(productSearchService, never()).reindex(any());
+    }
+
+    @Test
+    void testReserve_WithUnknownProduct_ShouldThrowProductNotFoundException() {
+        // Arrange
+        when(productRepository.reserveStock(99, 1)).thenReturn(0);
+        when(productRepository.existsById(99)).thenReturn(false);
+
+        // Act & Assert
+        assertThrows(ProductNotFoundException.class, () -> stockService.reserve(99, 1));
+    }
+
+    @Test
+    void testReserveAll_ShouldMergeLinesAndUpdateInProductIdOrder() {
+        // Arrange
+        when(productRepository.reserveStock(anyInt(), anyInt())).thenReturn(1);
+
+        // Act
+        stockService.reserveAll(List.of(
+                new StockReservationDto(3, 1),
+                new StockReservationDto(1, 2),
+                new StockReservationDto(3, 4)));
+
+        // Assert
+        InOrder inOrder = inOrder(productRepository);
+        inOrder.verify(productRepository).reserveStock(1, 2);
+        inOrder.verify(productRepository).reserveStock(3, 5);
+        verifyNoMoreInteractions(productRepository);
+    }
+
+    @Test
+    void testReserveAll_WithNonPositiveQuantity_ShouldRejectBeforeUpdating() {
+        // Act & Assert
+        assertThrows(InvalidStockReservationException.class, () -> stockService.reserveAll(List.of(
+                new StockReservationDto(1, 2),
+                new StockReservationDto(2, 0))));
+        verifyNoInteractions(productRepository);
+    }
+
+    @Test
+    void testReserve_WithHotProduct_ShouldBypassProductRow() {
+        // Arrange
+        when(hotStockService.isHot(7)).thenReturn(true);
+        when(hotStockService.reserve(7, 2)).thenReturn(true);
+
+        // Act
+        stockService.reserve(7, 2);
+
+        // Assert
+        verify(hotStockService, times(1)).reserve(7, 2);
+        verifyNoInteractions(productRepository, productSearchService);
+    }
+
+    @Test
+    void testReserveAll_WithShortLineAfterHotLine_ShouldGiveHotUnitsBackOnRollback() {
+        // Arrange
+        when(hotStockService.isHot(1)).thenReturn(true);
+        when(hotStockService.reserve(1, 2)).thenReturn(true);
+        when(productRepository.reserveStock(2, 5)).thenReturn(0);
+        when(productRepository.existsById(2)).thenReturn(true);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        assertThrows(InsufficientStockException.class, () -> stockService.reserveAll(List.of(
+                new StockReservationDto(1, 2),
+                new StockReservationDto(2, 5))));
+        verify(hotStockService, never()).release(anyInt(), anyInt());
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        // Assert
+        verify(hotStockService, times(1)).release(1, 2);
+    }
+
+    @Test
+    void testReserveAll_WithRollbackAfterReserving_ShouldGiveHotUnitsBack() {
+        // Arrange
+        when(hotStockService.isHot(1)).thenReturn(true);
+        when(hotStockService.reserve(1, 2)).thenReturn(true);
+        when(productRepository.reserveStock(2, 5)).thenReturn(1);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        stockService.reserveAll(List.of(
+                new StockReservationDto(1, 2),
+                new StockReservationDto(2, 5)));
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        // Assert
+        verify(hotStockService, times(1)).release(1, 2);
+    }
+
+    @Test
+    void testReserveAll_WithCommittedTransaction_ShouldKeepHotUnits() {
+        // Arrange
+        when(hotStockService.isHot(1)).thenReturn(true);
+        when(hotStockService.reserve(1, 2)).thenReturn(true);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        stockService.reserveAll(List.of(new StockReservationDto(1, 2)));
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        // Assert
+        verify(hotStockService, never()).release(anyInt(), anyInt());
+    }
+
+    @Test
+    void testReleaseAll_WithHotLine_ShouldReleaseOnlyAfterCommit() {
+        // Arrange
+        when(hotStockService.isHot(1)).thenReturn(true);
+        when(productRepository.releaseStock(2, 5)).thenReturn(1);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        stockService.releaseAll(List.of(
+                new StockReservationDto(1, 2),
+                new StockReservationDto(2, 5)));
+        verify(hotStockService, never()).release(anyInt(), anyInt());
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        // Assert
+        verify(hotStockService, times(1)).release(1, 2);
+    }
+
+    @Test
+    void testReleaseAll_WithRolledBackTransaction_ShouldNotReleaseHotUnits() {
+        // Arrange
+        when(hotStockService.isHot(1)).thenReturn(true);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        stockService.releaseAll(List.of(new StockReservationDto(1, 2)));
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        // Assert
+        verify(hotStockService, never()).release(anyInt(), anyInt());
+    }
+
+    private static void complete(final int status) {
+        TransactionSynchronizationManager.getSynchronizations().forEach(s -> s.afterCompletion(status));
+    }
+}
@@ -0,0 +1,10 @@
+package com.selimhorri.app.business.auth.service;
+
+import java.util.Date;
+
+public interface TokenRevocationService {
+	
+	void revoke(final Integer credentialId);
+	boolean isRevoked(final Integer credentialId, final Date issuedAt);
+	
+}
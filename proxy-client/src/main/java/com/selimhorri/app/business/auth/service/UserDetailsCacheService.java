@@ -0,0 +1,13 @@
+package com.selimhorri.app.business.auth.service;
+
+import java.util.function.Function;
+
+import org.springframework.security.core.userdetails.UserDetails;
+
+public interface UserDetailsCacheService {
+	
+	UserDetails get(final String username, final Function<String, UserDetails> loader);
+	void evict(final String username);
+	void evictAll();
+	
+}
@@ -0,0 +1,52 @@
+package com.selimhorri.app.business.auth.service.impl;
+
+import java.time.Duration;
+import java.util.Date;
+
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.selimhorri.app.business.auth.service.TokenRevocationService;
+import com.selimhorri.app.constant.AppConstant;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Credentials disabled, locked or deleted through this instance, mapped to the revocation time. 
+ * Tokens issued up to that time are rejected; entries outlive every token they can affect.
+ */
+@Service
+@Slf4j
+public class TokenRevocationServiceImpl implements TokenRevocationService {
+	
+	private final Cache<Integer, Long> revokedCredentials = Caffeine.newBuilder()
+			.expireAfterWrite(Duration.ofMillis(AppConstant.JWT_TOKEN_VALIDITY_MILLIS))
+			.build();
+	
+	@Override
+	public void revoke(final Integer credentialId) {
+		log.info("**Void, revoke tokens of given credentialId*\n");
+		if (credentialId != null)
+			this.revokedCredentials.put(credentialId, System.currentTimeMillis());
+	}
+	
+	@Override
+	public boolean isRevoked(final Integer credentialId, final Date issuedAt) {
+		final Long revokedAt = (credentialId == null) ? null : this.revokedCredentials.getIfPresent(credentialId);
+		return revokedAt != null && (issuedAt == null || issuedAt.getTime() <= revokedAt);
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
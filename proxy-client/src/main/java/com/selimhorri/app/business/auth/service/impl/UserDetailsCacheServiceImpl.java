@@ -0,0 +1,67 @@
+package com.selimhorri.app.business.auth.service.impl;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.selimhorri.app.business.auth.service.UserDetailsCacheService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@Slf4j
+public class UserDetailsCacheServiceImpl implements UserDetailsCacheService {
+	
+	private static final String CACHE_NAME = "userDetailsCache";
+	private final Cache<String, UserDetails> cache;
+	
+	public UserDetailsCacheServiceImpl(
+			@Value("${app.security.user-details-cache.ttl:5m}") final Duration ttl, 
+			@Value("${app.security.user-details-cache.maximum-size:10000}") final long maximumSize, 
+			final MeterRegistry meterRegistry) {
+		this.cache = Caffeine.newBuilder()
+				.expireAfterWrite(ttl)
+				.maximumSize(maximumSize)
+				.recordStats()
+				.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, this.cache, CACHE_NAME);
+	}
+	
+	@Override
+	public UserDetails get(final String username, final Function<String, UserDetails> loader) {
+		return this.cache.get(username, loader);
+	}
+	
+	@Override
+	public void evict(final String username) {
+		log.info("**Void, evict cached userDetails of given username*\n");
+		if (username != null)
+			this.cache.invalidate(username);
+	}
+	
+	@Override
+	public void evictAll() {
+		log.info("**Void, evict all cached userDetails*\n");
+		this.cache.invalidateAll();
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -8,6 +8,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.selimhorri.app.business.favourite.model.FavouriteDto;
@@ -25,8 +26,11 @@ public class FavouriteController {
 	private final FavouriteClientService favouriteClientService;
 	
 	@GetMapping
-	public ResponseEntity<FavouriteFavouriteServiceCollectionDtoResponse> findAll() {
-		return ResponseEntity.ok(this.favouriteClientService.findAll().getBody());
+	public ResponseEntity<FavouriteFavouriteServiceCollectionDtoResponse> findAll(
+			@RequestParam(name = "page", required = false) final Integer page, 
+			@RequestParam(name = "size", required = false) final Integer size, 
+			@RequestParam(name = "cursor", required = false) final String cursor) {
+		return ResponseEntity.ok(this.favouriteClientService.findAll(page, size, cursor).getBody());
 	}
 	
 	@GetMapping("/{userId}/{productId}/{likeDate}")
@@ -3,6 +3,8 @@ package com.selimhorri.app.business.favourite.model.response;
 import java.io.Serializable;
 import java.util.Collection;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.selimhorri.app.business.favourite.model.FavouriteDto;
 
 import lombok.AllArgsConstructor;
@@ -14,9 +16,14 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 @Data
 @Builder
+@JsonInclude(Include.NON_NULL)
 public class FavouriteFavouriteServiceCollectionDtoResponse implements Serializable {
 	
 	private static final long serialVersionUID = 1L;
 	private Collection<FavouriteDto> collection;
+	private Integer page;
+	private Integer size;
+	private Boolean hasNext;
+	private String nextCursor;
 	
 }
@@ -12,11 +12,14 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.selimhorri.app.business.order.model.OrderDetailsDto;
 import com.selimhorri.app.business.order.model.OrderDto;
 import com.selimhorri.app.business.order.model.response.OrderOrderServiceDtoCollectionResponse;
 import com.selimhorri.app.business.order.service.OrderClientService;
+import com.selimhorri.app.business.order.service.OrderDetailsService;
 
 import lombok.RequiredArgsConstructor;
 
@@ -26,10 +29,14 @@ import lombok.RequiredArgsConstructor;
 public class OrderController {
 	
 	private final OrderClientService orderClientService;
+	private final OrderDetailsService orderDetailsService;
 	
 	@GetMapping
-	public ResponseEntity<OrderOrderServiceDtoCollectionResponse> findAll() {
-		return ResponseEntity.ok(this.orderClientService.findAll().getBody());
+	public ResponseEntity<OrderOrderServiceDtoCollectionResponse> findAll(
+			@RequestParam(name = "page", required = false) final Integer page, 
+			@RequestParam(name = "size", required = false) final Integer size, 
+			@RequestParam(name = "cursor", required = false) final String cursor) {
+		return ResponseEntity.ok(this.orderClientService.findAll(page, size, cursor).getBody());
 	}
 	
 	@GetMapping("/{orderId}")
@@ -40,6 +47,14 @@ public class OrderController {
 		return ResponseEntity.ok(this.orderClientService.findById(orderId).getBody());
 	}
 	
+	@GetMapping("/{orderId}/full")
+	public ResponseEntity<OrderDetailsDto> findDetailsById(
+			@PathVariable("orderId") 
+			@NotBlank(message = "Input must not be blank!") 
+			@Valid final String orderId) {
+		return ResponseEntity.ok(this.orderDetailsService.findById(orderId));
+	}
+	
 	@PostMapping
 	public ResponseEntity<OrderDto> save(
 			@RequestBody 
@@ -0,0 +1,53 @@
+package com.selimhorri.app.business.order.model;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.Set;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.selimhorri.app.business.orderItem.model.OrderItemDto;
+import com.selimhorri.app.business.payment.model.PaymentDto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+public class OrderDetailsDto implements Serializable {
+	
+	private static final long serialVersionUID = 1L;
+	
+	@JsonProperty("order")
+	private OrderDto orderDto;
+	
+	@JsonProperty("orderItems")
+	private List<OrderItemDto> orderItemDtos;
+	
+	@JsonProperty("payments")
+	private List<PaymentDto> paymentDtos;
+	
+	/**
+	 * Parts that could not be fetched in time and are left empty (products: id-only items); 
+	 * absent when the page is complete.
+	 */
+	@JsonProperty("unavailable")
+	@JsonInclude(Include.NON_EMPTY)
+	private Set<String> unavailableParts;
+	
+}
+
+
+
+
+
+
+
+
+
+
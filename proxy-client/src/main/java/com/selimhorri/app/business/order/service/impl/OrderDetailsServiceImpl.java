@@ -0,0 +1,150 @@
+package com.selimhorri.app.business.order.service.impl;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+
+import com.selimhorri.app.business.order.model.OrderDetailsDto;
+import com.selimhorri.app.business.order.service.OrderClientService;
+import com.selimhorri.app.business.order.service.OrderDetailsService;
+import com.selimhorri.app.business.orderItem.model.OrderItemDto;
+import com.selimhorri.app.business.orderItem.model.ProductDto;
+import com.selimhorri.app.business.orderItem.model.response.OrderItemOrderItemServiceDtoCollectionResponse;
+import com.selimhorri.app.business.orderItem.service.OrderItemClientService;
+import com.selimhorri.app.business.payment.model.PaymentDto;
+import com.selimhorri.app.business.payment.model.response.PaymentPaymentServiceDtoCollectionResponse;
+import com.selimhorri.app.business.payment.service.PaymentClientService;
+import com.selimhorri.app.business.product.service.ProductClientService;
+import com.selimhorri.app.config.executor.EnrichmentExecutor;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Assembles an order detail page with one fan-out: the order, its items and its payments are 
+ * fetched in parallel from the services owning them, then every distinct product of the items in 
+ * a single batch call. Items and payments come back as bare rows, so no downstream service re-fetches 
+ * the order. The order itself is mandatory; a failed or late items, payments or products lookup 
+ * leaves that part empty (or id-only) instead of failing the page, and is named in its unavailable parts.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class OrderDetailsServiceImpl implements OrderDetailsService {
+	
+	private static final String ORDER_ITEMS = "orderItems";
+	private static final String PAYMENTS = "payments";
+	private static final String PRODUCTS = "products";
+	
+	private final OrderClientService orderClientService;
+	private final OrderItemClientService orderItemClientService;
+	private final PaymentClientService paymentClientService;
+	private final ProductClientService productClientService;
+	private final EnrichmentExecutor enrichmentExecutor;
+	
+	@Override
+	public OrderDetailsDto findById(final String orderId) {
+		log.info("**OrderDetailsDto, fetch order with its items and payments*\n");
+		final CompletableFuture<List<OrderItemDto>> orderItemsFuture = this.enrichmentExecutor
+				.supplyAsync(() -> this.fetchOrderItems(orderId), null);
+		final CompletableFuture<List<PaymentDto>> paymentsFuture = this.enrichmentExecutor
+				.supplyAsync(() -> this.fetchPayments(orderId), null);
+		final OrderDetailsDto orderDetailsDto = OrderDetailsDto.builder()
+				.orderDto(this.orderClientService.findById(orderId).getBody())
+				.build();
+		final Set<String> unavailableParts = new LinkedHashSet<>();
+		
+		final List<OrderItemDto> orderItemDtos = this.orUnavailable(orderItemsFuture.join(), ORDER_ITEMS, unavailableParts);
+		final Set<Integer> productIds = orderItemDtos.stream()
+				.map(OrderItemDto::getProductId)
+				.filter(Objects::nonNull)
+				.collect(Collectors.toUnmodifiableSet());
+		final Map<Integer, ProductDto> productDtos = this.enrichmentExecutor
+				.supplyAsync(() -> this.fetchProducts(productIds), null)
+				.join();
+		if (productDtos == null)
+			unavailableParts.add(PRODUCTS);
+		orderItemDtos.forEach(o -> {
+			if (productDtos != null)
+				o.setProductDto(productDtos.getOrDefault(o.getProductId(), o.getProductDto()));
+			o.setOrderDto(null);
+		});
+		final List<PaymentDto> paymentDtos = this.orUnavailable(paymentsFuture.join(), PAYMENTS, unavailableParts);
+		paymentDtos.forEach(p -> p.setOrderDto(null));
+		
+		orderDetailsDto.setOrderItemDtos(orderItemDtos);
+		orderDetailsDto.setPaymentDtos(paymentDtos);
+		orderDetailsDto.setUnavailableParts(Collections.unmodifiableSet(unavailableParts));
+		return orderDetailsDto;
+	}
+	
+	private List<OrderItemDto> fetchOrderItems(final String orderId) {
+		final OrderItemOrderItemServiceDtoCollectionResponse response = this.orderItemClientService
+				.findAllByOrderId(orderId)
+				.getBody();
+		return this.toList((response != null) ? response.getCollection() : null);
+	}
+	
+	private List<PaymentDto> fetchPayments(final String orderId) {
+		final PaymentPaymentServiceDtoCollectionResponse response = this.paymentClientService
+				.findAllByOrderId(orderId)
+				.getBody();
+		return this.toList((response != null) ? response.getCollection() : null);
+	}
+	
+	private Map<Integer, ProductDto> fetchProducts(final Set<Integer> productIds) {
+		if (productIds.isEmpty())
+			return Collections.emptyMap();
+		final Map<Integer, com.selimhorri.app.business.product.model.ProductDto> productDtos = this.productClientService
+				.findAllByIds(productIds)
+				.getBody();
+		if (productDtos == null)
+			return Collections.emptyMap();
+		return productDtos.values().stream()
+				.collect(Collectors.toUnmodifiableMap(
+						com.selimhorri.app.business.product.model.ProductDto::getProductId, 
+						p -> ProductDto.builder()
+								.productId(p.getProductId())
+								.productTitle(p.getProductTitle())
+								.imageUrl(p.getImageUrl())
+								.sku(p.getSku())
+								.priceUnit(p.getPriceUnit())
+								.quantity(p.getQuantity())
+								.build()));
+	}
+	
+	/**
+	 * A lookup that failed or missed its deadline completes with a null fallback.
+	 */
+	private <T> List<T> orUnavailable(final List<T> fetched, final String part, final Set<String> unavailableParts) {
+		if (fetched != null)
+			return fetched;
+		unavailableParts.add(part);
+		return Collections.emptyList();
+	}
+	
+	private <T> List<T> toList(final Collection<T> collection) {
+		return (collection == null) ? Collections.emptyList() : List.copyOf(collection);
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
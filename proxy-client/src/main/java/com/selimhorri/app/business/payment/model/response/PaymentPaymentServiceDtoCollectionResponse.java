@@ -3,6 +3,8 @@ package com.selimhorri.app.business.payment.model.response;
 import java.io.Serializable;
 import java.util.Collection;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.selimhorri.app.business.payment.model.PaymentDto;
 
 import lombok.AllArgsConstructor;
@@ -14,9 +16,14 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 @Data
 @Builder
+@JsonInclude(Include.NON_NULL)
 public class PaymentPaymentServiceDtoCollectionResponse implements Serializable {
 	
 	private static final long serialVersionUID = 1L;
 	private Collection<PaymentDto> collection;
+	private Integer page;
+	private Integer size;
+	private Boolean hasNext;
+	private String nextCursor;
 	
 }
@@ -1,5 +1,6 @@
 package com.selimhorri.app.business.product.controller;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -7,12 +8,14 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.selimhorri.app.business.product.model.CategoryDto;
-import com.selimhorri.app.business.product.model.response.CategoryProductServiceCollectionDtoResponse;
 import com.selimhorri.app.business.product.service.CategoryClientService;
+import com.selimhorri.app.helper.ResponseHelper;
 
 import lombok.RequiredArgsConstructor;
 
@@ -24,8 +27,12 @@ public class CategoryController {
 	private final CategoryClientService categoryClientService;
 	
 	@GetMapping
-	public ResponseEntity<CategoryProductServiceCollectionDtoResponse> findAll() {
-		return ResponseEntity.ok(this.categoryClientService.findAll().getBody());
+	public ResponseEntity<byte[]> findAll(
+			@RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) final String ifNoneMatch, 
+			@RequestParam(name = "page", required = false) final Integer page, 
+			@RequestParam(name = "size", required = false) final Integer size, 
+			@RequestParam(name = "cursor", required = false) final String cursor) {
+		return ResponseHelper.relay(this.categoryClientService.findAll(ifNoneMatch, page, size, cursor));
 	}
 	
 	@GetMapping("/{categoryId}")
@@ -1,10 +1,14 @@
 package com.selimhorri.app.business.product.service;
 
+import java.util.Map;
+import java.util.Set;
+
 import javax.validation.Valid;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
 
 import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -12,15 +16,25 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 
 import com.selimhorri.app.business.product.model.ProductDto;
-import com.selimhorri.app.business.product.model.response.ProductProductServiceCollectionDtoResponse;
+
+import feign.Response;
 
 @FeignClient(name = "PRODUCT-SERVICE", contextId = "productClientService", path = "/product-service/api/products")
 public interface ProductClientService {
 	
+	/**
+	 * Raw response, so that a 304 Not Modified comes back as a status instead of a decoding error
+	 */
 	@GetMapping
-	ResponseEntity<ProductProductServiceCollectionDtoResponse> findAll();
+	Response findAll(
+			@RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) final String ifNoneMatch, 
+			@RequestParam(name = "page", required = false) final Integer page, 
+			@RequestParam(name = "size", required = false) final Integer size, 
+			@RequestParam(name = "cursor", required = false) final String cursor);
 	
 	@GetMapping("/{productId}")
 	ResponseEntity<ProductDto> findById(
@@ -52,6 +66,9 @@ public interface ProductClientService {
 	@DeleteMapping("/{productId}")
 	ResponseEntity<Boolean> deleteById(@PathVariable("productId") final String productId);
 	
+	@PostMapping("/batch")
+	ResponseEntity<Map<Integer, ProductDto>> findAllByIds(@RequestBody final Set<Integer> productIds);
+	
 }
 
 
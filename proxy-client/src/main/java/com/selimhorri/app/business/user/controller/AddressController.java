@@ -8,6 +8,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.selimhorri.app.business.user.model.AddressDto;
@@ -24,8 +25,11 @@ public class AddressController {
 	private final AddressClientService addressClientService;
 	
 	@GetMapping
-	public ResponseEntity<AddressUserServiceCollectionDtoResponse> findAll() {
-		return ResponseEntity.ok(this.addressClientService.findAll().getBody());
+	public ResponseEntity<AddressUserServiceCollectionDtoResponse> findAll(
+			@RequestParam(name = "page", required = false) final Integer page, 
+			@RequestParam(name = "size", required = false) final Integer size, 
+			@RequestParam(name = "cursor", required = false) final String cursor) {
+		return ResponseEntity.ok(this.addressClientService.findAll(page, size, cursor).getBody());
 	}
 	
 	@GetMapping("/{addressId}")
@@ -8,24 +8,34 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.selimhorri.app.business.auth.service.TokenRevocationService;
+import com.selimhorri.app.business.auth.service.UserDetailsCacheService;
 import com.selimhorri.app.business.user.model.CredentialDto;
 import com.selimhorri.app.business.user.model.response.CredentialUserServiceCollectionDtoResponse;
 import com.selimhorri.app.business.user.service.CredentialClientService;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
 @RestController
 @RequestMapping("/api/credentials")
+@Slf4j
 @RequiredArgsConstructor
 public class CredentialController {
 	
 	private final CredentialClientService credentialClientService;
+	private final UserDetailsCacheService userDetailsCacheService;
+	private final TokenRevocationService tokenRevocationService;
 	
 	@GetMapping
-	public ResponseEntity<CredentialUserServiceCollectionDtoResponse> findAll() {
-		return ResponseEntity.ok(this.credentialClientService.findAll().getBody());
+	public ResponseEntity<CredentialUserServiceCollectionDtoResponse> findAll(
+			@RequestParam(name = "page", required = false) final Integer page, 
+			@RequestParam(name = "size", required = false) final Integer size, 
+			@RequestParam(name = "cursor", required = false) final String cursor) {
+		return ResponseEntity.ok(this.credentialClientService.findAll(page, size, cursor).getBody());
 	}
 	
 	@GetMapping("/{credentialId}")
@@ -45,17 +55,60 @@ public class CredentialController {
 	
 	@PutMapping
 	public ResponseEntity<CredentialDto> update(@RequestBody final CredentialDto credentialDto) {
-		return ResponseEntity.ok(this.credentialClientService.update(credentialDto).getBody());
+		final String previousUsername = this.previousUsername(credentialDto.getCredentialId());
+		final CredentialDto updated = this.credentialClientService.update(credentialDto).getBody();
+		this.evictUserDetails(previousUsername, credentialDto);
+		this.revokeIfDeactivated(credentialDto.getCredentialId(), credentialDto);
+		return ResponseEntity.ok(updated);
 	}
 	
+	/**
+	 * The path id is the credential updated, evicted and revoked, whatever id the body carries
+	 */
 	@PutMapping("/{credentialId}")
-	public ResponseEntity<CredentialDto> update(@PathVariable("credentialId") final String credentialId, @RequestBody final CredentialDto credentialDto) {
-		return ResponseEntity.ok(this.credentialClientService.update(credentialDto).getBody());
+	public ResponseEntity<CredentialDto> update(@PathVariable("credentialId") final Integer credentialId, @RequestBody final CredentialDto credentialDto) {
+		credentialDto.setCredentialId(credentialId);
+		return this.update(credentialDto);
 	}
 	
 	@DeleteMapping("/{credentialId}")
-	public ResponseEntity<Boolean> deleteById(@PathVariable("credentialId") final String credentialId) {
-		return ResponseEntity.ok(this.credentialClientService.deleteById(credentialId).getBody());
+	public ResponseEntity<Boolean> deleteById(@PathVariable("credentialId") final Integer credentialId) {
+		final Boolean deleted = this.credentialClientService.deleteById(String.valueOf(credentialId)).getBody();
+		this.userDetailsCacheService.evictAll();
+		this.tokenRevocationService.revoke(credentialId);
+		return ResponseEntity.ok(deleted);
+	}
+	
+	/**
+	 * The username cached before the update, read first so that a rename also evicts the old name; 
+	 * unknown when the lookup fails, which evicts every cached user instead of failing the update
+	 */
+	private String previousUsername(final Integer credentialId) {
+		if (credentialId == null)
+			return null;
+		try {
+			final CredentialDto previous = this.credentialClientService.findById(String.valueOf(credentialId)).getBody();
+			return (previous == null) ? null : previous.getUsername();
+		}
+		catch (RuntimeException e) {
+			log.warn("**Previous username of credential {} unknown: {}*\n", credentialId, e.getMessage());
+			return null;
+		}
+	}
+	
+	private void evictUserDetails(final String previousUsername, final CredentialDto credentialDto) {
+		if (previousUsername == null || credentialDto.getUsername() == null) {
+			this.userDetailsCacheService.evictAll();
+			return;
+		}
+		this.userDetailsCacheService.evict(credentialDto.getUsername());
+		if (!previousUsername.equals(credentialDto.getUsername()))
+			this.userDetailsCacheService.evict(previousUsername);
+	}
+	
+	private void revokeIfDeactivated(final Integer credentialId, final CredentialDto credentialDto) {
+		if (Boolean.FALSE.equals(credentialDto.getIsEnabled()) || Boolean.FALSE.equals(credentialDto.getIsAccountNonLocked()))
+			this.tokenRevocationService.revoke(credentialId);
 	}
 	
 	
@@ -1,5 +1,7 @@
 package com.selimhorri.app.business.user.controller;
 
+import java.util.Set;
+
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -8,8 +10,12 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.selimhorri.app.business.auth.service.TokenRevocationService;
+import com.selimhorri.app.business.auth.service.UserDetailsCacheService;
+import com.selimhorri.app.business.user.model.CredentialDto;
 import com.selimhorri.app.business.user.model.UserDto;
 import com.selimhorri.app.business.user.model.response.UserUserServiceCollectionDtoResponse;
 import com.selimhorri.app.business.user.service.UserClientService;
@@ -22,10 +28,16 @@ import lombok.RequiredArgsConstructor;
 public class UserController {
 	
 	private final UserClientService userClientService;
+	private final UserDetailsCacheService userDetailsCacheService;
+	private final TokenRevocationService tokenRevocationService;
 	
 	@GetMapping
-	public ResponseEntity<UserUserServiceCollectionDtoResponse> findAll() {
-		return ResponseEntity.ok(this.userClientService.findAll().getBody());
+	public ResponseEntity<UserUserServiceCollectionDtoResponse> findAll(
+			@RequestParam(name = "page", required = false) final Integer page, 
+			@RequestParam(name = "size", required = false) final Integer size, 
+			@RequestParam(name = "cursor", required = false) final String cursor, 
+			@RequestParam(name = "expand", required = false) final Set<String> expand) {
+		return ResponseEntity.ok(this.userClientService.findAll(page, size, cursor, expand).getBody());
 	}
 	
 	@GetMapping("/{userId}")
@@ -45,17 +57,34 @@ public class UserController {
 	
 	@PutMapping
 	public ResponseEntity<UserDto> update(@RequestBody final UserDto userDto) {
-		return ResponseEntity.ok(this.userClientService.update(userDto).getBody());
+		final UserDto updated = this.userClientService.update(userDto).getBody();
+		this.evictUserDetails(userDto);
+		return ResponseEntity.ok(updated);
 	}
 	
 	@PutMapping("/{userId}")
 	public ResponseEntity<UserDto> update(@PathVariable("userId") final String userId, @RequestBody final UserDto userDto) {
-		return ResponseEntity.ok(this.userClientService.update(userDto).getBody());
+		final UserDto updated = this.userClientService.update(userDto).getBody();
+		this.evictUserDetails(userDto);
+		return ResponseEntity.ok(updated);
 	}
 	
 	@DeleteMapping("/{userId}")
 	public ResponseEntity<Boolean> deleteById(@PathVariable("userId") final String userId) {
-		return ResponseEntity.ok(this.userClientService.deleteById(userId).getBody());
+		final Boolean deleted = this.userClientService.deleteById(userId).getBody();
+		this.userDetailsCacheService.evictAll();
+		return ResponseEntity.ok(deleted);
+	}
+	
+	private void evictUserDetails(final UserDto userDto) {
+		final CredentialDto credentialDto = userDto.getCredentialDto();
+		if (credentialDto != null && credentialDto.getUsername() != null)
+			this.userDetailsCacheService.evict(credentialDto.getUsername());
+		else
+			this.userDetailsCacheService.evictAll();
+		if (credentialDto != null 
+				&& (Boolean.FALSE.equals(credentialDto.getIsEnabled()) || Boolean.FALSE.equals(credentialDto.getIsAccountNonLocked())))
+			this.tokenRevocationService.revoke(credentialDto.getCredentialId());
 	}
 	
 	
@@ -8,6 +8,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.selimhorri.app.business.user.model.VerificationTokenDto;
@@ -24,8 +25,11 @@ public class VerificationTokenController {
 	private final VerificationTokenClientService verificationTokenClientService;
 	
 	@GetMapping
-	public ResponseEntity<VerificationUserTokenServiceCollectionDtoResponse> findAll() {
-		return ResponseEntity.ok(this.verificationTokenClientService.findAll().getBody());
+	public ResponseEntity<VerificationUserTokenServiceCollectionDtoResponse> findAll(
+			@RequestParam(name = "page", required = false) final Integer page, 
+			@RequestParam(name = "size", required = false) final Integer size, 
+			@RequestParam(name = "cursor", required = false) final String cursor) {
+		return ResponseEntity.ok(this.verificationTokenClientService.findAll(page, size, cursor).getBody());
 	}
 	
 	@GetMapping("/{verificationTokenId}")
@@ -12,6 +12,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 
 import com.selimhorri.app.business.user.model.AddressDto;
 import com.selimhorri.app.business.user.model.response.AddressUserServiceCollectionDtoResponse;
@@ -20,7 +21,10 @@ import com.selimhorri.app.business.user.model.response.AddressUserServiceCollect
 public interface AddressClientService {
 	
 	@GetMapping
-	ResponseEntity<AddressUserServiceCollectionDtoResponse> findAll();
+	ResponseEntity<AddressUserServiceCollectionDtoResponse> findAll(
+			@RequestParam(name = "page", required = false) final Integer page, 
+			@RequestParam(name = "size", required = false) final Integer size, 
+			@RequestParam(name = "cursor", required = false) final String cursor);
 	
 	@GetMapping("/{addressId}")
 	ResponseEntity<AddressDto> findById(
@@ -1,5 +1,7 @@
 package com.selimhorri.app.business.user.service;
 
+import java.util.Set;
+
 import javax.validation.Valid;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
@@ -12,6 +14,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 
 import com.selimhorri.app.business.user.model.UserDto;
 import com.selimhorri.app.business.user.model.response.UserUserServiceCollectionDtoResponse;
@@ -20,7 +23,11 @@ import com.selimhorri.app.business.user.model.response.UserUserServiceCollection
 public interface UserClientService {
 	
 	@GetMapping
-	ResponseEntity<UserUserServiceCollectionDtoResponse> findAll();
+	ResponseEntity<UserUserServiceCollectionDtoResponse> findAll(
+			@RequestParam(name = "page", required = false) final Integer page, 
+			@RequestParam(name = "size", required = false) final Integer size, 
+			@RequestParam(name = "cursor", required = false) final String cursor, 
+			@RequestParam(name = "expand", required = false) final Set<String> expand);
 	
 	@GetMapping("/{userId}")
 	ResponseEntity<UserDto> findById(
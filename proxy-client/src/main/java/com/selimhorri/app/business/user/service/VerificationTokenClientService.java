@@ -12,6 +12,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 
 import com.selimhorri.app.business.user.model.VerificationTokenDto;
 import com.selimhorri.app.business.user.model.response.VerificationUserTokenServiceCollectionDtoResponse;
@@ -20,7 +21,10 @@ import com.selimhorri.app.business.user.model.response.VerificationUserTokenServ
 public interface VerificationTokenClientService {
 	
 	@GetMapping
-	ResponseEntity<VerificationUserTokenServiceCollectionDtoResponse> findAll();
+	ResponseEntity<VerificationUserTokenServiceCollectionDtoResponse> findAll(
+			@RequestParam(name = "page", required = false) final Integer page, 
+			@RequestParam(name = "size", required = false) final Integer size, 
+			@RequestParam(name = "cursor", required = false) final String cursor);
 	
 	@GetMapping("/{verificationTokenId}")
 	ResponseEntity<VerificationTokenDto> findById(
@@ -0,0 +1,51 @@
+package com.selimhorri.app.config.executor;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Runs remote enrichment lookups on a bounded executor. A lookup that fails, is rejected 
+ * or misses the deadline completes with its fallback, so callers always get a (partial) result.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class EnrichmentExecutor {
+	
+	private final Executor executor;
+	private final Duration timeout;
+	
+	public <T> CompletableFuture<T> supplyAsync(final Supplier<T> supplier, final T fallback) {
+		try {
+			return CompletableFuture.supplyAsync(supplier, this.executor)
+					.completeOnTimeout(fallback, this.timeout.toMillis(), TimeUnit.MILLISECONDS)
+					.exceptionally(e -> {
+						log.warn("*** Enrichment lookup failed, falling back to partial result: {} *", e.getMessage());
+						return fallback;
+					});
+		}
+		catch (RejectedExecutionException e) {
+			log.warn("*** Enrichment executor saturated, falling back to partial result *");
+			return CompletableFuture.completedFuture(fallback);
+		}
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
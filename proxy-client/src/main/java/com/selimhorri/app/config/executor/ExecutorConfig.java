@@ -0,0 +1,58 @@
+package com.selimhorri.app.config.executor;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.task.TaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class ExecutorConfig {
+	
+	/**
+	 * Declaring any executor bean backs off Boot's default one, which Spring MVC async 
+	 * (deferred and streaming responses) relies on; keep it registered as Boot would.
+	 */
+	@Lazy
+	@Bean(name = { TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME, "taskExecutor" })
+	public ThreadPoolTaskExecutor applicationTaskExecutor(final TaskExecutorBuilder taskExecutorBuilder) {
+		return taskExecutorBuilder.build();
+	}
+	
+	@Bean
+	public ThreadPoolTaskExecutor enrichmentTaskExecutor(
+			@Value("${app.enrichment.core-pool-size:8}") final int corePoolSize, 
+			@Value("${app.enrichment.max-pool-size:32}") final int maxPoolSize, 
+			@Value("${app.enrichment.queue-capacity:256}") final int queueCapacity) {
+		final ThreadPoolTaskExecutor taskExecutor = new ThreadPoolTaskExecutor();
+		taskExecutor.setCorePoolSize(corePoolSize);
+		taskExecutor.setMaxPoolSize(maxPoolSize);
+		taskExecutor.setQueueCapacity(queueCapacity);
+		taskExecutor.setThreadNamePrefix("enrichment-");
+		taskExecutor.setWaitForTasksToCompleteOnShutdown(false);
+		return taskExecutor;
+	}
+	
+	@Bean
+	public EnrichmentExecutor enrichmentExecutor(final ThreadPoolTaskExecutor enrichmentTaskExecutor, 
+			@Value("${app.enrichment.timeout:2s}") final Duration timeout) {
+		return new EnrichmentExecutor(enrichmentTaskExecutor, timeout);
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -7,6 +7,7 @@ import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -15,8 +16,12 @@ import org.springframework.security.web.authentication.WebAuthenticationDetailsS
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import com.selimhorri.app.business.auth.service.TokenRevocationService;
+import com.selimhorri.app.business.auth.service.UserDetailsCacheService;
+import com.selimhorri.app.business.user.model.UserDetailsImpl;
 import com.selimhorri.app.jwt.service.JwtService;
 
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -26,8 +31,13 @@ import lombok.extern.slf4j.Slf4j;
 public class JwtRequestFilter extends OncePerRequestFilter {
 	
 	private final UserDetailsService userDetailsService;
+	private final UserDetailsCacheService userDetailsCacheService;
+	private final TokenRevocationService tokenRevocationService;
 	private final JwtService jwtService;
 	
+	@Value("${app.security.jwt.stateless:false}")
+	private boolean stateless;
+	
 	@Override
 	protected void doFilterInternal(final HttpServletRequest request, final HttpServletResponse response, final FilterChain filterChain) 
 			throws ServletException, IOException {
@@ -37,18 +47,18 @@ public class JwtRequestFilter extends OncePerRequestFilter {
 		final var authorizationHeader = request.getHeader("Authorization");
 		
 		String username = null;
-		String jwt = null;
+		Claims claims = null;
 		
 		if ( authorizationHeader != null && authorizationHeader.startsWith("Bearer ") ) {
-			jwt = authorizationHeader.substring(7);
-			username = jwtService.extractUsername(jwt);
+			claims = this.jwtService.extractAllClaims(authorizationHeader.substring(7));
+			username = claims.getSubject();
 		}
 		
 		if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
 			
-			final UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
+			final UserDetails userDetails = this.resolveUserDetails(username, claims);
 			
-			if (this.jwtService.validateToken(jwt, userDetails)) {
+			if (this.jwtService.validateToken(claims, userDetails) && this.isActive(claims, userDetails)) {
 				final UsernamePasswordAuthenticationToken usernamePasswordAuthenticationToken = 
 						new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
 				usernamePasswordAuthenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
@@ -61,6 +71,21 @@ public class JwtRequestFilter extends OncePerRequestFilter {
 		log.info("**Jwt request filtered!*\n");
 	}
 	
+	private UserDetails resolveUserDetails(final String username, final Claims claims) {
+		if (this.stateless)
+			return this.jwtService.extractUserDetails(claims)
+					.orElseGet(() -> this.userDetailsCacheService.get(username, this.userDetailsService::loadUserByUsername));
+		return this.userDetailsCacheService.get(username, this.userDetailsService::loadUserByUsername);
+	}
+	
+	private boolean isActive(final Claims claims, final UserDetails userDetails) {
+		if (!this.stateless)
+			return true;
+		return userDetails.isEnabled() && userDetails.isAccountNonLocked() 
+				&& !(userDetails instanceof UserDetailsImpl 
+						&& this.tokenRevocationService.isRevoked(((UserDetailsImpl) userDetails).getCredentialId(), claims.getIssuedAt()));
+	}
+	
 	
 	
 }
@@ -11,6 +11,18 @@ public abstract class AppConstant {
 	public static final String ZONED_DATE_TIME_FORMAT = "dd-MM-yyyy__HH:mm:ss:SSSSSS";
 	public static final String INSTANT_FORMAT = "dd-MM-yyyy__HH:mm:ss:SSSSSS";
 	
+	public static final long JWT_TOKEN_VALIDITY_MILLIS = 1000L * 60 * 60 * 10;
+	
+	@NoArgsConstructor(access = AccessLevel.PRIVATE)
+	public abstract class JwtClaimsKeys {
+		
+		public static final String AUTHORITIES = "authorities";
+		public static final String CREDENTIAL_ID = "credentialId";
+		public static final String ENABLED = "enabled";
+		public static final String LOCKED = "locked";
+		
+	}
+	
 	@NoArgsConstructor(access = AccessLevel.PRIVATE)
 	public abstract class DiscoveredDomainsApi {
 		
@@ -0,0 +1,52 @@
+package com.selimhorri.app.helper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import feign.Response;
+import feign.Util;
+
+public interface ResponseHelper {
+	
+	List<String> RELAYED_HEADERS = List.of(HttpHeaders.CONTENT_TYPE, HttpHeaders.ETAG, HttpHeaders.CACHE_CONTROL);
+	
+	/**
+	 * Passes a raw upstream response through with its status, validators and body bytes, 
+	 * so a 304 Not Modified reaches the client as one and a 200 is not parsed and serialized again
+	 */
+	public static ResponseEntity<byte[]> relay(final Response response) {
+		try (response) {
+			final HttpHeaders headers = new HttpHeaders();
+			RELAYED_HEADERS.forEach(name -> response.headers()
+					.getOrDefault(name, List.of())
+					.forEach(value -> headers.add(name, value)));
+			if (response.body() == null)
+				return new ResponseEntity<>(headers, HttpStatus.valueOf(response.status()));
+			try (InputStream body = response.body().asInputStream()) {
+				return new ResponseEntity<>(Util.toByteArray(body), headers, HttpStatus.valueOf(response.status()));
+			}
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException("Could not relay upstream response", e);
+		}
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -1,6 +1,7 @@
 package com.selimhorri.app.jwt.service.impl;
 
 import java.util.Date;
+import java.util.Optional;
 import java.util.function.Function;
 
 import org.springframework.security.core.userdetails.UserDetails;
@@ -38,6 +39,18 @@ public class JwtServiceImpl implements JwtService {
 		return this.jwtUtil.extractClaims(token, claimsResolver);
 	}
 	
+	@Override
+	public Claims extractAllClaims(final String token) {
+		log.info("**Claims, jwt service extract all claims from given token!*");
+		return this.jwtUtil.extractAllClaims(token);
+	}
+	
+	@Override
+	public Optional<UserDetails> extractUserDetails(final Claims claims) {
+		log.info("**Optional UserDetails, jwt service extract userDetails from given claims!*");
+		return this.jwtUtil.extractUserDetails(claims);
+	}
+	
 	@Override
 	public String generateToken(final UserDetails userDetails) {
 		log.info("**String, jwt service generate token from given userDetails!*");
@@ -50,6 +63,12 @@ public class JwtServiceImpl implements JwtService {
 		return this.jwtUtil.validateToken(token, userDetails);
 	}
 	
+	@Override
+	public Boolean validateToken(final Claims claims, final UserDetails userDetails) {
+		log.info("**Boolean, jwt service validate token from given claims and userDetails!*");
+		return this.jwtUtil.validateToken(claims, userDetails);
+	}
+	
 	
 	
 }
@@ -2,12 +2,25 @@ package com.selimhorri.app.jwt.util.impl;
 
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.selimhorri.app.business.user.model.CredentialDto;
+import com.selimhorri.app.business.user.model.RoleBasedAuthority;
+import com.selimhorri.app.business.user.model.UserDetailsImpl;
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.constant.AppConstant.JwtClaimsKeys;
 import com.selimhorri.app.jwt.util.JwtUtil;
 
 import io.jsonwebtoken.Claims;
@@ -18,6 +31,30 @@ import io.jsonwebtoken.SignatureAlgorithm;
 public class JwtUtilImpl implements JwtUtil {
 	
 	private static final String SECRET_KEY = "secret";
+	private static final long VERIFIED_CLAIMS_CACHE_MAXIMUM_SIZE = 10_000L;
+	
+	/**
+	 * Recently verified tokens mapped to their claims, each entry expiring with its token, 
+	 * so a hot token is only signature-checked and decoded once.
+	 */
+	private final Cache<String, Claims> verifiedClaims = Caffeine.newBuilder()
+			.maximumSize(VERIFIED_CLAIMS_CACHE_MAXIMUM_SIZE)
+			.expireAfter(new Expiry<String, Claims>() {
+				@Override
+				public long expireAfterCreate(final String token, final Claims claims, final long currentTime) {
+					return (claims.getExpiration() == null) ? 0L : TimeUnit.MILLISECONDS
+							.toNanos(Math.max(0L, claims.getExpiration().getTime() - System.currentTimeMillis()));
+				}
+				@Override
+				public long expireAfterUpdate(final String token, final Claims claims, final long currentTime, final long currentDuration) {
+					return currentDuration;
+				}
+				@Override
+				public long expireAfterRead(final String token, final Claims claims, final long currentTime, final long currentDuration) {
+					return currentDuration;
+				}
+			})
+			.build();
 	
 	@Override
 	public String extractUsername(final String token) {
@@ -35,17 +72,52 @@ public class JwtUtilImpl implements JwtUtil {
 		return claimsResolver.apply(claims);
 	}
 	
-	private Claims extractAllClaims(final String token) {
+	@Override
+	public Claims extractAllClaims(final String token) {
+		return this.verifiedClaims.get(token, this::parseClaims);
+	}
+	
+	private Claims parseClaims(final String token) {
 		return Jwts.parser().setSigningKey(SECRET_KEY).parseClaimsJws(token).getBody();
 	}
 	
-	private Boolean isTokenExpired(final String token) {
-		return this.extractExpiration(token).before(new Date());
+	private Boolean isTokenExpired(final Claims claims) {
+		return claims.getExpiration().before(new Date());
+	}
+	
+	/**
+	 * Rebuilds the principal from the signed claims embedded by {@link #generateToken(UserDetails)}, 
+	 * empty for tokens issued without them.
+	 */
+	@Override
+	public Optional<UserDetails> extractUserDetails(final Claims claims) {
+		final List<?> authorities = claims.get(JwtClaimsKeys.AUTHORITIES, List.class);
+		final Integer credentialId = claims.get(JwtClaimsKeys.CREDENTIAL_ID, Integer.class);
+		final Boolean enabled = claims.get(JwtClaimsKeys.ENABLED, Boolean.class);
+		final Boolean locked = claims.get(JwtClaimsKeys.LOCKED, Boolean.class);
+		if (authorities == null || authorities.size() != 1 || credentialId == null || enabled == null || locked == null)
+			return Optional.empty();
+		return Optional.of(new UserDetailsImpl(CredentialDto.builder()
+				.credentialId(credentialId)
+				.username(claims.getSubject())
+				.roleBasedAuthority(RoleBasedAuthority.valueOf(String.valueOf(authorities.get(0))))
+				.isEnabled(enabled)
+				.isAccountNonExpired(true)
+				.isAccountNonLocked(!locked)
+				.isCredentialsNonExpired(true)
+				.build()));
 	}
 	
 	@Override
 	public String generateToken(final UserDetails userDetails) {
 		final Map<String, Object> claims = new HashMap<>();
+		claims.put(JwtClaimsKeys.AUTHORITIES, userDetails.getAuthorities().stream()
+				.map(GrantedAuthority::getAuthority)
+				.collect(Collectors.toUnmodifiableList()));
+		claims.put(JwtClaimsKeys.ENABLED, userDetails.isEnabled());
+		claims.put(JwtClaimsKeys.LOCKED, !userDetails.isAccountNonLocked());
+		if (userDetails instanceof UserDetailsImpl)
+			claims.put(JwtClaimsKeys.CREDENTIAL_ID, ((UserDetailsImpl) userDetails).getCredentialId());
 		return this.createToken(claims, userDetails.getUsername());
 	}
 	
@@ -54,16 +126,21 @@ public class JwtUtilImpl implements JwtUtil {
 					.setClaims(claims)
 					.setSubject(subject)
 					.setIssuedAt(new Date(System.currentTimeMillis()))
-					.setExpiration(new Date(System.currentTimeMillis() + 1000 * 60 * 60 * 10))
+					.setExpiration(new Date(System.currentTimeMillis() + AppConstant.JWT_TOKEN_VALIDITY_MILLIS))
 					.signWith(SignatureAlgorithm.HS256, SECRET_KEY)
 		.compact();
 	}
 	
 	@Override
 	public Boolean validateToken(final String token, final UserDetails userDetails) {
-		final String username = this.extractUsername(token);
+		return this.validateToken(this.extractAllClaims(token), userDetails);
+	}
+	
+	@Override
+	public Boolean validateToken(final Claims claims, final UserDetails userDetails) {
+		final String username = claims.getSubject();
 		return (
-			username.equals(userDetails.getUsername()) && !isTokenExpired(token)
+			username.equals(userDetails.getUsername()) && !isTokenExpired(claims)
 		);
 	}
 	
@@ -0,0 +1,65 @@
+package com.selimhorri.app.business.auth.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Date;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.selimhorri.app.business.auth.service.impl.TokenRevocationServiceImpl;
+
+class TokenRevocationServiceTest {
+
+    private TokenRevocationService tokenRevocationService;
+
+    @BeforeEach
+    void setUp() {
+        tokenRevocationService = new TokenRevocationServiceImpl();
+    }
+
+    @Test
+    void testIsRevoked_WithTokenIssuedUpToRevocation_ShouldReturnTrue() {
+        // Arrange
+        final long beforeRevocation = System.currentTimeMillis();
+
+        // Act
+        tokenRevocationService.revoke(1);
+
+        // Assert
+        assertTrue(tokenRevocationService.isRevoked(1, new Date(beforeRevocation - 60_000)));
+        assertTrue(tokenRevocationService.isRevoked(1, new Date(beforeRevocation)));
+    }
+
+    @Test
+    void testIsRevoked_WithTokenIssuedAfterRevocation_ShouldReturnFalse() {
+        // Arrange
+        tokenRevocationService.revoke(1);
+
+        // Act
+        final boolean revoked = tokenRevocationService.isRevoked(1, new Date(System.currentTimeMillis() + 1_000));
+
+        // Assert
+        assertFalse(revoked);
+    }
+
+    @Test
+    void testIsRevoked_WithoutIssuedAt_ShouldReturnTrue() {
+        // Arrange
+        tokenRevocationService.revoke(1);
+
+        // Act & Assert
+        assertTrue(tokenRevocationService.isRevoked(1, null));
+    }
+
+    @Test
+    void testIsRevoked_WithOtherOrUnknownCredential_ShouldReturnFalse() {
+        // Arrange
+        tokenRevocationService.revoke(1);
+        tokenRevocationService.revoke(null);
+
+        // Act & Assert
+        assertFalse(tokenRevocationService.isRevoked(2, new Date(0)));
+        assertFalse(tokenRevocationService.isRevoked(null, new Date(0)));
+    }
+}
@@ -0,0 +1,103 @@
+package com.selimhorri.app.business.auth.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import com.selimhorri.app.business.auth.service.impl.UserDetailsCacheServiceImpl;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class UserDetailsCacheServiceTest {
+
+    private UserDetailsCacheService userDetailsCacheService;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        userDetailsCacheService = new UserDetailsCacheServiceImpl(Duration.ofMinutes(5), 100, new SimpleMeterRegistry());
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    void testGet_WithRepeatedUsername_ShouldLoadOnce() {
+        // Act
+        final UserDetails first = userDetailsCacheService.get("selim", this::load);
+        final UserDetails second = userDetailsCacheService.get("selim", this::load);
+
+        // Assert
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void testEvict_ShouldReloadOnlyThatUsername() {
+        // Arrange
+        userDetailsCacheService.get("selim", this::load);
+        userDetailsCacheService.get("amine", this::load);
+
+        // Act
+        userDetailsCacheService.evict("selim");
+        userDetailsCacheService.get("selim", this::load);
+        userDetailsCacheService.get("amine", this::load);
+
+        // Assert
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    void testEvict_WithNullUsername_ShouldKeepCache() {
+        // Arrange
+        userDetailsCacheService.get("selim", this::load);
+
+        // Act
+        userDetailsCacheService.evict(null);
+        userDetailsCacheService.get("selim", this::load);
+
+        // Assert
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void testEvictAll_ShouldReloadEveryUsername() {
+        // Arrange
+        userDetailsCacheService.get("selim", this::load);
+        userDetailsCacheService.get("amine", this::load);
+
+        // Act
+        userDetailsCacheService.evictAll();
+        userDetailsCacheService.get("selim", this::load);
+        userDetailsCacheService.get("amine", this::load);
+
+        // Assert
+        assertEquals(4, loads.get());
+    }
+
+    @Test
+    void testGet_AfterTtl_ShouldReload() throws InterruptedException {
+        // Arrange
+        userDetailsCacheService = new UserDetailsCacheServiceImpl(Duration.ofMillis(50), 100, new SimpleMeterRegistry());
+        userDetailsCacheService.get("selim", this::load);
+
+        // Act
+        Thread.sleep(100);
+        userDetailsCacheService.get("selim", this::load);
+
+        // Assert
+        assertEquals(2, loads.get());
+    }
+
+    private UserDetails load(final String username) {
+        loads.incrementAndGet();
+        return User.withUsername(username)
+                .password("password")
+                .authorities("ROLE_USER")
+                .build();
+    }
+}
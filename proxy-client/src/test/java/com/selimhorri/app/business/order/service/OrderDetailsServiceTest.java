@@ -0,0 +1,146 @@
+package com.selimhorri.app.business.order.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.ResponseEntity;
+
+import com.selimhorri.app.business.order.model.OrderDetailsDto;
+import com.selimhorri.app.business.order.model.OrderDto;
+import com.selimhorri.app.business.order.service.impl.OrderDetailsServiceImpl;
+import com.selimhorri.app.business.orderItem.model.OrderItemDto;
+import com.selimhorri.app.business.orderItem.model.response.OrderItemOrderItemServiceDtoCollectionResponse;
+import com.selimhorri.app.business.orderItem.service.OrderItemClientService;
+import com.selimhorri.app.business.payment.model.PaymentDto;
+import com.selimhorri.app.business.payment.model.response.PaymentPaymentServiceDtoCollectionResponse;
+import com.selimhorri.app.business.payment.service.PaymentClientService;
+import com.selimhorri.app.business.product.model.ProductDto;
+import com.selimhorri.app.business.product.service.ProductClientService;
+import com.selimhorri.app.config.executor.EnrichmentExecutor;
+
+@ExtendWith(MockitoExtension.class)
+class OrderDetailsServiceTest {
+
+    @Mock
+    private OrderClientService orderClientService;
+
+    @Mock
+    private OrderItemClientService orderItemClientService;
+
+    @Mock
+    private PaymentClientService paymentClientService;
+
+    @Mock
+    private ProductClientService productClientService;
+
+    private OrderDetailsService orderDetailsService;
+
+    @BeforeEach
+    void setUp() {
+        orderDetailsService = new OrderDetailsServiceImpl(orderClientService, orderItemClientService, paymentClientService,
+                productClientService, new EnrichmentExecutor(Runnable::run, Duration.ofSeconds(2)));
+        when(orderClientService.findById("1")).thenReturn(ResponseEntity.ok(OrderDto.builder().orderId(1).build()));
+    }
+
+    @Test
+    void testFindById_WithAllLookupsAnswering_ShouldAssembleCompletePage() {
+        // Arrange
+        when(orderItemClientService.findAllByOrderId("1")).thenReturn(ResponseEntity.ok(OrderItemOrderItemServiceDtoCollectionResponse.builder()
+                .collection(List.of(item(10), item(20), item(10)))
+                .build()));
+        when(paymentClientService.findAllByOrderId("1")).thenReturn(ResponseEntity.ok(PaymentPaymentServiceDtoCollectionResponse.builder()
+                .collection(List.of(PaymentDto.builder().paymentId(5).orderDto(com.selimhorri.app.business.payment.model.OrderDto.builder().orderId(1).build()).build()))
+                .build()));
+        when(productClientService.findAllByIds(Set.of(10, 20))).thenReturn(ResponseEntity.ok(Map.of(
+                10, ProductDto.builder().productId(10).productTitle("asus").build(),
+                20, ProductDto.builder().productId(20).productTitle("hp").build())));
+
+        // Act
+        final OrderDetailsDto result = orderDetailsService.findById("1");
+
+        // Assert
+        assertEquals(1, result.getOrderDto().getOrderId());
+        assertEquals(List.of("asus", "hp", "asus"), List.of(
+                result.getOrderItemDtos().get(0).getProductDto().getProductTitle(),
+                result.getOrderItemDtos().get(1).getProductDto().getProductTitle(),
+                result.getOrderItemDtos().get(2).getProductDto().getProductTitle()));
+        assertTrue(result.getOrderItemDtos().stream().allMatch(o -> o.getOrderDto() == null));
+        assertEquals(5, result.getPaymentDtos().get(0).getPaymentId());
+        assertNull(result.getPaymentDtos().get(0).getOrderDto());
+        assertTrue(result.getUnavailableParts().isEmpty());
+        verify(productClientService, times(1)).findAllByIds(any());
+    }
+
+    @Test
+    void testFindById_WithFailedPaymentsLookup_ShouldMarkPaymentsUnavailable() {
+        // Arrange
+        when(orderItemClientService.findAllByOrderId("1")).thenReturn(ResponseEntity.ok(OrderItemOrderItemServiceDtoCollectionResponse.builder()
+                .collection(List.of())
+                .build()));
+        when(paymentClientService.findAllByOrderId("1")).thenThrow(new IllegalStateException("payment-service down"));
+
+        // Act
+        final OrderDetailsDto result = orderDetailsService.findById("1");
+
+        // Assert
+        assertTrue(result.getPaymentDtos().isEmpty());
+        assertTrue(result.getOrderItemDtos().isEmpty());
+        assertEquals(Set.of("payments"), result.getUnavailableParts());
+        verifyNoInteractions(productClientService);
+    }
+
+    @Test
+    void testFindById_WithFailedItemsLookup_ShouldMarkItemsUnavailable() {
+        // Arrange
+        when(orderItemClientService.findAllByOrderId("1")).thenThrow(new IllegalStateException("order-service down"));
+        when(paymentClientService.findAllByOrderId("1")).thenReturn(ResponseEntity.ok(PaymentPaymentServiceDtoCollectionResponse.builder()
+                .collection(List.of())
+                .build()));
+
+        // Act
+        final OrderDetailsDto result = orderDetailsService.findById("1");
+
+        // Assert
+        assertEquals(Set.of("orderItems"), result.getUnavailableParts());
+    }
+
+    @Test
+    void testFindById_WithFailedProductsLookup_ShouldKeepIdOnlyItems() {
+        // Arrange
+        when(orderItemClientService.findAllByOrderId("1")).thenReturn(ResponseEntity.ok(OrderItemOrderItemServiceDtoCollectionResponse.builder()
+                .collection(List.of(item(10)))
+                .build()));
+        when(paymentClientService.findAllByOrderId("1")).thenReturn(ResponseEntity.ok(PaymentPaymentServiceDtoCollectionResponse.builder()
+                .collection(List.of())
+                .build()));
+        when(productClientService.findAllByIds(Set.of(10))).thenThrow(new IllegalStateException("product-service down"));
+
+        // Act
+        final OrderDetailsDto result = orderDetailsService.findById("1");
+
+        // Assert
+        assertEquals(10, result.getOrderItemDtos().get(0).getProductId());
+        assertNull(result.getOrderItemDtos().get(0).getProductDto());
+        assertEquals(Set.of("products"), result.getUnavailableParts());
+    }
+
+    private static OrderItemDto item(final Integer productId) {
+        return OrderItemDto.builder()
+                .productId(productId)
+                .orderId(1)
+                .orderedQuantity(1)
+                .orderDto(com.selimhorri.app.business.orderItem.model.OrderDto.builder().orderId(1).build())
+                .build();
+    }
+}
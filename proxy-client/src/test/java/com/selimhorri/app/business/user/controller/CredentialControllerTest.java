@@ -0,0 +1,136 @@
+package com.selimhorri.app.business.user.controller;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.ResponseEntity;
+
+import com.selimhorri.app.business.auth.service.TokenRevocationService;
+import com.selimhorri.app.business.auth.service.UserDetailsCacheService;
+import com.selimhorri.app.business.user.model.CredentialDto;
+import com.selimhorri.app.business.user.service.CredentialClientService;
+
+@ExtendWith(MockitoExtension.class)
+class CredentialControllerTest {
+
+    @Mock
+    private CredentialClientService credentialClientService;
+
+    @Mock
+    private UserDetailsCacheService userDetailsCacheService;
+
+    @Mock
+    private TokenRevocationService tokenRevocationService;
+
+    @InjectMocks
+    private CredentialController credentialController;
+
+    @Test
+    void testUpdate_WithSameUsername_ShouldEvictThatUsername() {
+        // Arrange
+        final CredentialDto credentialDto = credential(1, "selim");
+        when(credentialClientService.findById("1")).thenReturn(ResponseEntity.ok(credential(1, "selim")));
+        when(credentialClientService.update(any(CredentialDto.class))).thenReturn(ResponseEntity.ok(credentialDto));
+
+        // Act
+        credentialController.update(credentialDto);
+
+        // Assert
+        verify(userDetailsCacheService, times(1)).evict("selim");
+        verify(userDetailsCacheService, never()).evictAll();
+    }
+
+    @Test
+    void testUpdate_WithRename_ShouldEvictOldAndNewUsername() {
+        // Arrange
+        final CredentialDto credentialDto = credential(1, "selim.horri");
+        when(credentialClientService.findById("1")).thenReturn(ResponseEntity.ok(credential(1, "selim")));
+        when(credentialClientService.update(any(CredentialDto.class))).thenReturn(ResponseEntity.ok(credentialDto));
+
+        // Act
+        credentialController.update(1, credentialDto);
+
+        // Assert
+        verify(userDetailsCacheService, times(1)).evict("selim.horri");
+        verify(userDetailsCacheService, times(1)).evict("selim");
+    }
+
+    @Test
+    void testUpdate_WithoutUsername_ShouldEvictAll() {
+        // Arrange
+        final CredentialDto credentialDto = CredentialDto.builder()
+                .isEnabled(false)
+                .build();
+        when(credentialClientService.findById("1")).thenReturn(ResponseEntity.ok(credential(1, "selim")));
+        when(credentialClientService.update(any(CredentialDto.class))).thenReturn(ResponseEntity.ok(credentialDto));
+
+        // Act
+        credentialController.update(1, credentialDto);
+
+        // Assert
+        verify(userDetailsCacheService, times(1)).evictAll();
+        verify(userDetailsCacheService, never()).evict(anyString());
+        verify(tokenRevocationService, times(1)).revoke(1);
+    }
+
+    @Test
+    void testUpdate_WithoutCredentialId_ShouldEvictAll() {
+        // Arrange
+        final CredentialDto credentialDto = credential(null, "selim");
+        when(credentialClientService.update(any(CredentialDto.class))).thenReturn(ResponseEntity.ok(credentialDto));
+
+        // Act
+        credentialController.update(credentialDto);
+
+        // Assert
+        verify(credentialClientService, never()).findById(anyString());
+        verify(userDetailsCacheService, times(1)).evictAll();
+    }
+
+    @Test
+    void testUpdate_WithMismatchedBodyId_ShouldUpdateAndRevokePathCredential() {
+        // Arrange
+        final CredentialDto credentialDto = credential(2, "selim");
+        credentialDto.setIsEnabled(false);
+        when(credentialClientService.findById("1")).thenReturn(ResponseEntity.ok(credential(1, "selim")));
+        when(credentialClientService.update(any(CredentialDto.class))).thenReturn(ResponseEntity.ok(credentialDto));
+
+        // Act
+        credentialController.update(1, credentialDto);
+
+        // Assert
+        verify(credentialClientService, times(1)).update(argThat((CredentialDto c) -> c.getCredentialId() == 1));
+        verify(credentialClientService, never()).findById("2");
+        verify(tokenRevocationService, times(1)).revoke(1);
+        verify(tokenRevocationService, never()).revoke(2);
+    }
+
+    @Test
+    void testUpdate_WithFailedLookup_ShouldUpdateAndEvictAll() {
+        // Arrange
+        final CredentialDto credentialDto = credential(1, "selim");
+        when(credentialClientService.findById("1")).thenThrow(new IllegalStateException("user-service down"));
+        when(credentialClientService.update(any(CredentialDto.class))).thenReturn(ResponseEntity.ok(credentialDto));
+
+        // Act
+        credentialController.update(1, credentialDto);
+
+        // Assert
+        verify(credentialClientService, times(1)).update(credentialDto);
+        verify(userDetailsCacheService, times(1)).evictAll();
+    }
+
+    private static CredentialDto credential(final Integer credentialId, final String username) {
+        return CredentialDto.builder()
+                .credentialId(credentialId)
+                .username(username)
+                .build();
+    }
+}
@@ -0,0 +1,180 @@
+package com.selimhorri.app.config.filter;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import java.util.Date;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.selimhorri.app.business.auth.service.TokenRevocationService;
+import com.selimhorri.app.business.auth.service.UserDetailsCacheService;
+import com.selimhorri.app.business.user.model.CredentialDto;
+import com.selimhorri.app.business.user.model.RoleBasedAuthority;
+import com.selimhorri.app.business.user.model.UserDetailsImpl;
+import com.selimhorri.app.jwt.service.impl.JwtServiceImpl;
+import com.selimhorri.app.jwt.util.impl.JwtUtilImpl;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+
+@ExtendWith(MockitoExtension.class)
+class JwtRequestFilterTest {
+
+    @Mock
+    private UserDetailsService userDetailsService;
+
+    @Mock
+    private UserDetailsCacheService userDetailsCacheService;
+
+    @Mock
+    private TokenRevocationService tokenRevocationService;
+
+    private JwtServiceImpl jwtService;
+    private JwtRequestFilter jwtRequestFilter;
+
+    @BeforeEach
+    void setUp() {
+        jwtService = new JwtServiceImpl(new JwtUtilImpl());
+        jwtRequestFilter = new JwtRequestFilter(userDetailsService, userDetailsCacheService, tokenRevocationService, jwtService);
+        ReflectionTestUtils.setField(jwtRequestFilter, "stateless", true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void testStateless_WithActiveAccount_ShouldAuthenticateFromClaims() throws Exception {
+        // Arrange
+        final String token = jwtService.generateToken(user(true, true));
+
+        // Act
+        final Authentication authentication = filter(token);
+
+        // Assert
+        assertNotNull(authentication);
+        assertEquals("selim", ((UserDetails) authentication.getPrincipal()).getUsername());
+        verifyNoInteractions(userDetailsCacheService);
+    }
+
+    @Test
+    void testStateless_WithDisabledAccount_ShouldNotAuthenticate() throws Exception {
+        // Act
+        final Authentication authentication = filter(jwtService.generateToken(user(false, true)));
+
+        // Assert
+        assertNull(authentication);
+    }
+
+    @Test
+    void testStateless_WithLockedAccount_ShouldNotAuthenticate() throws Exception {
+        // Act
+        final Authentication authentication = filter(jwtService.generateToken(user(true, false)));
+
+        // Assert
+        assertNull(authentication);
+    }
+
+    @Test
+    void testStateless_WithRevokedCredential_ShouldNotAuthenticate() throws Exception {
+        // Arrange
+        when(tokenRevocationService.isRevoked(eq(1), any(Date.class))).thenReturn(true);
+
+        // Act
+        final Authentication authentication = filter(jwtService.generateToken(user(true, true)));
+
+        // Assert
+        assertNull(authentication);
+    }
+
+    @Test
+    void testStateless_WithPartialClaims_ShouldFallBackToUserLookup() throws Exception {
+        // Arrange
+        final String token = Jwts.builder()
+                .claim("authorities", List.of("ROLE_USER"))
+                .setSubject("selim")
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(SignatureAlgorithm.HS256, "secret")
+                .compact();
+        when(userDetailsCacheService.get(eq("selim"), any())).thenReturn(user(true, true));
+
+        // Act
+        final Authentication authentication = filter(token);
+
+        // Assert
+        assertNotNull(authentication);
+        verify(userDetailsCacheService, times(1)).get(eq("selim"), any());
+    }
+
+    @Test
+    void testStateless_WithPartialClaimsAndDisabledLookup_ShouldNotAuthenticate() throws Exception {
+        // Arrange
+        final String token = Jwts.builder()
+                .setSubject("selim")
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(SignatureAlgorithm.HS256, "secret")
+                .compact();
+        when(userDetailsCacheService.get(eq("selim"), any())).thenReturn(user(false, true));
+
+        // Act
+        final Authentication authentication = filter(token);
+
+        // Assert
+        assertNull(authentication);
+    }
+
+    @Test
+    void testStateful_ShouldAlwaysLookUpUser() throws Exception {
+        // Arrange
+        ReflectionTestUtils.setField(jwtRequestFilter, "stateless", false);
+        when(userDetailsCacheService.get(eq("selim"), any())).thenReturn(user(true, true));
+
+        // Act
+        final Authentication authentication = filter(jwtService.generateToken(user(true, true)));
+
+        // Assert
+        assertNotNull(authentication);
+        verify(userDetailsCacheService, times(1)).get(eq("selim"), any());
+        verify(tokenRevocationService, never()).isRevoked(anyInt(), any());
+    }
+
+    private Authentication filter(final String token) throws Exception {
+        final MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer " + token);
+        jwtRequestFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    private static UserDetails user(final boolean enabled, final boolean nonLocked) {
+        return new UserDetailsImpl(CredentialDto.builder()
+                .credentialId(1)
+                .username("selim")
+                .roleBasedAuthority(RoleBasedAuthority.ROLE_USER)
+                .isEnabled(enabled)
+                .isAccountNonExpired(true)
+                .isAccountNonLocked(nonLocked)
+                .isCredentialsNonExpired(true)
+                .build());
+    }
+}
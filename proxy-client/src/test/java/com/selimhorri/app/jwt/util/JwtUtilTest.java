@@ -0,0 +1,160 @@
+package com.selimhorri.app.jwt.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import com.selimhorri.app.business.user.model.CredentialDto;
+import com.selimhorri.app.business.user.model.RoleBasedAuthority;
+import com.selimhorri.app.business.user.model.UserDetailsImpl;
+import com.selimhorri.app.constant.AppConstant.JwtClaimsKeys;
+import com.selimhorri.app.jwt.util.impl.JwtUtilImpl;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SignatureException;
+
+class JwtUtilTest {
+
+    private static final String SECRET_KEY = "secret";
+
+    private JwtUtil jwtUtil;
+    private UserDetails userDetails;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = new JwtUtilImpl();
+        userDetails = new UserDetailsImpl(CredentialDto.builder()
+                .credentialId(1)
+                .username("selim")
+                .roleBasedAuthority(RoleBasedAuthority.ROLE_USER)
+                .isEnabled(true)
+                .isAccountNonExpired(true)
+                .isAccountNonLocked(true)
+                .isCredentialsNonExpired(true)
+                .build());
+    }
+
+    @Test
+    void testExtractAllClaims_WithRepeatedToken_ShouldReturnCachedClaims() {
+        // Arrange
+        final String token = jwtUtil.generateToken(userDetails);
+
+        // Act
+        final Claims first = jwtUtil.extractAllClaims(token);
+        final Claims second = jwtUtil.extractAllClaims(token);
+
+        // Assert
+        assertSame(first, second);
+        assertEquals("selim", second.getSubject());
+    }
+
+    @Test
+    void testExtractAllClaims_AfterExpiration_ShouldRejectCachedToken() throws InterruptedException {
+        // Arrange
+        // jwt dates have second precision, so expire on a whole second
+        final long expiration = (System.currentTimeMillis() / 1000 + 2) * 1000;
+        final String token = token(SECRET_KEY, new Date(), new Date(expiration));
+        assertEquals("selim", jwtUtil.extractAllClaims(token).getSubject());
+
+        // Act
+        Thread.sleep(expiration - System.currentTimeMillis() + 200);
+
+        // Assert
+        assertThrows(ExpiredJwtException.class, () -> jwtUtil.extractAllClaims(token));
+    }
+
+    @Test
+    void testExtractAllClaims_WithTamperedSignature_ShouldNotServeFromCache() {
+        // Arrange
+        final Date issuedAt = new Date();
+        final Date expiration = new Date(issuedAt.getTime() + 60_000);
+        final String token = token(SECRET_KEY, issuedAt, expiration);
+        final String forged = token(SECRET_KEY + "-forged", issuedAt, expiration);
+        jwtUtil.extractAllClaims(token);
+
+        // Act & Assert
+        assertEquals(token.substring(0, token.lastIndexOf('.')), forged.substring(0, forged.lastIndexOf('.')));
+        assertThrows(SignatureException.class, () -> jwtUtil.extractAllClaims(forged));
+        assertThrows(SignatureException.class, () -> jwtUtil.extractAllClaims(forged));
+    }
+
+    @Test
+    void testValidateToken_WithClaims_ShouldMatchTokenValidation() {
+        // Arrange
+        final String token = jwtUtil.generateToken(userDetails);
+        final UserDetails otherUser = new UserDetailsImpl(CredentialDto.builder()
+                .username("amine")
+                .build());
+
+        // Act
+        final Claims claims = jwtUtil.extractAllClaims(token);
+
+        // Assert
+        assertTrue(jwtUtil.validateToken(token, userDetails));
+        assertEquals(jwtUtil.validateToken(token, userDetails), jwtUtil.validateToken(claims, userDetails));
+        assertFalse(jwtUtil.validateToken(token, otherUser));
+        assertEquals(jwtUtil.validateToken(token, otherUser), jwtUtil.validateToken(claims, otherUser));
+    }
+
+    @Test
+    void testExtractUserDetails_WithGeneratedToken_ShouldRebuildPrincipal() {
+        // Arrange
+        final Claims claims = jwtUtil.extractAllClaims(jwtUtil.generateToken(userDetails));
+
+        // Act
+        final Optional<UserDetails> extracted = jwtUtil.extractUserDetails(claims);
+
+        // Assert
+        assertTrue(extracted.isPresent());
+        assertEquals(1, ((UserDetailsImpl) extracted.get()).getCredentialId());
+        assertEquals("selim", extracted.get().getUsername());
+        assertTrue(extracted.get().isEnabled());
+        assertTrue(extracted.get().isAccountNonLocked());
+        assertEquals("ROLE_USER", extracted.get().getAuthorities().iterator().next().getAuthority());
+    }
+
+    @Test
+    void testExtractUserDetails_WithMissingOrPartialClaims_ShouldReturnEmpty() {
+        // Arrange
+        final Claims none = jwtUtil.extractAllClaims(token(SECRET_KEY, new Date(), new Date(System.currentTimeMillis() + 60_000)));
+        final Claims partial = jwtUtil.extractAllClaims(Jwts.builder()
+                .claim(JwtClaimsKeys.AUTHORITIES, List.of("ROLE_USER"))
+                .claim(JwtClaimsKeys.CREDENTIAL_ID, 1)
+                .setSubject("selim")
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(SignatureAlgorithm.HS256, SECRET_KEY)
+                .compact());
+        final Claims ambiguous = jwtUtil.extractAllClaims(Jwts.builder()
+                .claim(JwtClaimsKeys.AUTHORITIES, List.of("ROLE_USER", "ROLE_ADMIN"))
+                .claim(JwtClaimsKeys.CREDENTIAL_ID, 1)
+                .claim(JwtClaimsKeys.ENABLED, true)
+                .claim(JwtClaimsKeys.LOCKED, false)
+                .setSubject("selim")
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(SignatureAlgorithm.HS256, SECRET_KEY)
+                .compact());
+
+        // Act & Assert
+        assertTrue(jwtUtil.extractUserDetails(none).isEmpty());
+        assertTrue(jwtUtil.extractUserDetails(partial).isEmpty());
+        assertTrue(jwtUtil.extractUserDetails(ambiguous).isEmpty());
+    }
+
+    private static String token(final String secretKey, final Date issuedAt, final Date expiration) {
+        return Jwts.builder()
+                .setSubject("selim")
+                .setIssuedAt(issuedAt)
+                .setExpiration(expiration)
+                .signWith(SignatureAlgorithm.HS256, secretKey)
+                .compact();
+    }
+}
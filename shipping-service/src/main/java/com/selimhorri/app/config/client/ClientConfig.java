@@ -1,17 +1,72 @@
 package com.selimhorri.app.config.client;
 
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cloud.client.loadbalancer.LoadBalanced;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.PoolingHttpClientConnectionManagerMetricsBinder;
+
 @Configuration
 public class ClientConfig {
 	
+	@Bean(destroyMethod = "close")
+	public PoolingHttpClientConnectionManager poolingHttpClientConnectionManager(
+			@Value("${app.http-client.max-total:200}") final int maxTotal, 
+			@Value("${app.http-client.max-per-route:50}") final int maxPerRoute, 
+			@Value("${app.http-client.time-to-live:5m}") final Duration timeToLive, 
+			@Value("${app.http-client.validate-after-inactivity:2s}") final Duration validateAfterInactivity) {
+		final PoolingHttpClientConnectionManager connectionManager = 
+				new PoolingHttpClientConnectionManager(timeToLive.toMillis(), TimeUnit.MILLISECONDS);
+		connectionManager.setMaxTotal(maxTotal);
+		connectionManager.setDefaultMaxPerRoute(maxPerRoute);
+		connectionManager.setValidateAfterInactivity((int) validateAfterInactivity.toMillis());
+		return connectionManager;
+	}
+	
+	/**
+	 * Every call through this client is an enrichment lookup whose result is dropped once 
+	 * app.enrichment.timeout passes, so neither reading nor waiting for a pooled connection may 
+	 * hold the enrichment thread longer than that: the deadline alone would not free the thread.
+	 */
+	@Bean(destroyMethod = "close")
+	public CloseableHttpClient httpClient(final PoolingHttpClientConnectionManager poolingHttpClientConnectionManager, 
+			@Value("${app.http-client.connect-timeout:2s}") final Duration connectTimeout, 
+			@Value("${app.http-client.read-timeout:10s}") final Duration readTimeout, 
+			@Value("${app.http-client.connection-request-timeout:2s}") final Duration connectionRequestTimeout, 
+			@Value("${app.http-client.idle-eviction:30s}") final Duration idleEviction, 
+			@Value("${app.enrichment.timeout:2s}") final Duration enrichmentTimeout) {
+		return HttpClients.custom()
+				.setConnectionManager(poolingHttpClientConnectionManager)
+				.setDefaultRequestConfig(RequestConfig.custom()
+						.setConnectTimeout((int) connectTimeout.toMillis())
+						.setSocketTimeout((int) Math.min(readTimeout.toMillis(), enrichmentTimeout.toMillis()))
+						.setConnectionRequestTimeout((int) Math.min(connectionRequestTimeout.toMillis(), enrichmentTimeout.toMillis()))
+						.build())
+				.evictExpiredConnections()
+				.evictIdleConnections(idleEviction.toMillis(), TimeUnit.MILLISECONDS)
+				.build();
+	}
+	
+	@Bean
+	public MeterBinder httpClientPoolMetrics(final PoolingHttpClientConnectionManager poolingHttpClientConnectionManager) {
+		return new PoolingHttpClientConnectionManagerMetricsBinder(poolingHttpClientConnectionManager, "httpClient");
+	}
+	
 	@LoadBalanced
 	@Bean
-	public RestTemplate restTemplateBean() {
-		return new RestTemplate();
+	public RestTemplate restTemplateBean(final CloseableHttpClient httpClient) {
+		return new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
 	}
 	
 	
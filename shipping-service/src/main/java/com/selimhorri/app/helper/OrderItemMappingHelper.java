@@ -1,34 +1,17 @@
 package com.selimhorri.app.helper;
 
 import com.selimhorri.app.domain.OrderItem;
-import com.selimhorri.app.dto.OrderDto;
 import com.selimhorri.app.dto.OrderItemDto;
-import com.selimhorri.app.dto.ProductDto;
+import com.selimhorri.app.helper.mapper.OrderItemMapper;
 
 public interface OrderItemMappingHelper {
 	
 	public static OrderItemDto map(final OrderItem orderItem) {
-		return OrderItemDto.builder()
-				.productId(orderItem.getProductId())
-				.orderId(orderItem.getOrderId())
-				.orderedQuantity(orderItem.getOrderedQuantity())
-				.productDto(
-						ProductDto.builder()
-							.productId(orderItem.getProductId())
-							.build())
-				.orderDto(
-						OrderDto.builder()
-							.orderId(orderItem.getOrderId())
-							.build())
-				.build();
+		return OrderItemMapper.INSTANCE.map(orderItem);
 	}
 	
 	public static OrderItem map(final OrderItemDto orderItemDto) {
-		return OrderItem.builder()
-				.productId(orderItemDto.getProductId())
-				.orderId(orderItemDto.getOrderId())
-				.orderedQuantity(orderItemDto.getOrderedQuantity())
-				.build();
+		return OrderItemMapper.INSTANCE.map(orderItemDto);
 	}
 	
 	
@@ -0,0 +1,33 @@
+package com.selimhorri.app.helper.mapper;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.factory.Mappers;
+
+import com.selimhorri.app.domain.OrderItem;
+import com.selimhorri.app.dto.OrderItemDto;
+
+@Mapper(config = MappingConfig.class)
+public interface OrderItemMapper {
+	
+	OrderItemMapper INSTANCE = Mappers.getMapper(OrderItemMapper.class);
+	
+	@Mapping(target = "productDto.productId", source = "productId")
+	@Mapping(target = "orderDto.orderId", source = "orderId")
+	OrderItemDto map(final OrderItem orderItem);
+	
+	OrderItem map(final OrderItemDto orderItemDto);
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
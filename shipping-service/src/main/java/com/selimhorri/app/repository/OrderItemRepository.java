@@ -1,12 +1,40 @@
 package com.selimhorri.app.repository;
 
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import javax.persistence.QueryHint;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import com.selimhorri.app.domain.OrderItem;
 import com.selimhorri.app.domain.id.OrderItemId;
+import com.selimhorri.app.helper.StreamHelper;
 
 public interface OrderItemRepository extends JpaRepository<OrderItem, OrderItemId> {
 	
+	Slice<OrderItem> findAllBy(final Pageable pageable);
+	List<OrderItem> findAllByOrderIdOrderByProductId(final Integer orderId);
+	
+	@Query("SELECT o FROM OrderItem o WHERE o.productId > :productId "
+			+ "OR (o.productId = :productId AND o.orderId > :orderId)")
+	Slice<OrderItem> findAllAfter(@Param("productId") final Integer productId, @Param("orderId") final Integer orderId, 
+			final Pageable pageable);
+	
+	@QueryHints(value = {
+		@QueryHint(name = HINT_FETCH_SIZE, value = StreamHelper.FETCH_SIZE),
+		@QueryHint(name = HINT_READONLY, value = "true")
+	})
+	@Query("SELECT o FROM OrderItem o ORDER BY o.productId, o.orderId")
+	Stream<OrderItem> streamAll();
 	
 	
 }
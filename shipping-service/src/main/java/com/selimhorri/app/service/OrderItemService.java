@@ -1,16 +1,21 @@
 package com.selimhorri.app.service;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 import com.selimhorri.app.domain.id.OrderItemId;
 import com.selimhorri.app.dto.OrderItemDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 
 public interface OrderItemService {
 	
 	List<OrderItemDto> findAll();
+	DtoCollectionResponse<OrderItemDto> findAll(final Integer page, final Integer size, final String cursor);
+	List<OrderItemDto> findAllByOrderId(final Integer orderId);
 	OrderItemDto findById(final OrderItemId orderItemId);
 	OrderItemDto save(final OrderItemDto orderItemDto);
 	OrderItemDto update(final OrderItemDto orderItemDto);
 	void deleteById(final OrderItemId orderItemId);
+	void streamAll(final Consumer<OrderItemDto> consumer);
 	
 }
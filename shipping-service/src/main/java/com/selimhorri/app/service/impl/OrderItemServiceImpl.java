@@ -1,20 +1,38 @@
 package com.selimhorri.app.service.impl;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import javax.persistence.EntityManager;
 import javax.transaction.Transactional;
 
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
+import com.selimhorri.app.config.executor.EnrichmentExecutor;
 import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.domain.OrderItem;
 import com.selimhorri.app.domain.id.OrderItemId;
 import com.selimhorri.app.dto.OrderDto;
 import com.selimhorri.app.dto.OrderItemDto;
 import com.selimhorri.app.dto.ProductDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 import com.selimhorri.app.exception.wrapper.OrderItemNotFoundException;
 import com.selimhorri.app.helper.OrderItemMappingHelper;
+import com.selimhorri.app.helper.PageHelper;
+import com.selimhorri.app.helper.StreamHelper;
 import com.selimhorri.app.repository.OrderItemRepository;
 import com.selimhorri.app.service.OrderItemService;
 
@@ -28,37 +46,95 @@ import lombok.extern.slf4j.Slf4j;
 public class OrderItemServiceImpl implements OrderItemService {
 	
 	private final OrderItemRepository orderItemRepository;
+	private final EntityManager entityManager;
 	private final RestTemplate restTemplate;
+	private final EnrichmentExecutor enrichmentExecutor;
 	
 	@Override
 	public List<OrderItemDto> findAll() {
 		log.info("*** OrderItemDto List, service; fetch all orderItems *");
-		return this.orderItemRepository.findAll()
+		return this.enrich(this.orderItemRepository.findAll()
+				.stream()
+					.filter(StreamHelper.distinctBy(orderItem -> new OrderItemId(orderItem.getProductId(), orderItem.getOrderId())))
+					.map(OrderItemMappingHelper::map)
+					.collect(Collectors.toUnmodifiableList()));
+	}
+	
+	@Override
+	public DtoCollectionResponse<OrderItemDto> findAll(final Integer page, final Integer size, final String cursor) {
+		log.info("*** OrderItemDto Page, service; fetch orderItems page *");
+		final Sort sort = Sort.by("productId", "orderId");
+		final Slice<OrderItem> orderItems;
+		if (cursor == null)
+			orderItems = this.orderItemRepository.findAllBy(PageHelper.pageable(page, size, sort));
+		else {
+			final OrderItemId lastId = PageHelper.decodeCursor(cursor, keys -> new OrderItemId(
+					Integer.parseInt(keys[0]), Integer.parseInt(keys[1])));
+			orderItems = this.orderItemRepository.findAllAfter(lastId.getProductId(), lastId.getOrderId(), 
+					PageHelper.pageable(0, size, sort));
+		}
+		return PageHelper.collectionResponse(orderItems, this.enrich(orderItems.stream()
+					.map(OrderItemMappingHelper::map)
+					.collect(Collectors.toUnmodifiableList())), 
+				cursor != null, d -> PageHelper.encodeCursor(d.getProductId(), d.getOrderId()));
+	}
+	
+	@Override
+	public void streamAll(final Consumer<OrderItemDto> consumer) {
+		log.info("*** OrderItemDto Stream, service; stream all orderItems *");
+		try (final Stream<OrderItem> orderItems = this.orderItemRepository.streamAll()) {
+			StreamHelper.forEachChunk(orderItems, chunk -> {
+				this.enrich(chunk.stream()
+						.map(OrderItemMappingHelper::map)
+						.collect(Collectors.toUnmodifiableList()))
+					.forEach(consumer);
+				this.entityManager.clear();
+			});
+		}
+	}
+	
+	private List<OrderItemDto> enrich(final List<OrderItemDto> orderItemDtos) {
+		final Set<Integer> productIds = orderItemDtos.stream()
+				.map(o -> o.getProductDto().getProductId())
+				.filter(Objects::nonNull)
+				.collect(Collectors.toUnmodifiableSet());
+		final Set<Integer> orderIds = orderItemDtos.stream()
+				.map(o -> o.getOrderDto().getOrderId())
+				.filter(Objects::nonNull)
+				.collect(Collectors.toUnmodifiableSet());
+		
+		final CompletableFuture<Map<Integer, ProductDto>> productsFuture = this.enrichmentExecutor
+				.supplyAsync(() -> this.fetchProducts(productIds), Collections.emptyMap());
+		final CompletableFuture<Map<Integer, OrderDto>> ordersFuture = this.enrichmentExecutor
+				.supplyAsync(() -> this.fetchOrders(orderIds), Collections.emptyMap());
+		final Map<Integer, ProductDto> productDtos = productsFuture.join();
+		final Map<Integer, OrderDto> orderDtos = ordersFuture.join();
+		
+		orderItemDtos.forEach(o -> {
+			o.setProductDto(productDtos.getOrDefault(o.getProductDto().getProductId(), o.getProductDto()));
+			o.setOrderDto(orderDtos.getOrDefault(o.getOrderDto().getOrderId(), o.getOrderDto()));
+		});
+		return orderItemDtos;
+	}
+	
+	/**
+	 * Rows only, product and order are left as ids for the caller (the order aggregate) to resolve once
+	 */
+	@Override
+	public List<OrderItemDto> findAllByOrderId(final Integer orderId) {
+		log.info("*** OrderItemDto List, service; fetch orderItems of order *");
+		return this.orderItemRepository.findAllByOrderIdOrderByProductId(orderId)
 				.stream()
 					.map(OrderItemMappingHelper::map)
-					.map(o -> {
-						o.setProductDto(this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
-								.PRODUCT_SERVICE_API_URL + "/" + o.getProductDto().getProductId(), ProductDto.class));
-						o.setOrderDto(this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
-								.ORDER_SERVICE_API_URL + "/" + o.getOrderDto().getOrderId(), OrderDto.class));
-						return o;
-					})
-					.distinct()
 					.collect(Collectors.toUnmodifiableList());
 	}
 	
 	@Override
 	public OrderItemDto findById(final OrderItemId orderItemId) {
 		log.info("*** OrderItemDto, service; fetch orderItem by id *");
-		return this.orderItemRepository.findById(null)
+		return this.orderItemRepository.findById(orderItemId)
 				.map(OrderItemMappingHelper::map)
-				.map(o -> {
-					o.setProductDto(this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
-							.PRODUCT_SERVICE_API_URL + "/" + o.getProductDto().getProductId(), ProductDto.class));
-					o.setOrderDto(this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
-							.ORDER_SERVICE_API_URL + "/" + o.getOrderDto().getOrderId(), OrderDto.class));
-					return o;
-				})
+				.map(o -> this.enrich(List.of(o)).get(0))
 				.orElseThrow(() -> new OrderItemNotFoundException(String.format("OrderItem with id: %s not found", orderItemId)));
 	}
 	
@@ -82,6 +158,30 @@ public class OrderItemServiceImpl implements OrderItemService {
 		this.orderItemRepository.deleteById(orderItemId);
 	}
 	
+	private Map<Integer, ProductDto> fetchProducts(final Set<Integer> productIds) {
+		if (productIds.isEmpty())
+			return Collections.emptyMap();
+		final Map<Integer, ProductDto> productDtos = this.restTemplate.exchange(
+				AppConstant.DiscoveredDomainsApi.PRODUCT_SERVICE_API_URL + "/batch",
+				HttpMethod.POST,
+				new HttpEntity<>(productIds),
+				new ParameterizedTypeReference<Map<Integer, ProductDto>>() {})
+				.getBody();
+		return (productDtos != null) ? productDtos : Collections.emptyMap();
+	}
+	
+	private Map<Integer, OrderDto> fetchOrders(final Set<Integer> orderIds) {
+		if (orderIds.isEmpty())
+			return Collections.emptyMap();
+		final Map<Integer, OrderDto> orderDtos = this.restTemplate.exchange(
+				AppConstant.DiscoveredDomainsApi.ORDER_SERVICE_API_URL + "/batch",
+				HttpMethod.POST,
+				new HttpEntity<>(orderIds),
+				new ParameterizedTypeReference<Map<Integer, OrderDto>>() {})
+				.getBody();
+		return (orderDtos != null) ? orderDtos : Collections.emptyMap();
+	}
+	
 	
 	
 }
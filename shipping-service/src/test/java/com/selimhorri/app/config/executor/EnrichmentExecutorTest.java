@@ -0,0 +1,92 @@
+package com.selimhorri.app.config.executor;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class EnrichmentExecutorTest {
+
+    private ThreadPoolExecutor pool;
+    private EnrichmentExecutor enrichmentExecutor;
+    private CountDownLatch release;
+
+    @BeforeEach
+    void setUp() {
+        // one thread and no queue, so a second lookup is rejected while the first is running
+        pool = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new SynchronousQueue<>());
+        enrichmentExecutor = new EnrichmentExecutor(pool, Duration.ofMillis(100));
+        release = new CountDownLatch(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        pool.shutdownNow();
+    }
+
+    @Test
+    void testSupplyAsync_WithFastSupplier_ShouldReturnResult() {
+        // Act
+        final String result = enrichmentExecutor.supplyAsync(() -> "enriched", "fallback").join();
+
+        // Assert
+        assertEquals("enriched", result);
+    }
+
+    @Test
+    void testSupplyAsync_WithSlowSupplier_ShouldFallBackAtDeadline() {
+        // Arrange
+        final long start = System.nanoTime();
+
+        // Act
+        final String result = enrichmentExecutor.supplyAsync(this::slow, "fallback").join();
+
+        // Assert
+        assertEquals("fallback", result);
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).toMillis() < 2_000);
+    }
+
+    @Test
+    void testSupplyAsync_WithSaturatedPool_ShouldFallBackImmediately() {
+        // Arrange
+        final CompletableFuture<String> running = enrichmentExecutor.supplyAsync(this::slow, "fallback");
+
+        // Act
+        final CompletableFuture<String> rejected = enrichmentExecutor.supplyAsync(() -> "enriched", "rejected");
+
+        // Assert
+        assertTrue(rejected.isDone());
+        assertEquals("rejected", rejected.join());
+        assertEquals("fallback", running.join());
+    }
+
+    @Test
+    void testSupplyAsync_WithFailingSupplier_ShouldFallBack() {
+        // Act
+        final String result = enrichmentExecutor.<String>supplyAsync(() -> {
+            throw new IllegalStateException("upstream down");
+        }, "fallback").join();
+
+        // Assert
+        assertEquals("fallback", result);
+    }
+
+    private String slow() {
+        try {
+            release.await(10, TimeUnit.SECONDS);
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return "late";
+    }
+}
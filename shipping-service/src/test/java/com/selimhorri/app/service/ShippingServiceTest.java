@@ -2,10 +2,14 @@ package com.selimhorri.app.service;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -13,10 +17,19 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import com.selimhorri.app.config.executor.EnrichmentExecutor;
 import com.selimhorri.app.domain.OrderItem;
 import com.selimhorri.app.domain.id.OrderItemId;
+import com.selimhorri.app.dto.OrderDto;
 import com.selimhorri.app.dto.OrderItemDto;
 import com.selimhorri.app.helper.OrderItemMappingHelper;
 import com.selimhorri.app.repository.OrderItemRepository;
@@ -28,6 +41,12 @@ class ShippingServiceTest {
     @Mock
     private OrderItemRepository orderItemRepository;
 
+    @Mock
+    private RestTemplate restTemplate;
+
+    @Spy
+    private EnrichmentExecutor enrichmentExecutor = new EnrichmentExecutor(Runnable::run, Duration.ofSeconds(1));
+
     @InjectMocks
     private OrderItemServiceImpl orderItemService;
 
@@ -49,6 +68,7 @@ class ShippingServiceTest {
     }
 
     @Test
+    @SuppressWarnings("unchecked")
     void testFindAll_ShouldReturnAllShipments() {
         // Arrange
         OrderItem orderItem2 = OrderItem.builder()
@@ -58,6 +78,8 @@ class ShippingServiceTest {
                 .build();
 
         when(orderItemRepository.findAll()).thenReturn(Arrays.asList(testOrderItem, orderItem2));
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.POST), any(HttpEntity.class), any(ParameterizedTypeReference.class)))
+                .thenReturn(ResponseEntity.ok(Map.of()));
 
         // Act
         List<OrderItemDto> result = orderItemService.findAll();
@@ -66,6 +88,45 @@ class ShippingServiceTest {
         assertNotNull(result);
         assertEquals(2, result.size());
         verify(orderItemRepository, times(1)).findAll();
+        verify(restTemplate, times(2)).exchange(anyString(), eq(HttpMethod.POST), any(HttpEntity.class), any(ParameterizedTypeReference.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testFindAll_WhenProductLookupFails_ShouldReturnPartiallyEnrichedShipments() {
+        // Arrange
+        OrderDto orderDto = OrderDto.builder().orderId(1).orderDesc("enriched").build();
+
+        when(orderItemRepository.findAll()).thenReturn(List.of(testOrderItem));
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.POST), any(HttpEntity.class), any(ParameterizedTypeReference.class)))
+                .thenAnswer(invocation -> {
+                    if (invocation.getArgument(0, String.class).contains("product-service"))
+                        throw new ResourceAccessException("product-service unavailable");
+                    return ResponseEntity.ok(Map.of(1, orderDto));
+                });
+
+        // Act
+        List<OrderItemDto> result = orderItemService.findAll();
+
+        // Assert
+        assertEquals(1, result.size());
+        assertEquals("enriched", result.get(0).getOrderDto().getOrderDesc());
+        assertEquals(1, result.get(0).getProductDto().getProductId());
+        assertNull(result.get(0).getProductDto().getProductTitle());
+    }
+
+    @Test
+    void testFindAllByOrderId_ShouldNotCallRemoteServices() {
+        // Arrange
+        when(orderItemRepository.findAllByOrderIdOrderByProductId(1)).thenReturn(List.of(testOrderItem));
+
+        // Act
+        List<OrderItemDto> result = orderItemService.findAllByOrderId(1);
+
+        // Assert
+        assertEquals(1, result.size());
+        assertEquals(1, result.get(0).getProductDto().getProductId());
+        verifyNoInteractions(restTemplate);
     }
 
     @Test
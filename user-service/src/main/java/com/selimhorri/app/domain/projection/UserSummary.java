@@ -0,0 +1,12 @@
+package com.selimhorri.app.domain.projection;
+
+public interface UserSummary {
+	
+	Integer getUserId();
+	String getFirstName();
+	String getLastName();
+	String getImageUrl();
+	String getEmail();
+	String getPhone();
+	
+}
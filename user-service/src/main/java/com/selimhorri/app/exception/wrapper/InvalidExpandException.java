@@ -0,0 +1,35 @@
+package com.selimhorri.app.exception.wrapper;
+
+public class InvalidExpandException extends RuntimeException {
+	
+	private static final long serialVersionUID = 1L;
+	
+	public InvalidExpandException() {
+		super();
+	}
+	
+	public InvalidExpandException(String message, Throwable cause) {
+		super(message, cause);
+	}
+	
+	public InvalidExpandException(String message) {
+		super(message);
+	}
+	
+	public InvalidExpandException(Throwable cause) {
+		super(cause);
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,46 @@
+package com.selimhorri.app.helper;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface BatchQueryHelper {
+	
+	/**
+	 * Upper bound of ids bound into a single IN clause
+	 */
+	int CHUNK_SIZE = 1000;
+	
+	public static <T, ID> List<T> findAllByIdInChunks(final JpaRepository<T, ID> repository, final Collection<ID> ids) {
+		return findAllInChunks(ids, repository::findAllById);
+	}
+	
+	public static <T, ID> List<T> findAllInChunks(final Collection<ID> ids, final Function<List<ID>, ? extends Collection<T>> finder) {
+		final List<ID> distinctIds = ids.stream()
+				.filter(Objects::nonNull)
+				.distinct()
+				.collect(Collectors.toUnmodifiableList());
+		final List<T> entities = new ArrayList<>(distinctIds.size());
+		for (int from = 0; from < distinctIds.size(); from += CHUNK_SIZE)
+			entities.addAll(finder.apply(distinctIds
+					.subList(from, Math.min(from + CHUNK_SIZE, distinctIds.size()))));
+		return entities;
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
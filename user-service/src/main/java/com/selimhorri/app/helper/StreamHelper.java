@@ -0,0 +1,32 @@
+package com.selimhorri.app.helper;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+public interface StreamHelper {
+	
+	/**
+	 * Stateful filter letting only the first element of each key through, so rows can be de-duplicated 
+	 * on their primary key in the same pass that maps them, without hashing whole DTO graphs. 
+	 * Meant for sequential streams, as a fresh predicate per stream
+	 */
+	public static <T, K> Predicate<T> distinctBy(final Function<? super T, ? extends K> keyExtractor) {
+		final Set<K> seen = new HashSet<>();
+		return t -> seen.add(keyExtractor.apply(t));
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,33 @@
+package com.selimhorri.app.helper.mapper;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.factory.Mappers;
+
+import com.selimhorri.app.domain.Address;
+import com.selimhorri.app.dto.AddressDto;
+
+@Mapper(config = MappingConfig.class)
+public interface AddressMapper {
+	
+	AddressMapper INSTANCE = Mappers.getMapper(AddressMapper.class);
+	
+	@Mapping(target = "userDto", source = "user")
+	AddressDto map(final Address address);
+	
+	@Mapping(target = "user", source = "userDto")
+	Address map(final AddressDto addressDto);
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,33 @@
+package com.selimhorri.app.helper.mapper;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.factory.Mappers;
+
+import com.selimhorri.app.domain.Credential;
+import com.selimhorri.app.dto.CredentialDto;
+
+@Mapper(config = MappingConfig.class)
+public interface CredentialMapper {
+	
+	CredentialMapper INSTANCE = Mappers.getMapper(CredentialMapper.class);
+	
+	@Mapping(target = "userDto", source = "user")
+	CredentialDto map(final Credential credential);
+	
+	@Mapping(target = "user", source = "userDto")
+	Credential map(final CredentialDto credentialDto);
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
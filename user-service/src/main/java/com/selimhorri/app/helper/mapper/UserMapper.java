@@ -0,0 +1,73 @@
+package com.selimhorri.app.helper.mapper;
+
+import java.util.Collections;
+import java.util.Set;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.Named;
+import org.mapstruct.factory.Mappers;
+
+import com.selimhorri.app.domain.Address;
+import com.selimhorri.app.domain.Credential;
+import com.selimhorri.app.domain.User;
+import com.selimhorri.app.domain.projection.UserSummary;
+import com.selimhorri.app.dto.AddressDto;
+import com.selimhorri.app.dto.CredentialDto;
+import com.selimhorri.app.dto.UserDto;
+
+/**
+ * Addresses are copied without their user and the credential without its user and tokens; 
+ * a user without addresses shares the immutable empty set instead of allocating one
+ */
+@Mapper(config = MappingConfig.class)
+public interface UserMapper {
+	
+	UserMapper INSTANCE = Mappers.getMapper(UserMapper.class);
+	
+	@Mapping(target = "addressDtos", source = "addresses", qualifiedByName = "addressDtos")
+	@Mapping(target = "credentialDto", source = "credential")
+	UserDto map(final User user);
+	
+	@Mapping(target = "addresses", source = "addressDtos", qualifiedByName = "addresses")
+	@Mapping(target = "credential", source = "credentialDto")
+	User map(final UserDto userDto);
+	
+	UserDto map(final UserSummary userSummary);
+	
+	@Named("userWithoutAssociations")
+	@Mapping(target = "addressDtos", ignore = true)
+	@Mapping(target = "credentialDto", ignore = true)
+	UserDto mapWithoutAssociations(final User user);
+	
+	@Named("credentialWithoutPassword")
+	@Mapping(target = "password", ignore = true)
+	CredentialDto mapWithoutPassword(final Credential credential);
+	
+	@Named("addressDtos")
+	default Set<AddressDto> mapAddresses(final Set<Address> addresses) {
+		return (addresses == null || addresses.isEmpty()) ? Collections.emptySet() : this.mapAllAddresses(addresses);
+	}
+	
+	@Named("addresses")
+	default Set<Address> mapAddressDtos(final Set<AddressDto> addressDtos) {
+		return (addressDtos == null || addressDtos.isEmpty()) ? Collections.emptySet() : this.mapAllAddressDtos(addressDtos);
+	}
+	
+	Set<AddressDto> mapAllAddresses(final Set<Address> addresses);
+	
+	Set<Address> mapAllAddressDtos(final Set<AddressDto> addressDtos);
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,33 @@
+package com.selimhorri.app.helper.mapper;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.factory.Mappers;
+
+import com.selimhorri.app.domain.VerificationToken;
+import com.selimhorri.app.dto.VerificationTokenDto;
+
+@Mapper(config = MappingConfig.class)
+public interface VerificationTokenMapper {
+	
+	VerificationTokenMapper INSTANCE = Mappers.getMapper(VerificationTokenMapper.class);
+	
+	@Mapping(target = "credentialDto", source = "credential")
+	VerificationTokenDto map(final VerificationToken verificationToken);
+	
+	@Mapping(target = "credential", source = "credentialDto")
+	VerificationToken map(final VerificationTokenDto verificationTokenDto);
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
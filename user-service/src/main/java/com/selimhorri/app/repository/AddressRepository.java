@@ -1,11 +1,15 @@
 package com.selimhorri.app.repository;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import com.selimhorri.app.domain.Address;
 
 public interface AddressRepository extends JpaRepository<Address, Integer> {
 	
+	Slice<Address> findAllBy(final Pageable pageable);
+	Slice<Address> findByAddressIdGreaterThan(final Integer addressId, final Pageable pageable);
 	
 	
 }
@@ -2,12 +2,16 @@ package com.selimhorri.app.repository;
 
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import com.selimhorri.app.domain.Credential;
 
 public interface CredentialRepository extends JpaRepository<Credential, Integer> {
 	
+	Slice<Credential> findAllBy(final Pageable pageable);
+	Slice<Credential> findByCredentialIdGreaterThan(final Integer credentialId, final Pageable pageable);
 	Optional<Credential> findByUsername(final String username);
 	
 }
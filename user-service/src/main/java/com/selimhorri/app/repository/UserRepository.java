@@ -1,13 +1,34 @@
 package com.selimhorri.app.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import com.selimhorri.app.domain.User;
+import com.selimhorri.app.domain.projection.UserSummary;
 
 public interface UserRepository extends JpaRepository<User, Integer> {
 	
+	Slice<User> findAllBy(final Pageable pageable);
+	Slice<User> findByUserIdGreaterThan(final Integer userId, final Pageable pageable);
 	Optional<User> findByCredentialUsername(final String username);
 	
+	List<UserSummary> findAllProjectedBy(final Sort sort);
+	Slice<UserSummary> findAllProjectedBy(final Pageable pageable);
+	Slice<UserSummary> findProjectedByUserIdGreaterThan(final Integer userId, final Pageable pageable);
+	List<UserSummary> findProjectedByUserIdIn(final Collection<Integer> userIds);
+	
+	/**
+	 * Both associations in one round trip; credential is the inverse side of a one-to-one, 
+	 * which Hibernate would otherwise load with one extra select per user
+	 */
+	@EntityGraph(attributePaths = {"addresses", "credential"})
+	List<User> findAllByUserIdIn(final Collection<Integer> userIds);
+	
 }
@@ -1,11 +1,15 @@
 package com.selimhorri.app.repository;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import com.selimhorri.app.domain.VerificationToken;
 
 public interface VerificationTokenRepository extends JpaRepository<VerificationToken, Integer> {
 	
+	Slice<VerificationToken> findAllBy(final Pageable pageable);
+	Slice<VerificationToken> findByVerificationTokenIdGreaterThan(final Integer verificationTokenId, final Pageable pageable);
 	
 	
 }
@@ -1,5 +1,8 @@
 package com.selimhorri.app.resource;
 
+import java.util.Map;
+import java.util.Set;
+
 import javax.validation.Valid;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
@@ -12,6 +15,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.selimhorri.app.dto.AddressDto;
@@ -30,9 +34,14 @@ public class AddressResource {
 	private final AddressService addressService;
 	
 	@GetMapping
-	public ResponseEntity<DtoCollectionResponse<AddressDto>> findAll() {
+	public ResponseEntity<DtoCollectionResponse<AddressDto>> findAll(
+			@RequestParam(name = "page", required = false) final Integer page, 
+			@RequestParam(name = "size", required = false) final Integer size, 
+			@RequestParam(name = "cursor", required = false) final String cursor) {
 		log.info("*** AddressDto List, controller; fetch all addresss *");
-		return ResponseEntity.ok(new DtoCollectionResponse<>(this.addressService.findAll()));
+		if (page == null && size == null && cursor == null)
+			return ResponseEntity.ok(new DtoCollectionResponse<>(this.addressService.findAll()));
+		return ResponseEntity.ok(this.addressService.findAll(page, size, cursor));
 	}
 	
 	@GetMapping("/{addressId}")
@@ -80,6 +89,15 @@ public class AddressResource {
 		return ResponseEntity.ok(true);
 	}
 	
+	@PostMapping("/batch")
+	public ResponseEntity<Map<Integer, AddressDto>> findAllByIds(
+			@RequestBody 
+			@NotNull(message = "Input must not NULL") 
+			@Valid final Set<Integer> addressIds) {
+		log.info("*** AddressDto Map, resource; fetch addresses by ids *");
+		return ResponseEntity.ok(this.addressService.findAllByIds(addressIds));
+	}
+	
 	
 	
 }
@@ -1,5 +1,8 @@
 package com.selimhorri.app.resource;
 
+import java.util.Map;
+import java.util.Set;
+
 import javax.validation.Valid;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
@@ -12,6 +15,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.selimhorri.app.dto.CredentialDto;
@@ -30,9 +34,14 @@ public class CredentialResource {
 	private final CredentialService credentialService;
 	
 	@GetMapping
-	public ResponseEntity<DtoCollectionResponse<CredentialDto>> findAll() {
+	public ResponseEntity<DtoCollectionResponse<CredentialDto>> findAll(
+			@RequestParam(name = "page", required = false) final Integer page, 
+			@RequestParam(name = "size", required = false) final Integer size, 
+			@RequestParam(name = "cursor", required = false) final String cursor) {
 		log.info("*** CredentialDto List, controller; fetch all credentials *");
-		return ResponseEntity.ok(new DtoCollectionResponse<>(this.credentialService.findAll()));
+		if (page == null && size == null && cursor == null)
+			return ResponseEntity.ok(new DtoCollectionResponse<>(this.credentialService.findAll()));
+		return ResponseEntity.ok(this.credentialService.findAll(page, size, cursor));
 	}
 	
 	@GetMapping("/{credentialId}")
@@ -92,6 +101,15 @@ public class CredentialResource {
 		return ResponseEntity.ok(this.credentialService.findByUsername(username));
 	}
 	
+	@PostMapping("/batch")
+	public ResponseEntity<Map<Integer, CredentialDto>> findAllByIds(
+			@RequestBody 
+			@NotNull(message = "Input must not NULL") 
+			@Valid final Set<Integer> credentialIds) {
+		log.info("*** CredentialDto Map, resource; fetch credentials by ids *");
+		return ResponseEntity.ok(this.credentialService.findAllByIds(credentialIds));
+	}
+	
 	
 	
 }
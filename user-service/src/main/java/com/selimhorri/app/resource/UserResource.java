@@ -1,5 +1,8 @@
 package com.selimhorri.app.resource;
 
+import java.util.Map;
+import java.util.Set;
+
 import javax.validation.Valid;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
@@ -13,6 +16,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.selimhorri.app.dto.UserDto;
@@ -31,9 +35,15 @@ public class UserResource {
 	private final UserService userService;
 	
 	@GetMapping
-	public ResponseEntity<DtoCollectionResponse<UserDto>> findAll() {
+	public ResponseEntity<DtoCollectionResponse<UserDto>> findAll(
+			@RequestParam(name = "page", required = false) final Integer page, 
+			@RequestParam(name = "size", required = false) final Integer size, 
+			@RequestParam(name = "cursor", required = false) final String cursor, 
+			@RequestParam(name = "expand", required = false) final Set<String> expand) {
 		log.info("*** UserDto List, controller; fetch all users *");
-		return ResponseEntity.ok(new DtoCollectionResponse<>(this.userService.findAll()));
+		if (page == null && size == null && cursor == null)
+			return ResponseEntity.ok(new DtoCollectionResponse<>(this.userService.findAll(expand)));
+		return ResponseEntity.ok(this.userService.findAll(page, size, cursor, expand));
 	}
 	
 	@GetMapping("/{userId}")
@@ -92,6 +102,15 @@ public class UserResource {
 		return ResponseEntity.ok(this.userService.findByUsername(username));
 	}
 	
+	@PostMapping("/batch")
+	public ResponseEntity<Map<Integer, UserDto>> findAllByIds(
+			@RequestBody 
+			@NotNull(message = "Input must not NULL") 
+			@Valid final Set<Integer> userIds) {
+		log.info("*** UserDto Map, resource; fetch users by ids *");
+		return ResponseEntity.ok(this.userService.findAllByIds(userIds));
+	}
+	
 	
 	
 }
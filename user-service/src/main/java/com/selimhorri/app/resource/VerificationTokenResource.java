@@ -1,5 +1,8 @@
 package com.selimhorri.app.resource;
 
+import java.util.Map;
+import java.util.Set;
+
 import javax.validation.Valid;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
@@ -12,6 +15,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.selimhorri.app.dto.VerificationTokenDto;
@@ -30,9 +34,14 @@ public class VerificationTokenResource {
 	private final VerificationTokenService verificationTokenService;
 	
 	@GetMapping
-	public ResponseEntity<DtoCollectionResponse<VerificationTokenDto>> findAll() {
+	public ResponseEntity<DtoCollectionResponse<VerificationTokenDto>> findAll(
+			@RequestParam(name = "page", required = false) final Integer page, 
+			@RequestParam(name = "size", required = false) final Integer size, 
+			@RequestParam(name = "cursor", required = false) final String cursor) {
 		log.info("*** VerificationTokenDto List, controller; fetch all verificationTokens *");
-		return ResponseEntity.ok(new DtoCollectionResponse<>(this.verificationTokenService.findAll()));
+		if (page == null && size == null && cursor == null)
+			return ResponseEntity.ok(new DtoCollectionResponse<>(this.verificationTokenService.findAll()));
+		return ResponseEntity.ok(this.verificationTokenService.findAll(page, size, cursor));
 	}
 	
 	@GetMapping("/{verificationTokenId}")
@@ -82,6 +91,15 @@ public class VerificationTokenResource {
 		return ResponseEntity.ok(true);
 	}
 	
+	@PostMapping("/batch")
+	public ResponseEntity<Map<Integer, VerificationTokenDto>> findAllByIds(
+			@RequestBody 
+			@NotNull(message = "Input must not NULL") 
+			@Valid final Set<Integer> verificationTokenIds) {
+		log.info("*** VerificationTokenDto Map, resource; fetch verificationTokens by ids *");
+		return ResponseEntity.ok(this.verificationTokenService.findAllByIds(verificationTokenIds));
+	}
+	
 	
 	
 }
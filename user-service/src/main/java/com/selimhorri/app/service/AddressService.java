@@ -1,16 +1,21 @@
 package com.selimhorri.app.service;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import com.selimhorri.app.dto.AddressDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 
 public interface AddressService {
 	
 	List<AddressDto> findAll();
+	DtoCollectionResponse<AddressDto> findAll(final Integer page, final Integer size, final String cursor);
 	AddressDto findById(final Integer addressId);
 	AddressDto save(final AddressDto addressDto);
 	AddressDto update(final AddressDto addressDto);
 	AddressDto update(final Integer addressId, final AddressDto addressDto);
 	void deleteById(final Integer addressId);
+	Map<Integer, AddressDto> findAllByIds(final Set<Integer> addressIds);
 	
 }
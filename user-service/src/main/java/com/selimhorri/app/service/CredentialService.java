@@ -1,18 +1,23 @@
 package com.selimhorri.app.service;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import com.selimhorri.app.dto.CredentialDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 
 public interface CredentialService {
 	
 	List<CredentialDto> findAll();
+	DtoCollectionResponse<CredentialDto> findAll(final Integer page, final Integer size, final String cursor);
 	CredentialDto findById(final Integer credentialId);
 	CredentialDto save(final CredentialDto credentialDto);
 	CredentialDto update(final CredentialDto credentialDto);
 	CredentialDto update(final Integer credentialId, final CredentialDto credentialDto);
 	void deleteById(final Integer credentialId);
 	CredentialDto findByUsername(final String username);
+	Map<Integer, CredentialDto> findAllByIds(final Set<Integer> credentialIds);
 	
 }
 
@@ -1,18 +1,23 @@
 package com.selimhorri.app.service;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import com.selimhorri.app.dto.UserDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 
 public interface UserService {
 	
-	List<UserDto> findAll();
+	List<UserDto> findAll(final Set<String> expand);
+	DtoCollectionResponse<UserDto> findAll(final Integer page, final Integer size, final String cursor, final Set<String> expand);
 	UserDto findById(final Integer userId);
 	UserDto save(final UserDto userDto);
 	UserDto update(final UserDto userDto);
 	UserDto update(final Integer userId, final UserDto userDto);
 	void deleteById(final Integer userId);
 	UserDto findByUsername(final String username);
+	Map<Integer, UserDto> findAllByIds(final Set<Integer> userIds);
 	
 }
 
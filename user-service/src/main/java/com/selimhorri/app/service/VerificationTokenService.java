@@ -1,17 +1,22 @@
 package com.selimhorri.app.service;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import com.selimhorri.app.dto.VerificationTokenDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 
 public interface VerificationTokenService {
 	
 	List<VerificationTokenDto> findAll();
+	DtoCollectionResponse<VerificationTokenDto> findAll(final Integer page, final Integer size, final String cursor);
 	VerificationTokenDto findById(final Integer verificationTokenId);
 	VerificationTokenDto save(final VerificationTokenDto verificationTokenDto);
 	VerificationTokenDto update(final VerificationTokenDto verificationTokenDto);
 	VerificationTokenDto update(final Integer verificationTokenId, final VerificationTokenDto verificationTokenDto);
 	void deleteById(final Integer verificationTokenId);
+	Map<Integer, VerificationTokenDto> findAllByIds(final Set<Integer> verificationTokenIds);
 	
 }
 
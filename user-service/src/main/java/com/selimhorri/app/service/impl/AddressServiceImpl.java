@@ -1,15 +1,25 @@
 package com.selimhorri.app.service.impl;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import javax.transaction.Transactional;
 
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
+import com.selimhorri.app.domain.Address;
 import com.selimhorri.app.dto.AddressDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 import com.selimhorri.app.exception.wrapper.AddressNotFoundException;
 import com.selimhorri.app.helper.AddressMappingHelper;
+import com.selimhorri.app.helper.BatchQueryHelper;
+import com.selimhorri.app.helper.PageHelper;
+import com.selimhorri.app.helper.StreamHelper;
 import com.selimhorri.app.repository.AddressRepository;
 import com.selimhorri.app.service.AddressService;
 
@@ -29,11 +39,24 @@ public class AddressServiceImpl implements AddressService {
 		log.info("*** AddressDto List, service; fetch all addresss *");
 		return this.addressRepository.findAll()
 				.stream()
+					.filter(StreamHelper.distinctBy(Address::getAddressId))
 					.map(AddressMappingHelper::map)
-					.distinct()
 					.collect(Collectors.toUnmodifiableList());
 	}
 	
+	@Override
+	public DtoCollectionResponse<AddressDto> findAll(final Integer page, final Integer size, final String cursor) {
+		log.info("*** AddressDto Page, service; fetch addresses page *");
+		final Slice<Address> addresss = (cursor == null) 
+				? this.addressRepository.findAllBy(PageHelper.pageable(page, size, Sort.by("addressId"))) 
+				: this.addressRepository.findByAddressIdGreaterThan(PageHelper
+						.decodeCursor(cursor, keys -> Integer.parseInt(keys[0])), PageHelper.pageable(0, size, Sort.by("addressId")));
+		return PageHelper.collectionResponse(addresss, addresss.stream()
+					.map(AddressMappingHelper::map)
+					.collect(Collectors.toUnmodifiableList()), 
+				cursor != null, d -> PageHelper.encodeCursor(d.getAddressId()));
+	}
+	
 	@Override
 	public AddressDto findById(final Integer addressId) {
 		log.info("*** AddressDto, service; fetch address by id *");
@@ -67,6 +90,15 @@ public class AddressServiceImpl implements AddressService {
 		this.addressRepository.deleteById(addressId);
 	}
 	
+	@Override
+	public Map<Integer, AddressDto> findAllByIds(final Set<Integer> addressIds) {
+		log.info("*** AddressDto Map, service; fetch addresses by ids *");
+		return BatchQueryHelper.findAllByIdInChunks(this.addressRepository, addressIds)
+				.stream()
+					.map(AddressMappingHelper::map)
+					.collect(Collectors.toUnmodifiableMap(AddressDto::getAddressId, Function.identity()));
+	}
+	
 	
 	
 }
@@ -1,16 +1,26 @@
 package com.selimhorri.app.service.impl;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import javax.transaction.Transactional;
 
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
+import com.selimhorri.app.domain.Credential;
 import com.selimhorri.app.dto.CredentialDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 import com.selimhorri.app.exception.wrapper.CredentialNotFoundException;
 import com.selimhorri.app.exception.wrapper.UserObjectNotFoundException;
+import com.selimhorri.app.helper.BatchQueryHelper;
 import com.selimhorri.app.helper.CredentialMappingHelper;
+import com.selimhorri.app.helper.PageHelper;
+import com.selimhorri.app.helper.StreamHelper;
 import com.selimhorri.app.repository.CredentialRepository;
 import com.selimhorri.app.service.CredentialService;
 
@@ -30,11 +40,24 @@ public class CredentialServiceImpl implements CredentialService {
 		log.info("*** CredentialDto List, service; fetch all credentials *");
 		return this.credentialRepository.findAll()
 				.stream()
+					.filter(StreamHelper.distinctBy(Credential::getCredentialId))
 					.map(CredentialMappingHelper::map)
-					.distinct()
 					.collect(Collectors.toUnmodifiableList());
 	}
 	
+	@Override
+	public DtoCollectionResponse<CredentialDto> findAll(final Integer page, final Integer size, final String cursor) {
+		log.info("*** CredentialDto Page, service; fetch credentials page *");
+		final Slice<Credential> credentials = (cursor == null) 
+				? this.credentialRepository.findAllBy(PageHelper.pageable(page, size, Sort.by("credentialId"))) 
+				: this.credentialRepository.findByCredentialIdGreaterThan(PageHelper
+						.decodeCursor(cursor, keys -> Integer.parseInt(keys[0])), PageHelper.pageable(0, size, Sort.by("credentialId")));
+		return PageHelper.collectionResponse(credentials, credentials.stream()
+					.map(CredentialMappingHelper::map)
+					.collect(Collectors.toUnmodifiableList()), 
+				cursor != null, d -> PageHelper.encodeCursor(d.getCredentialId()));
+	}
+	
 	@Override
 	public CredentialDto findById(final Integer credentialId) {
 		log.info("*** CredentialDto, service; fetch credential by ids *");
@@ -74,6 +97,15 @@ public class CredentialServiceImpl implements CredentialService {
 				.orElseThrow(() -> new UserObjectNotFoundException(String.format("#### Credential with username: %s not found! ####", username))));
 	}
 	
+	@Override
+	public Map<Integer, CredentialDto> findAllByIds(final Set<Integer> credentialIds) {
+		log.info("*** CredentialDto Map, service; fetch credentials by ids *");
+		return BatchQueryHelper.findAllByIdInChunks(this.credentialRepository, credentialIds)
+				.stream()
+					.map(CredentialMappingHelper::map)
+					.collect(Collectors.toUnmodifiableMap(CredentialDto::getCredentialId, Function.identity()));
+	}
+	
 	
 	
 }
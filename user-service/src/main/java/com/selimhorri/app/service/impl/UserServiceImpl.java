@@ -1,14 +1,26 @@
 package com.selimhorri.app.service.impl;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import javax.transaction.Transactional;
 
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
+import com.selimhorri.app.domain.User;
+import com.selimhorri.app.domain.projection.UserSummary;
 import com.selimhorri.app.dto.UserDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
+import com.selimhorri.app.exception.wrapper.InvalidExpandException;
 import com.selimhorri.app.exception.wrapper.UserObjectNotFoundException;
+import com.selimhorri.app.helper.BatchQueryHelper;
+import com.selimhorri.app.helper.PageHelper;
 import com.selimhorri.app.helper.UserMappingHelper;
 import com.selimhorri.app.repository.UserRepository;
 import com.selimhorri.app.service.UserService;
@@ -25,13 +37,20 @@ public class UserServiceImpl implements UserService {
 	private final UserRepository userRepository;
 	
 	@Override
-	public List<UserDto> findAll() {
+	public List<UserDto> findAll(final Set<String> expand) {
 		log.info("*** UserDto List, service; fetch all users *");
-		return this.userRepository.findAll()
-				.stream()
-					.map(UserMappingHelper::map)
-					.distinct()
-					.collect(Collectors.toUnmodifiableList());
+		return this.expand(this.userRepository.findAllProjectedBy(Sort.by("userId")), expand);
+	}
+	
+	@Override
+	public DtoCollectionResponse<UserDto> findAll(final Integer page, final Integer size, final String cursor, final Set<String> expand) {
+		log.info("*** UserDto Page, service; fetch users page *");
+		final Slice<UserSummary> users = (cursor == null) 
+				? this.userRepository.findAllProjectedBy(PageHelper.pageable(page, size, Sort.by("userId"))) 
+				: this.userRepository.findProjectedByUserIdGreaterThan(PageHelper
+						.decodeCursor(cursor, keys -> Integer.parseInt(keys[0])), PageHelper.pageable(0, size, Sort.by("userId")));
+		return PageHelper.collectionResponse(users, this.expand(users.getContent(), expand), 
+				cursor != null, d -> PageHelper.encodeCursor(d.getUserId()));
 	}
 	
 	@Override
@@ -74,6 +93,45 @@ public class UserServiceImpl implements UserService {
 				.orElseThrow(() -> new UserObjectNotFoundException(String.format("User with username: %s not found", username))));
 	}
 	
+	@Override
+	public Map<Integer, UserDto> findAllByIds(final Set<Integer> userIds) {
+		log.info("*** UserDto Map, service; fetch users by ids *");
+		return BatchQueryHelper.findAllInChunks(userIds, this.userRepository::findProjectedByUserIdIn)
+				.stream()
+					.map(UserMappingHelper::map)
+					.collect(Collectors.toUnmodifiableMap(UserDto::getUserId, Function.identity()));
+	}
+	
+	/**
+	 * Summaries come from the projection query; when associations are asked for, 
+	 * the users of the page are loaded with them in one more query, whatever the page size
+	 */
+	private List<UserDto> expand(final List<UserSummary> users, final Set<String> expand) {
+		if (expand == null || expand.isEmpty())
+			return users.stream()
+					.map(UserMappingHelper::map)
+					.collect(Collectors.toUnmodifiableList());
+		expand.stream()
+				.filter(e -> !UserMappingHelper.EXPANDS.contains(e))
+				.findFirst()
+				.ifPresent(e -> {
+					throw new InvalidExpandException(String.format("Unknown expand: %s, expected any of %s", e, UserMappingHelper.EXPANDS));
+				});
+		if (users.isEmpty())
+			return List.of();
+		final Map<Integer, User> expanded = BatchQueryHelper.findAllInChunks(users.stream()
+					.map(UserSummary::getUserId)
+					.collect(Collectors.toUnmodifiableList()), this.userRepository::findAllByUserIdIn)
+				.stream()
+					.collect(Collectors.toMap(User::getUserId, Function.identity(), (a, b) -> a));
+		return users.stream()
+				.map(UserSummary::getUserId)
+				.map(expanded::get)
+				.filter(Objects::nonNull)
+				.map(user -> UserMappingHelper.map(user, expand))
+				.collect(Collectors.toUnmodifiableList());
+	}
+	
 	
 	
 }
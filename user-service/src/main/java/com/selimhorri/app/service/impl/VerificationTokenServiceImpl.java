@@ -1,14 +1,24 @@
 package com.selimhorri.app.service.impl;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import javax.transaction.Transactional;
 
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
+import com.selimhorri.app.domain.VerificationToken;
 import com.selimhorri.app.dto.VerificationTokenDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 import com.selimhorri.app.exception.wrapper.VerificationTokenNotFoundException;
+import com.selimhorri.app.helper.BatchQueryHelper;
+import com.selimhorri.app.helper.PageHelper;
+import com.selimhorri.app.helper.StreamHelper;
 import com.selimhorri.app.helper.VerificationTokenMappingHelper;
 import com.selimhorri.app.repository.VerificationTokenRepository;
 import com.selimhorri.app.service.VerificationTokenService;
@@ -29,11 +39,24 @@ public class VerificationTokenServiceImpl implements VerificationTokenService {
 		log.info("*** VerificationTokenDto List, service; fetch all verificationTokens *");
 		return this.verificationTokenRepository.findAll()
 				.stream()
+					.filter(StreamHelper.distinctBy(VerificationToken::getVerificationTokenId))
 					.map(VerificationTokenMappingHelper::map)
-					.distinct()
 					.collect(Collectors.toUnmodifiableList());
 	}
 	
+	@Override
+	public DtoCollectionResponse<VerificationTokenDto> findAll(final Integer page, final Integer size, final String cursor) {
+		log.info("*** VerificationTokenDto Page, service; fetch verificationTokens page *");
+		final Slice<VerificationToken> verificationTokens = (cursor == null) 
+				? this.verificationTokenRepository.findAllBy(PageHelper.pageable(page, size, Sort.by("verificationTokenId"))) 
+				: this.verificationTokenRepository.findByVerificationTokenIdGreaterThan(PageHelper
+						.decodeCursor(cursor, keys -> Integer.parseInt(keys[0])), PageHelper.pageable(0, size, Sort.by("verificationTokenId")));
+		return PageHelper.collectionResponse(verificationTokens, verificationTokens.stream()
+					.map(VerificationTokenMappingHelper::map)
+					.collect(Collectors.toUnmodifiableList()), 
+				cursor != null, d -> PageHelper.encodeCursor(d.getVerificationTokenId()));
+	}
+	
 	@Override
 	public VerificationTokenDto findById(final Integer verificationTokenId) {
 		log.info("*** VerificationTokenDto, service; fetch verificationToken by ids *");
@@ -70,6 +93,15 @@ public class VerificationTokenServiceImpl implements VerificationTokenService {
 		this.verificationTokenRepository.deleteById(verificationTokenId);
 	}
 	
+	@Override
+	public Map<Integer, VerificationTokenDto> findAllByIds(final Set<Integer> verificationTokenIds) {
+		log.info("*** VerificationTokenDto Map, service; fetch verificationTokens by ids *");
+		return BatchQueryHelper.findAllByIdInChunks(this.verificationTokenRepository, verificationTokenIds)
+				.stream()
+					.map(VerificationTokenMappingHelper::map)
+					.collect(Collectors.toUnmodifiableMap(VerificationTokenDto::getVerificationTokenId, Function.identity()));
+	}
+	
 	
 	
 }
@@ -5,21 +5,33 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 
+import com.selimhorri.app.domain.Address;
+import com.selimhorri.app.domain.Credential;
 import com.selimhorri.app.domain.User;
+import com.selimhorri.app.domain.projection.UserSummary;
 import com.selimhorri.app.dto.UserDto;
+import com.selimhorri.app.helper.BatchQueryHelper;
 import com.selimhorri.app.helper.UserMappingHelper;
 import com.selimhorri.app.repository.UserRepository;
 import com.selimhorri.app.service.impl.UserServiceImpl;
+import com.selimhorri.app.exception.wrapper.InvalidExpandException;
 import com.selimhorri.app.exception.wrapper.UserObjectNotFoundException;
 
 @ExtendWith(MockitoExtension.class)
@@ -53,15 +65,77 @@ class UserServiceTest {
         user2.setUserId(2);
         user2.setFirstName("Jane");
         user2.setLastName("Smith");
-        when(userRepository.findAll()).thenReturn(Arrays.asList(testUser, user2));
+        when(userRepository.findAllProjectedBy(any(Sort.class))).thenReturn(Arrays.asList(summary(testUser), summary(user2)));
 
         // Act
-        List<UserDto> result = userService.findAll();
+        List<UserDto> result = userService.findAll(null);
 
         // Assert
         assertNotNull(result);
         assertEquals(2, result.size());
-        verify(userRepository, times(1)).findAll();
+        assertNull(result.get(0).getCredentialDto());
+        verify(userRepository, times(1)).findAllProjectedBy(any(Sort.class));
+        verify(userRepository, never()).findAllByUserIdIn(any());
+    }
+
+    @Test
+    void testFindAll_WithExpand_ShouldLoadAssociationsInOneQueryWithoutPassword() {
+        // Arrange
+        testUser.setAddresses(Set.of(Address.builder().addressId(7).city("Cali").build()));
+        testUser.setCredential(Credential.builder().credentialId(3).username("john").password("$2a$hash").build());
+        when(userRepository.findAllProjectedBy(any(Sort.class))).thenReturn(List.of(summary(testUser)));
+        when(userRepository.findAllByUserIdIn(List.of(1))).thenReturn(List.of(testUser, testUser));
+
+        // Act
+        List<UserDto> result = userService.findAll(Set.of(UserMappingHelper.EXPAND_ADDRESSES, UserMappingHelper.EXPAND_CREDENTIAL));
+
+        // Assert
+        assertEquals(1, result.size());
+        assertEquals(1, result.get(0).getAddressDtos().size());
+        assertEquals("john", result.get(0).getCredentialDto().getUsername());
+        assertNull(result.get(0).getCredentialDto().getPassword());
+        verify(userRepository, times(1)).findAllByUserIdIn(List.of(1));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testFindAll_WithExpandOverChunkSize_ShouldBoundEachInList() {
+        // Arrange
+        final List<UserSummary> summaries = IntStream.rangeClosed(1, BatchQueryHelper.CHUNK_SIZE + 1)
+                .mapToObj(id -> {
+                    final User user = new User();
+                    user.setUserId(id);
+                    return summary(user);
+                })
+                .collect(Collectors.toList());
+        when(userRepository.findAllProjectedBy(any(Sort.class))).thenReturn(summaries);
+        when(userRepository.findAllByUserIdIn(any())).thenAnswer(invocation -> ((Collection<Integer>) invocation.getArgument(0))
+                .stream()
+                .map(id -> {
+                    final User user = new User();
+                    user.setUserId(id);
+                    return user;
+                })
+                .collect(Collectors.toList()));
+
+        // Act
+        List<UserDto> result = userService.findAll(Set.of(UserMappingHelper.EXPAND_ADDRESSES));
+
+        // Assert
+        assertEquals(BatchQueryHelper.CHUNK_SIZE + 1, result.size());
+        final ArgumentCaptor<Collection<Integer>> chunks = ArgumentCaptor.forClass(Collection.class);
+        verify(userRepository, times(2)).findAllByUserIdIn(chunks.capture());
+        assertEquals(List.of(BatchQueryHelper.CHUNK_SIZE, 1), chunks.getAllValues().stream().map(Collection::size).collect(Collectors.toList()));
+    }
+
+    @Test
+    void testFindAll_WithUnknownExpand_ShouldThrow() {
+        // Arrange
+        when(userRepository.findAllProjectedBy(any(Sort.class))).thenReturn(List.of(summary(testUser)));
+
+        // Act & Assert
+        assertThrows(InvalidExpandException.class, () -> userService.findAll(Set.of("orders")));
+        verify(userRepository, never()).findAllByUserIdIn(any());
     }
 
     @Test
@@ -129,4 +203,8 @@ class UserServiceTest {
         assertNotNull(result);
         verify(userRepository, times(1)).save(any(User.class));
     }
+
+    private static UserSummary summary(final User user) {
+        return new SpelAwareProxyProjectionFactory().createProjection(UserSummary.class, user);
+    }
 }